@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * Implementation of {@link OutputStream} writing into a caller supplied
+ * {@link ByteBuffer}, used by {@link JsonWriterFactory#createWriter(ByteBuffer, UnaryOperator)}.
+ * The handler is invoked with the buffer when it is full, when the stream is
+ * flushed after bytes were written and when it is closed, and returns the
+ * buffer to continue writing into, which must have some space remaining.
+ */
+final class ByteBufferOutputStream extends OutputStream {
+
+    /** Handler draining the buffer. */
+    private final UnaryOperator<ByteBuffer> handler;
+
+    /** Buffer currently written into. */
+    private ByteBuffer buffer;
+
+    /** Whether bytes were written since the handler was last invoked. */
+    private boolean pending;
+
+    /** Whether this stream has been closed. */
+    private boolean closed;
+
+    /**
+     * Creates a new stream.
+     * @param buffer the buffer to write into
+     * @param handler the handler draining the buffer
+     */
+    ByteBufferOutputStream(ByteBuffer buffer, UnaryOperator<ByteBuffer> handler) {
+        this.buffer = Objects.requireNonNull(buffer, "buffer");
+        this.handler = Objects.requireNonNull(handler, "handler");
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        if (!buffer.hasRemaining()) {
+            drain();
+        }
+        buffer.put((byte) b);
+        pending = true;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        Objects.requireNonNull(b);
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        ensureOpen();
+        while (len > 0) {
+            if (!buffer.hasRemaining()) {
+                drain();
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.put(b, off, n);
+            off += n;
+            len -= n;
+            pending = true;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        if (pending) {
+            drain();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            handler.apply(buffer);
+        }
+    }
+
+    /**
+     * Passes the buffer to the handler and continues with the buffer it returns.
+     * @throws IOException if the handler returns {@code null} or a buffer
+     *         without space remaining
+     */
+    private void drain() throws IOException {
+        ByteBuffer next = handler.apply(buffer);
+        if (next == null) {
+            throw new IOException("The handler returned no buffer");
+        }
+        if (!next.hasRemaining()) {
+            throw new IOException("No space remaining in the buffer returned by the handler");
+        }
+        buffer = next;
+        pending = false;
+    }
+
+    /**
+     * Checks this stream is still open.
+     * @throws IOException if the stream is closed
+     */
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -39,7 +39,8 @@ import jakarta.json.stream.JsonParserFactory;
  *
  * <p>
  * The methods in this class locate a provider instance using the method
- * {@link JsonProvider#provider()}. This class uses the provider instance
+ * {@link JsonProvider#cachedProvider()}, so the provider look up is done
+ * only once per context class loader. This class uses the provider instance
  * to create JSON processing objects.
  *
  * <p>
@@ -71,7 +72,7 @@ public final class Json {
      * @return a JSON parser
      */
     public static JsonParser createParser(Reader reader) {
-        return JsonProvider.provider().createParser(reader);
+        return JsonProvider.cachedProvider().createParser(reader);
     }
 
     /**
@@ -85,7 +86,7 @@ public final class Json {
      * @return a JSON parser
      */
     public static JsonParser createParser(InputStream in) {
-        return JsonProvider.provider().createParser(in);
+        return JsonProvider.cachedProvider().createParser(in);
     }
 
     /**
@@ -95,7 +96,7 @@ public final class Json {
      * @return a JSON generator
      */
     public static JsonGenerator createGenerator(Writer writer) {
-        return JsonProvider.provider().createGenerator(writer);
+        return JsonProvider.cachedProvider().createGenerator(writer);
     }
 
     /**
@@ -105,7 +106,7 @@ public final class Json {
      * @return a JSON generator
      */
     public static JsonGenerator createGenerator(OutputStream out) {
-        return JsonProvider.provider().createGenerator(out);
+        return JsonProvider.cachedProvider().createGenerator(out);
     }
 
     /**
@@ -129,7 +130,7 @@ public final class Json {
      * @return JSON parser factory
      */
     public static JsonParserFactory createParserFactory(Map<String, ?> config) {
-        return JsonProvider.provider().createParserFactory(config);
+        return JsonProvider.cachedProvider().createParserFactory(config);
     }
 
     /**
@@ -154,7 +155,7 @@ public final class Json {
      */
     public static JsonGeneratorFactory createGeneratorFactory(
             Map<String, ?> config) {
-        return JsonProvider.provider().createGeneratorFactory(config);
+        return JsonProvider.cachedProvider().createGeneratorFactory(config);
     }
 
     /**
@@ -166,7 +167,7 @@ public final class Json {
      * @return a JSON writer
      */
     public static JsonWriter createWriter(Writer writer) {
-        return JsonProvider.provider().createWriter(writer);
+        return JsonProvider.cachedProvider().createWriter(writer);
     }
 
     /**
@@ -179,7 +180,7 @@ public final class Json {
      * @return a JSON writer
      */
     public static JsonWriter createWriter(OutputStream out) {
-        return JsonProvider.provider().createWriter(out);
+        return JsonProvider.cachedProvider().createWriter(out);
     }
 
     /**
@@ -189,7 +190,7 @@ public final class Json {
      * @return a JSON reader
      */
     public static JsonReader createReader(Reader reader) {
-        return JsonProvider.provider().createReader(reader);
+        return JsonProvider.cachedProvider().createReader(reader);
     }
 
     /**
@@ -201,7 +202,7 @@ public final class Json {
      * @return a JSON reader
      */
     public static JsonReader createReader(InputStream in) {
-        return JsonProvider.provider().createReader(in);
+        return JsonProvider.cachedProvider().createReader(in);
     }
 
     /**
@@ -215,7 +216,7 @@ public final class Json {
      * @return a JSON reader factory
      */
     public static JsonReaderFactory createReaderFactory(Map<String, ?> config) {
-        return JsonProvider.provider().createReaderFactory(config);
+        return JsonProvider.cachedProvider().createReaderFactory(config);
     }
 
     /**
@@ -229,7 +230,7 @@ public final class Json {
      * @return a JSON writer factory
      */
     public static JsonWriterFactory createWriterFactory(Map<String, ?> config) {
-        return JsonProvider.provider().createWriterFactory(config);
+        return JsonProvider.cachedProvider().createWriterFactory(config);
     }
 
     /**
@@ -238,7 +239,7 @@ public final class Json {
      * @return a JSON array builder
      */
     public static JsonArrayBuilder createArrayBuilder() {
-        return JsonProvider.provider().createArrayBuilder();
+        return JsonProvider.cachedProvider().createArrayBuilder();
     }
 
     /**
@@ -250,7 +251,7 @@ public final class Json {
      * @since 1.1
      */
     public static JsonArrayBuilder createArrayBuilder(JsonArray array) {
-        return JsonProvider.provider().createArrayBuilder(array);
+        return JsonProvider.cachedProvider().createArrayBuilder(array);
     }
 
     /**
@@ -266,7 +267,7 @@ public final class Json {
      * @since 1.1
      */
     public static JsonArrayBuilder createArrayBuilder(Collection<?> collection) {
-        return JsonProvider.provider().createArrayBuilder(collection);
+        return JsonProvider.cachedProvider().createArrayBuilder(collection);
     }
 
     /**
@@ -275,7 +276,7 @@ public final class Json {
      * @return a JSON object builder
      */
     public static JsonObjectBuilder createObjectBuilder() {
-        return JsonProvider.provider().createObjectBuilder();
+        return JsonProvider.cachedProvider().createObjectBuilder();
     }
 
     /**
@@ -287,7 +288,7 @@ public final class Json {
      * @since 1.1
      */
     public static JsonObjectBuilder createObjectBuilder(JsonObject object) {
-        return JsonProvider.provider().createObjectBuilder(object);
+        return JsonProvider.cachedProvider().createObjectBuilder(object);
     }
 
     /**
@@ -303,7 +304,7 @@ public final class Json {
      * @since 1.1
      */
     public static JsonObjectBuilder createObjectBuilder(Map<String, ?> map) {
-        return JsonProvider.provider().createObjectBuilder(map);
+        return JsonProvider.cachedProvider().createObjectBuilder(map);
     }
 
     /**
@@ -322,7 +323,25 @@ public final class Json {
      * @since 1.1
      */
     public static JsonPointer createPointer(String jsonPointer) {
-        return JsonProvider.provider().createPointer(jsonPointer);
+        return JsonProvider.cachedProvider().createPointer(jsonPointer);
+    }
+
+    /**
+     * Returns a compiled JSON Pointer (<a href="http://tools.ietf.org/html/rfc6901">RFC 6901</a>)
+     * for the given {@code jsonPointer} string. A compiled pointer decodes its
+     * reference tokens and array indexes once, and is cached, so that pointers
+     * used repeatedly, for example from a configuration, are only parsed once.
+     *
+     * @param jsonPointer the valid escaped JSON Pointer string
+     * @throws NullPointerException if {@code jsonPointer} is {@code null}
+     * @throws JsonException if {@code jsonPointer} is not a valid JSON Pointer
+     * @return a compiled JSON Pointer
+     *
+     * @see JsonProvider#compilePointer(String)
+     * @since 2.2
+     */
+    public static JsonPointer compilePointer(String jsonPointer) {
+        return JsonProvider.cachedProvider().compilePointer(jsonPointer);
     }
 
     /**
@@ -333,7 +352,7 @@ public final class Json {
      * @since 1.1
      */
     public static JsonPatchBuilder createPatchBuilder() {
-        return JsonProvider.provider().createPatchBuilder();
+        return JsonProvider.cachedProvider().createPatchBuilder();
     }
 
     /**
@@ -347,7 +366,7 @@ public final class Json {
      * @since 1.1
      */
     public static JsonPatchBuilder createPatchBuilder(JsonArray array) {
-        return JsonProvider.provider().createPatchBuilder(array);
+        return JsonProvider.cachedProvider().createPatchBuilder(array);
     }
 
     /**
@@ -360,7 +379,22 @@ public final class Json {
      * @since 1.1
      */
     public static JsonPatch createPatch(JsonArray array) {
-        return JsonProvider.provider().createPatch(array);
+        return JsonProvider.cachedProvider().createPatch(array);
+    }
+
+    /**
+     * Compiles a JSON Patch (<a href="http://tools.ietf.org/html/rfc6902">RFC 6902</a>)
+     * from the specified operations, to be applied to many targets.
+     *
+     * @param array patch operations
+     * @return a compiled JSON Patch
+     * @throws JsonException if an operation is not a valid JSON Patch operation
+     *
+     * @see JsonProvider#compilePatch(JsonArray)
+     * @since 2.2
+     */
+    public static JsonPatch compilePatch(JsonArray array) {
+        return JsonProvider.cachedProvider().compilePatch(array);
     }
 
     /**
@@ -375,7 +409,27 @@ public final class Json {
      * @since 1.1
      */
     public static JsonPatch createDiff(JsonStructure source, JsonStructure target) {
-        return JsonProvider.provider().createDiff(source, target);
+        return JsonProvider.cachedProvider().createDiff(source, target);
+    }
+
+    /**
+     * Generates a JSON Patch (<a href="http://tools.ietf.org/html/rfc6902">RFC 6902</a>)
+     * from the source and target {@code JsonStructure}, replacing the arrays
+     * which differ by more than {@code costLimit} inserted or removed elements
+     * as a whole.
+     *
+     * @param source the source
+     * @param target the target, must be the same type as the source
+     * @param costLimit the maximum number of elements inserted or removed
+     *        when comparing two arrays
+     * @return a JSON Patch which when applied to the source, yields the target
+     * @throws IllegalArgumentException if {@code costLimit} is negative
+     *
+     * @see JsonProvider#createDiff(JsonStructure, JsonStructure, int)
+     * @since 2.2
+     */
+    public static JsonPatch createDiff(JsonStructure source, JsonStructure target, int costLimit) {
+        return JsonProvider.cachedProvider().createDiff(source, target, costLimit);
     }
 
     /**
@@ -388,7 +442,7 @@ public final class Json {
      * @since 1.1
      */
     public static JsonMergePatch createMergePatch(JsonValue patch) {
-        return JsonProvider.provider().createMergePatch(patch);
+        return JsonProvider.cachedProvider().createMergePatch(patch);
     }
 
     /**
@@ -403,7 +457,7 @@ public final class Json {
      * @since 1.1
      */
     public static JsonMergePatch createMergeDiff(JsonValue source, JsonValue target) {
-        return JsonProvider.provider().createMergeDiff(source, target);
+        return JsonProvider.cachedProvider().createMergeDiff(source, target);
     }
 
     /**
@@ -419,7 +473,7 @@ public final class Json {
      */
     public static JsonBuilderFactory createBuilderFactory(
             Map<String, ?> config) {
-        return JsonProvider.provider().createBuilderFactory(config);
+        return JsonProvider.cachedProvider().createBuilderFactory(config);
     }
 
     /**
@@ -431,7 +485,7 @@ public final class Json {
      * @since 1.1
      */
     public static JsonString createValue(String value) {
-        return JsonProvider.provider().createValue(value);
+        return JsonProvider.cachedProvider().createValue(value);
     }
 
     /**
@@ -443,7 +497,7 @@ public final class Json {
      * @since 1.1
      */
     public static JsonNumber createValue(int value) {
-        return JsonProvider.provider().createValue(value);
+        return JsonProvider.cachedProvider().createValue(value);
     }
 
     /**
@@ -455,7 +509,7 @@ public final class Json {
      * @since 1.1
      */
     public static JsonNumber createValue(long value) {
-        return JsonProvider.provider().createValue(value);
+        return JsonProvider.cachedProvider().createValue(value);
     }
 
     /**
@@ -467,7 +521,7 @@ public final class Json {
      * @since 1.1
      */
     public static JsonNumber createValue(double value) {
-        return JsonProvider.provider().createValue(value);
+        return JsonProvider.cachedProvider().createValue(value);
     }
 
     /**
@@ -479,7 +533,7 @@ public final class Json {
      * @since 1.1
      */
     public static JsonNumber createValue(BigDecimal value) {
-        return JsonProvider.provider().createValue(value);
+        return JsonProvider.cachedProvider().createValue(value);
     }
 
     /**
@@ -491,7 +545,7 @@ public final class Json {
      * @since 1.1
      */
     public static JsonNumber createValue(BigInteger value) {
-        return JsonProvider.provider().createValue(value);
+        return JsonProvider.cachedProvider().createValue(value);
     }
 
     /**
@@ -529,6 +583,6 @@ public final class Json {
      * @since 2.1
      */
     public static JsonNumber createValue(Number value) {
-        return JsonProvider.provider().createValue(value);
+        return JsonProvider.cachedProvider().createValue(value);
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -180,6 +180,82 @@ public interface JsonArray extends JsonStructure, List<JsonValue> {
         return stream.map(func).collect(Collectors.toList());
     }
 
+    /**
+     * Returns the {@code int} values of the {@code JsonNumber} elements of this
+     * array, as given by {@link JsonNumber#intValue()}. As with that method, a
+     * value may lose magnitude and precision in the narrowing conversion from
+     * {@code BigDecimal}. The returned array is a copy: modifying it does not
+     * modify this {@code JsonArray}.
+     *
+     * <p>The default implementation calls {@link #getJsonNumber(int)} for each
+     * element. Implementations backing homogeneous numeric arrays with packed
+     * primitive storage, see {@link JsonConfig#PACKED_NUMBER_ARRAYS}, may copy
+     * the values directly.
+     *
+     * @return the {@code int} values of the elements of this array, in order
+     * @throws ClassCastException if an element of this array is not assignable
+     *     to {@code JsonNumber}
+     *
+     * @since 2.2
+     */
+    default int[] toIntArray() {
+        int[] values = new int[size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = getJsonNumber(i).intValue();
+        }
+        return values;
+    }
+
+    /**
+     * Returns the {@code long} values of the {@code JsonNumber} elements of this
+     * array, as given by {@link JsonNumber#longValue()}. As with that method, a
+     * value may lose magnitude and precision in the narrowing conversion from
+     * {@code BigDecimal}. The returned array is a copy: modifying it does not
+     * modify this {@code JsonArray}.
+     *
+     * <p>The default implementation calls {@link #getJsonNumber(int)} for each
+     * element. Implementations backing homogeneous numeric arrays with packed
+     * primitive storage, see {@link JsonConfig#PACKED_NUMBER_ARRAYS}, may copy
+     * the values directly.
+     *
+     * @return the {@code long} values of the elements of this array, in order
+     * @throws ClassCastException if an element of this array is not assignable
+     *     to {@code JsonNumber}
+     *
+     * @since 2.2
+     */
+    default long[] toLongArray() {
+        long[] values = new long[size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = getJsonNumber(i).longValue();
+        }
+        return values;
+    }
+
+    /**
+     * Returns the {@code double} values of the {@code JsonNumber} elements of this
+     * array, as given by {@link JsonNumber#doubleValue()}. The returned array is
+     * a copy: modifying it does not modify this {@code JsonArray}.
+     *
+     * <p>The default implementation calls {@link #getJsonNumber(int)} for each
+     * element. Implementations backing homogeneous numeric arrays with packed
+     * primitive storage, see {@link JsonConfig#PACKED_NUMBER_ARRAYS}, may copy
+     * the values directly.
+     *
+     * @return the {@code double} values of the elements of this array, in order
+     * @throws ClassCastException if an element of this array is not assignable
+     *     to {@code JsonNumber}
+     *
+     * @since 2.2
+     */
+    default double[] toDoubleArray() {
+        double[] values = new double[size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = getJsonNumber(i).doubleValue();
+        }
+        return values;
+    }
+
     /**
      * A convenience method for
      * {@code getJsonString(index).getString()}.
@@ -271,4 +347,40 @@ public interface JsonArray extends JsonStructure, List<JsonValue> {
      * @throws IndexOutOfBoundsException if the index is out of range
      */
     boolean isNull(int index);
+
+    /**
+     * Compares the specified object with this {@code JsonArray} for equality,
+     * as defined by {@link List#equals(Object)}. Returns {@code true} if and
+     * only if the specified object is also a {@code List} with the same
+     * elements, in the same order.
+     *
+     * <p>Since the hash code of a {@code JsonArray} is the one defined by
+     * {@link List#hashCode()}, implementations may compare the hash codes
+     * of the two objects first, and return {@code false} if they differ,
+     * without comparing the content of the structures. This is
+     * typically efficient when the hash codes are cached, see
+     * {@link #hashCode()}.
+     *
+     * @param obj the object to be compared for equality with this
+     *      {@code JsonArray}
+     * @return {@code true} if the specified object is equal to this
+     *      {@code JsonArray}
+     */
+    @Override
+    boolean equals(Object obj);
+
+    /**
+     * Returns the hash code value for this {@code JsonArray}. The hash code
+     * of a {@code JsonArray} is defined by {@link List#hashCode()}: a
+     * combination of the hash codes of its elements, in order.
+     *
+     * <p>Since a {@code JsonArray} is immutable, implementations may compute
+     * its hash code lazily, once, and cache it. When the hash codes of the
+     * nested structures are cached as well, computing the hash code of a
+     * structure built from existing values only traverses the new values.
+     *
+     * @return the hash code value for this {@code JsonArray}
+     */
+    @Override
+    int hashCode();
 }
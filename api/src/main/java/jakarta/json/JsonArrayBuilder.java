@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -196,6 +196,54 @@ public interface JsonArrayBuilder {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Adds all the specified values to the array as {@link JsonNumber}s, in order.
+     *
+     * <p>The default implementation calls {@link #add(long)} for each value.
+     * Implementations supporting {@link JsonConfig#PACKED_NUMBER_ARRAYS} may
+     * store the values packed.
+     *
+     * @param values the number values
+     * @return this array builder
+     * @throws NullPointerException if the specified array is null
+     *
+     * @since 2.2
+     */
+    default JsonArrayBuilder addAll(long[] values) {
+        for (long value : values) {
+            add(value);
+        }
+        return this;
+    }
+
+    /**
+     * Adds all the specified values to the array as {@link JsonNumber}s, in order.
+     *
+     * <p>The default implementation checks all the values first, and then
+     * calls {@link #add(double)} for each value.
+     * Implementations supporting {@link JsonConfig#PACKED_NUMBER_ARRAYS} may
+     * store the values packed.
+     *
+     * @param values the number values
+     * @return this array builder
+     * @throws NullPointerException if the specified array is null
+     * @throws NumberFormatException if a value is Not-a-Number (NaN) or
+     *      infinity, in which case no value is added
+     *
+     * @since 2.2
+     */
+    default JsonArrayBuilder addAll(double[] values) {
+        for (double value : values) {
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                throw new NumberFormatException("Not a valid JSON number: " + value);
+            }
+        }
+        for (double value : values) {
+            add(value);
+        }
+        return this;
+    }
+
     /**
      * Inserts a value to the array at the specified position. Shifts the value
      * currently at that position (if any) and any subsequent values to the right
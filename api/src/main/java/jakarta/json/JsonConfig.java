@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -19,6 +19,14 @@ package jakarta.json;
 /**
  * This class contains the Json properties and values.
  *
+ * <p>Support of the properties added in 2.2 is optional: a provider may
+ * ignore them, and the configuration in use of a factory tells whether the
+ * provider supports them. A property whose value is not of the specified type
+ * is ignored and is not part of the configuration in use. These properties are
+ * disabled when not specified, and only change how values are stored: the
+ * values created with them are equal to, and have the same hash code and
+ * iteration order as, the values created without them.
+ *
  * @since 2.1
  */
 public final class JsonConfig {
@@ -30,6 +38,65 @@ public final class JsonConfig {
      */
     public static final String KEY_STRATEGY = "jakarta.json.JsonConfig.keyStrategy" ;
 
+    /**
+     * Configuration property of {@link jakarta.json.stream.JsonParserFactory} and
+     * {@link JsonReaderFactory} to provide a {@code java.util.Collection<String>}
+     * of expected names. A name equal to an entry is returned, or used as key of
+     * the built {@link JsonObject}, as the instance from the collection.
+     *
+     * @since 2.2
+     */
+    public static final String KEY_DICTIONARY = "jakarta.json.JsonConfig.keyDictionary";
+
+    /**
+     * Configuration property of {@link jakarta.json.stream.JsonParserFactory} and
+     * {@link JsonReaderFactory} to cache the names found in the input. The value
+     * is an {@code Integer} giving the maximum number of cached names, {@code 0}
+     * disabling the cache, which is shared by the parsers or readers of a factory.
+     *
+     * @since 2.2
+     */
+    public static final String KEY_CACHE_SIZE = "jakarta.json.JsonConfig.keyCacheSize";
+
+    /**
+     * Configuration property of {@link JsonReaderFactory} and {@link JsonBuilderFactory}
+     * to store the values of {@link JsonArray}s of numbers in a {@code long[]} or a
+     * {@code double[]}. The value is a {@code Boolean}.
+     *
+     * @since 2.2
+     */
+    public static final String PACKED_NUMBER_ARRAYS = "jakarta.json.JsonConfig.packedNumberArrays";
+
+    /**
+     * Configuration property of {@link JsonReaderFactory} and {@link JsonBuilderFactory}
+     * to store small {@link JsonObject}s in a flat array searched linearly. The value
+     * is an {@code Integer} giving the maximum number of members, {@code 0} disabling it.
+     *
+     * @since 2.2
+     */
+    public static final String COMPACT_OBJECT_SIZE = "jakarta.json.JsonConfig.compactObjectSize";
+
+    /**
+     * Configuration property of {@link JsonReaderFactory} and {@link JsonBuilderFactory}
+     * to share the names of {@link JsonObject}s having the same names in the same order.
+     * The value is an {@code Integer} giving the maximum number of cached name
+     * sequences, {@code 0} disabling the cache, which is shared by the readers or
+     * builders of a factory.
+     *
+     * @since 2.2
+     */
+    public static final String SHAPE_CACHE_SIZE = "jakarta.json.JsonConfig.shapeCacheSize";
+
+    /**
+     * Configuration property of {@link JsonReaderFactory} to decode the members and
+     * elements of the read structures on first access. The value is a {@code Boolean}.
+     * The input is still fully validated when read, and the structures remain usable
+     * once the reader is closed.
+     *
+     * @since 2.2
+     */
+    public static final String LAZY_STRUCTURES = "jakarta.json.JsonConfig.lazyStructures";
+
     /**
      * It avoids new instances of this class.
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,6 +16,14 @@
 
 package jakarta.json;
 
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
+
 /**
  * <p>This interface represents an implementation of a JSON Merge Patch
  * as defined by <a href="http://tools.ietf.org/html/rfc7396">RFC 7396</a>.
@@ -54,6 +62,103 @@ public interface JsonMergePatch {
      */
     JsonValue apply(JsonValue target);
 
+    /**
+     * Applies the JSON Merge Patch to the target read from the specified
+     * {@code parser}, and writes the transformed target to the specified
+     * {@code generator}. Only the patch is held in memory: the members of the
+     * target which are not affected by the patch are copied from the parser
+     * events to the generator, in a single pass over the target.
+     *
+     * <p>The parser must be positioned before the target value: the target
+     * value starts with the next event of the parser, and the parser is
+     * positioned at the last event of the target value when this method
+     * returns. The transformed target is written as a single value, so the
+     * generator may be at the top level, in an array, or after
+     * {@link JsonGenerator#writeKey(String)}. Neither the parser nor the
+     * generator are closed.
+     * <pre>{@code
+     *   try (JsonParser parser = Json.createParser(in);
+     *        JsonGenerator generator = Json.createGenerator(out)) {
+     *       mergePatch.apply(parser, generator);
+     *   }
+     * }</pre>
+     *
+     * <p>The default implementation applies the value returned by
+     * {@link #toJsonValue()}, and skips the replaced and removed members of the
+     * target with {@link JsonParser#skipChildren()}.
+     *
+     * @param parser the parser of the target to apply the merge patch
+     * @param generator the generator to write the transformed target to
+     * @throws IllegalStateException if the parser is not positioned before a value
+     * @throws jakarta.json.stream.JsonParsingException if the target is not valid JSON
+     * @throws jakarta.json.stream.JsonGenerationException if the transformed
+     *    target cannot be written in the current context of the generator
+     * @throws JsonException if an i/o error occurs
+     *
+     * @since 2.2
+     */
+    default void apply(JsonParser parser, JsonGenerator generator) {
+        StreamingMergePatch.apply(toJsonValue(), parser, generator);
+    }
+
+    /**
+     * Applies the JSON Merge Patch to each of the specified {@code targets}.
+     * The targets are not modified by the patch. A target for which the patch
+     * fails with a {@code RuntimeException} is reported to {@code failures}
+     * together with the exception, and is omitted from the returned stream.
+     * The other targets are not affected by the failure.
+     *
+     * <p>The returned stream is lazy: the patch is applied, and the failures
+     * are reported, as the stream is consumed. The patch is applied
+     * sequentially or in parallel as {@code targets} is: if it is a parallel
+     * stream, the patch is applied in parallel, by default in the
+     * {@linkplain java.util.concurrent.ForkJoinPool#commonPool() common pool},
+     * and {@code failures} may be invoked concurrently.
+     *
+     * <p>The default implementation maps {@code targets} with
+     * {@link #apply(JsonValue)}, catching the {@code RuntimeException}s.
+     *
+     * @param targets the targets to apply the merge patch
+     * @param failures the consumer of the targets for which the merge patch
+     *    failed and of the failure
+     * @return the stream of the transformed targets, in the order of the targets
+     *
+     * @since 2.2
+     */
+    default Stream<JsonValue> applyAll(Stream<? extends JsonValue> targets,
+            BiConsumer<? super JsonValue, ? super RuntimeException> failures) {
+        Objects.requireNonNull(failures);
+        return targets.map(target -> {
+            try {
+                return apply(target);
+            } catch (RuntimeException e) {
+                failures.accept(target, e);
+                return null;
+            }
+        }).filter(Objects::nonNull);
+    }
+
+    /**
+     * Applies the JSON Merge Patch in parallel to each of the specified
+     * {@code targets}, as {@link #applyAll(Stream, BiConsumer)} applies it
+     * to a parallel stream of the targets. Unlike that method, which follows
+     * the mode of the given stream, this method is always parallel; use
+     * {@link #applyAll(Stream, BiConsumer)} with a sequential stream to apply
+     * the patch sequentially.
+     *
+     * @param targets the targets to apply the merge patch
+     * @param failures the consumer of the targets for which the merge patch
+     *    failed and of the failure, which may be invoked concurrently
+     * @return the parallel stream of the transformed targets, in the order of
+     *    the targets
+     *
+     * @since 2.2
+     */
+    default Stream<JsonValue> applyAll(Iterable<? extends JsonValue> targets,
+            BiConsumer<? super JsonValue, ? super RuntimeException> failures) {
+        return applyAll(StreamSupport.stream(targets.spliterator(), true), failures);
+    }
+
     /**
      * Returns the {@code JsonMergePatch} as {@code JsonValue}.
      *
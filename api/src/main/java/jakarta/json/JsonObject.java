@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -100,6 +100,14 @@ import java.util.Map;
  * <p>The map object's iteration ordering is based on the order in which
  * name/value pairs are added to the corresponding builder or the order
  * in which name/value pairs appear in the corresponding stream.
+ *
+ * <p>Implementations are not required to be backed by a hash table. Small
+ * objects, for instance, may keep their names and values in a flat array
+ * searched linearly (see {@link JsonConfig#COMPACT_OBJECT_SIZE}), and objects
+ * having the same names in the same order may share them and only hold
+ * their values (see {@link JsonConfig#SHAPE_CACHE_SIZE}). The map view,
+ * iteration ordering, equality and hash code are the same whatever the
+ * layout.
  */
 public interface JsonObject extends JsonStructure, Map<String, JsonValue> {
 
@@ -246,4 +254,39 @@ public interface JsonObject extends JsonStructure, Map<String, JsonValue> {
      */
     boolean isNull(String name);
 
+    /**
+     * Compares the specified object with this {@code JsonObject} for equality,
+     * as defined by {@link Map#equals(Object)}. Returns {@code true} if and
+     * only if the specified object is also a {@code Map} with the same
+     * mappings.
+     *
+     * <p>Since the hash code of a {@code JsonObject} is the one defined by
+     * {@link Map#hashCode()}, implementations may compare the hash codes
+     * of the two objects first, and return {@code false} if they differ,
+     * without comparing the content of the structures. This is
+     * typically efficient when the hash codes are cached, see
+     * {@link #hashCode()}.
+     *
+     * @param obj the object to be compared for equality with this
+     *      {@code JsonObject}
+     * @return {@code true} if the specified object is equal to this
+     *      {@code JsonObject}
+     */
+    @Override
+    boolean equals(Object obj);
+
+    /**
+     * Returns the hash code value for this {@code JsonObject}. The hash code
+     * of a {@code JsonObject} is defined by {@link Map#hashCode()}: the sum
+     * of the hash codes of its entries.
+     *
+     * <p>Since a {@code JsonObject} is immutable, implementations may compute
+     * its hash code lazily, once, and cache it. When the hash codes of the
+     * nested structures are cached as well, computing the hash code of a
+     * structure built from existing values only traverses the new values.
+     *
+     * @return the hash code value for this {@code JsonObject}
+     */
+    @Override
+    int hashCode();
 }
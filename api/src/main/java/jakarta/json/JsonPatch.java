@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,6 +16,11 @@
 
 package jakarta.json;
 
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * <p>This interface represents an immutable implementation of a JSON Patch
  * as defined by <a href="http://tools.ietf.org/html/rfc6902">RFC 6902</a>.
@@ -134,6 +139,75 @@ public interface JsonPatch {
      */
     <T extends JsonStructure> T apply(T target);
 
+    /**
+     * Applies the patch operations to each of the specified {@code targets}.
+     * The targets are not modified by the patch. A target for which the patch
+     * fails with a {@code RuntimeException}, for instance a
+     * {@link JsonException} because of a failed {@code "test"} operation, is
+     * reported to {@code failures} together with the exception, and is
+     * omitted from the returned stream. The other targets are not affected
+     * by the failure.
+     *
+     * <p>The returned stream is lazy: the patch is applied, and the failures
+     * are reported, as the stream is consumed. The patch is applied
+     * sequentially or in parallel as {@code targets} is: if it is a parallel
+     * stream, the patch is applied in parallel, by default in the
+     * {@linkplain java.util.concurrent.ForkJoinPool#commonPool() common pool},
+     * and {@code failures} may be invoked concurrently. A patch compiled with
+     * {@link Json#compilePatch(JsonArray)} is best suited to be applied to
+     * many targets.
+     * <pre>{@code
+     *   JsonPatch patch = Json.compilePatch(operations);
+     *   patch.applyAll(documents.parallel(), (document, e) -> failed.add(document))
+     *        .forEach(store::save);
+     * }</pre>
+     *
+     * <p>The default implementation maps {@code targets} with
+     * {@link #apply(JsonStructure)}, catching the {@code RuntimeException}s.
+     *
+     * @param <T> the target type, must be a subtype of {@link JsonStructure}
+     * @param targets the targets to apply the patch operations
+     * @param failures the consumer of the targets for which the patch failed
+     *    and of the failure
+     * @return the stream of the transformed targets, in the order of the targets
+     *
+     * @since 2.2
+     */
+    default <T extends JsonStructure> Stream<T> applyAll(Stream<T> targets,
+            BiConsumer<? super T, ? super RuntimeException> failures) {
+        Objects.requireNonNull(failures);
+        return targets.map(target -> {
+            try {
+                return apply(target);
+            } catch (RuntimeException e) {
+                failures.accept(target, e);
+                return null;
+            }
+        }).filter(Objects::nonNull);
+    }
+
+    /**
+     * Applies the patch operations in parallel to each of the specified
+     * {@code targets}, as {@link #applyAll(Stream, BiConsumer)} applies them
+     * to a parallel stream of the targets. Unlike that method, which follows
+     * the mode of the given stream, this method is always parallel; use
+     * {@link #applyAll(Stream, BiConsumer)} with a sequential stream to apply
+     * the patch sequentially.
+     *
+     * @param <T> the target type, must be a subtype of {@link JsonStructure}
+     * @param targets the targets to apply the patch operations
+     * @param failures the consumer of the targets for which the patch failed
+     *    and of the failure, which may be invoked concurrently
+     * @return the parallel stream of the transformed targets, in the order of
+     *    the targets
+     *
+     * @since 2.2
+     */
+    default <T extends JsonStructure> Stream<T> applyAll(Iterable<T> targets,
+            BiConsumer<? super T, ? super RuntimeException> failures) {
+        return applyAll(StreamSupport.stream(targets.spliterator(), true), failures);
+    }
+
     /**
      * Returns the {@code JsonPatch} as {@code JsonArray}.
      *
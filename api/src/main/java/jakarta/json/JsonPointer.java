@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,6 +16,10 @@
 
 package jakarta.json;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * <p>This interface represents an immutable implementation of a JSON Pointer
  * as defined by <a href="http://tools.ietf.org/html/rfc6901">RFC 6901</a>.
@@ -114,9 +118,74 @@ public interface JsonPointer {
      */
     JsonValue getValue(JsonStructure target);
 
+    /**
+     * Returns the reference tokens of this JSON Pointer, decoded as specified
+     * in <a href="http://tools.ietf.org/html/rfc6901#section-4">RFC 6901</a>:
+     * {@code ~1} is replaced with {@code /} and {@code ~0} with {@code ~}.
+     * The list is empty for the empty JSON Pointer string, which references
+     * the target itself.
+     *
+     * <p>The default implementation splits and decodes {@link #toString()}
+     * each time it is invoked. The pointers returned by
+     * {@link Json#compilePointer(String)} decode their tokens once.
+     *
+     * @return the unmodifiable list of the decoded reference tokens
+     *
+     * @since 2.2
+     */
+    default List<String> getReferenceTokens() {
+        String pointer = toString();
+        if (pointer.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String[] tokens = pointer.substring(1).split("/", -1);
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = Json.decodePointer(tokens[i]);
+        }
+        return Collections.unmodifiableList(Arrays.asList(tokens));
+    }
+
+    /**
+     * Returns the array index denoted by the reference token at the specified
+     * position, that is the value of the token if it is a non-negative integer
+     * without leading zeros within the range of an int, as specified in
+     * <a href="http://tools.ietf.org/html/rfc6901#section-4">RFC 6901</a>.
+     * The token {@code -} denotes no existing element and is not an array index.
+     *
+     * <p>The default implementation parses the token from
+     * {@link #getReferenceTokens()} each time it is invoked. The pointers
+     * returned by {@link Json#compilePointer(String)} parse their tokens once.
+     *
+     * @param position the position of the token in {@link #getReferenceTokens()}
+     * @return the array index denoted by the token, or -1 if the token is not
+     *     an array index
+     * @throws IndexOutOfBoundsException if there is no token at {@code position}
+     *
+     * @since 2.2
+     */
+    default int getArrayIndex(int position) {
+        String token = getReferenceTokens().get(position);
+        int length = token.length();
+        if (length == 0 || length > 10 || (length > 1 && token.charAt(0) == '0')) {
+            return -1;
+        }
+        long index = 0;
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index <= Integer.MAX_VALUE ? (int) index : -1;
+    }
+
     /**
      * Returns the string representation of this JSON Pointer.
      * The value to be returned is an empty string or a sequence of '{@code /}' prefixed tokens.
+     * It is the escaped JSON Pointer string this pointer was created from,
+     * which {@link #getReferenceTokens()} and {@link #getArrayIndex(int)}
+     * decode by default.
      *
      * @return the valid escaped JSON Pointer string.
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,8 +16,10 @@
 
 package jakarta.json;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.Map;
 
@@ -77,6 +79,59 @@ public interface JsonReaderFactory {
      */
     JsonReader createReader(InputStream in, Charset charset);
 
+    /**
+     * Creates a JSON reader from the specified range of a byte array.
+     * The character encoding of the bytes is determined as described in
+     * <a href="http://tools.ietf.org/rfc/rfc7159.txt">RFC 7159</a>.
+     * The content of the array must not be modified while the reader is in use.
+     * The reader is configured with the factory configuration.
+     *
+     * <p>The default implementation wraps the bytes in a {@link ByteArrayInputStream}
+     * and invokes {@link #createReader(InputStream)}.
+     *
+     * @param bytes array from which JSON is to be read
+     * @param offset offset of the first byte to read
+     * @param length number of bytes to read
+     * @return a JSON reader
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length}
+     *         do not denote a valid range of the array
+     *
+     * @since 2.2
+     */
+    default JsonReader createReader(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || length > bytes.length - offset) {
+            throw new IndexOutOfBoundsException();
+        }
+        return createReader(new ByteArrayInputStream(bytes, offset, length));
+    }
+
+    /**
+     * Creates a JSON reader from the bytes remaining in the specified buffer,
+     * that is the bytes between its position and its limit. The buffer may
+     * be a direct buffer. The character encoding of the bytes is determined
+     * as described in <a href="http://tools.ietf.org/rfc/rfc7159.txt">RFC 7159</a>.
+     * The position, limit and mark of the buffer are not modified, and its
+     * content must not be modified while the reader is in use.
+     * The reader is configured with the factory configuration.
+     *
+     * <p>The default implementation invokes {@link #createReader(byte[], int, int)}
+     * with the backing array of the buffer, if it is accessible, or with a copy
+     * of the remaining bytes otherwise.
+     *
+     * @param buffer buffer from which JSON is to be read
+     * @return a JSON reader
+     *
+     * @since 2.2
+     */
+    default JsonReader createReader(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return createReader(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return createReader(bytes, 0, bytes.length);
+    }
+
     /**
      * Returns read-only map of supported provider specific configuration
      * properties that are used to configure the created JSON readers.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -18,8 +18,13 @@ package jakarta.json;
 
 import java.io.OutputStream;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.util.Map;
+import java.util.function.UnaryOperator;
+
 
 /**
  * Factory to create {@link jakarta.json.JsonWriter} instances. If a factory
@@ -80,6 +85,50 @@ public interface JsonWriterFactory {
      */
     JsonWriter createWriter(OutputStream out, Charset charset);
 
+    /**
+     * Creates a JSON writer to write a JSON {@link JsonObject object} or
+     * {@link JsonArray array} structure to the specified byte channel.
+     * Characters written to the channel are encoded into bytes using UTF-8
+     * encoding. Closing the writer closes the channel.
+     * The writer is configured with the factory configuration.
+     *
+     * <p>The default implementation invokes {@link #createWriter(OutputStream)}
+     * with a stream obtained from {@link Channels#newOutputStream(WritableByteChannel)},
+     * so the channel must be in blocking mode.
+     *
+     * @param channel to which JSON object or array is written
+     * @return a JSON writer
+     *
+     * @since 2.2
+     */
+    default JsonWriter createWriter(WritableByteChannel channel) {
+        return createWriter(Channels.newOutputStream(channel));
+    }
+
+    /**
+     * Creates a JSON writer to write a JSON {@link JsonObject object} or
+     * {@link JsonArray array} structure into the specified byte buffer.
+     * Characters are encoded into bytes using UTF-8 encoding and put into the
+     * buffer starting at its current position.
+     * <p>
+     * The {@code handler} is invoked with the buffer when it is full, when the
+     * written bytes are flushed and when the writer is closed, as described in
+     * {@link jakarta.json.stream.JsonGeneratorFactory#createGenerator(ByteBuffer, UnaryOperator)}.
+     * The writer is configured with the factory configuration.
+     *
+     * <p>The default implementation invokes {@link #createWriter(OutputStream)}
+     * with a stream writing into the buffer.
+     *
+     * @param buffer byte buffer into which JSON is written
+     * @param handler the handler draining the buffer
+     * @return a JSON writer
+     *
+     * @since 2.2
+     */
+    default JsonWriter createWriter(ByteBuffer buffer, UnaryOperator<ByteBuffer> handler) {
+        return createWriter(new ByteBufferOutputStream(buffer, handler));
+    }
+
     /**
      * Returns read-only map of supported provider specific configuration
      * properties that are used to configure the created JSON writer objects.
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.json;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
+
+/**
+ * Private implementation of the application of a JSON Merge Patch to a value
+ * read from a {@link JsonParser}, used by
+ * {@link JsonMergePatch#apply(JsonParser, JsonGenerator)}. The patched value
+ * is written to a {@link JsonGenerator} in a single pass over the parser
+ * events: the members of the target which are not patched are copied event by
+ * event, the ones removed or replaced by the patch are skipped.
+ */
+final class StreamingMergePatch {
+
+    /** No instances. */
+    private StreamingMergePatch() {
+    }
+
+    /**
+     * Applies a JSON Merge Patch to the next value of a parser.
+     * @param patch the JSON Merge Patch
+     * @param parser the parser positioned before the target value
+     * @param generator the generator to write the patched value to
+     */
+    static void apply(JsonValue patch, JsonParser parser, JsonGenerator generator) {
+        JsonParser.Event event = parser.next();
+        if (event == JsonParser.Event.KEY_NAME
+                || event == JsonParser.Event.END_OBJECT
+                || event == JsonParser.Event.END_ARRAY) {
+            throw new IllegalStateException("Not at the start of a value: " + event);
+        }
+        merge(patch, parser, event, generator);
+    }
+
+    /**
+     * Applies a JSON Merge Patch to the current value of a parser.
+     * @param patch the JSON Merge Patch
+     * @param parser the parser positioned at the first event of the target value
+     * @param event the first event of the target value
+     * @param generator the generator to write the patched value to
+     */
+    private static void merge(JsonValue patch, JsonParser parser, JsonParser.Event event,
+            JsonGenerator generator) {
+        if (patch.getValueType() != JsonValue.ValueType.OBJECT) {
+            parser.skipChildren();
+            generator.write(patch);
+            return;
+        }
+        JsonObject members = patch.asJsonObject();
+        if (event != JsonParser.Event.START_OBJECT) {
+            parser.skipChildren();
+            writeMerged(members, generator);
+            return;
+        }
+        Set<String> merged = new HashSet<>();
+        generator.writeStartObject();
+        while (parser.next() != JsonParser.Event.END_OBJECT) {
+            String name = parser.getString();
+            JsonValue member = members.get(name);
+            if (member == null) {
+                generator.writeKey(name);
+                copy(parser, generator);
+                continue;
+            }
+            if (member.getValueType() == JsonValue.ValueType.NULL) {
+                parser.next();
+                parser.skipChildren();
+            } else {
+                generator.writeKey(name);
+                merge(member, parser, parser.next(), generator);
+            }
+            merged.add(name);
+        }
+        for (Map.Entry<String, JsonValue> member : members.entrySet()) {
+            if (!merged.contains(member.getKey())
+                    && member.getValue().getValueType() != JsonValue.ValueType.NULL) {
+                generator.writeKey(member.getKey());
+                writeMerged(member.getValue(), generator);
+            }
+        }
+        generator.writeEnd();
+    }
+
+    /**
+     * Writes the result of a JSON Merge Patch applied to a target which is not
+     * an object, that is the patch without the {@code null} members of its
+     * objects.
+     * @param patch the JSON Merge Patch
+     * @param generator the generator to write the patched value to
+     */
+    private static void writeMerged(JsonValue patch, JsonGenerator generator) {
+        if (patch.getValueType() != JsonValue.ValueType.OBJECT) {
+            generator.write(patch);
+            return;
+        }
+        generator.writeStartObject();
+        for (Map.Entry<String, JsonValue> member : patch.asJsonObject().entrySet()) {
+            if (member.getValue().getValueType() != JsonValue.ValueType.NULL) {
+                generator.writeKey(member.getKey());
+                writeMerged(member.getValue(), generator);
+            }
+        }
+        generator.writeEnd();
+    }
+
+    /**
+     * Copies the next value of a parser to a generator.
+     * @param parser the parser positioned before the value
+     * @param generator the generator to write the value to
+     */
+    private static void copy(JsonParser parser, JsonGenerator generator) {
+        int depth = 0;
+        do {
+            switch (parser.next()) {
+                case START_OBJECT:
+                    generator.writeStartObject();
+                    depth++;
+                    break;
+                case START_ARRAY:
+                    generator.writeStartArray();
+                    depth++;
+                    break;
+                case END_OBJECT:
+                case END_ARRAY:
+                    generator.writeEnd();
+                    depth--;
+                    break;
+                case KEY_NAME:
+                    generator.writeKey(parser.getString());
+                    break;
+                default:
+                    generator.write(parser.getValue());
+                    break;
+            }
+        } while (depth > 0);
+    }
+}
@@ -0,0 +1,501 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.json.spi;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonPatch;
+import jakarta.json.JsonPointer;
+import jakarta.json.JsonString;
+import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
+
+/**
+ * Private implementation of {@link JsonPatch} returned by
+ * {@link JsonProvider#compilePatch(JsonArray)}. The operations are validated
+ * and their pointers compiled once. Each application copies the containers
+ * along the paths of the operations into a mutable working tree, modifies
+ * them in place, and builds immutable values for the copied containers only
+ * once all the operations have been applied. The immutable value built for a
+ * copied container by a {@code test} or {@code copy} operation is kept until
+ * the container or one of its descendants is modified again.
+ */
+final class CompiledPatch implements JsonPatch {
+
+    /** Provider building the patched values. */
+    private final JsonProvider provider;
+
+    /** Patch operations, as specified. */
+    private final JsonArray array;
+
+    /** Validated patch operations. */
+    private final Step[] steps;
+
+    /**
+     * Compiles the patch operations.
+     * @param provider the provider compiling the pointers and building the patched values
+     * @param array the patch operations
+     * @throws JsonException if an operation is not valid
+     */
+    CompiledPatch(JsonProvider provider, JsonArray array) {
+        this.provider = provider;
+        this.array = array;
+        this.steps = new Step[array.size()];
+        for (int i = 0; i < steps.length; i++) {
+            JsonValue operation = array.get(i);
+            if (operation.getValueType() != JsonValue.ValueType.OBJECT) {
+                throw new JsonException("A JSON Patch operation must be an object: " + operation);
+            }
+            steps[i] = new Step(provider, operation.asJsonObject());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends JsonStructure> T apply(T target) {
+        if (steps.length == 0) {
+            return target;
+        }
+        WorkingTree tree = new WorkingTree(target);
+        for (Step step : steps) {
+            step.apply(tree);
+        }
+        JsonValue result = tree.freeze(tree.root);
+        if (!(result instanceof JsonStructure)) {
+            throw new JsonException("The result of the JSON Patch is not a JSON structure: " + result);
+        }
+        return (T) result;
+    }
+
+    @Override
+    public JsonArray toJsonArray() {
+        return array;
+    }
+
+    @Override
+    public String toString() {
+        return array.toString();
+    }
+
+    /**
+     * A validated patch operation.
+     */
+    private static final class Step {
+
+        /** Operation. */
+        private final Operation op;
+
+        /** Compiled {@code path} pointer. */
+        private final JsonPointer path;
+
+        /** Compiled {@code from} pointer, or {@code null}. */
+        private final JsonPointer from;
+
+        /** Operand, or {@code null}. */
+        private final JsonValue value;
+
+        /**
+         * Validates a patch operation.
+         * @param provider the provider compiling the pointers
+         * @param operation the patch operation
+         * @throws JsonException if the operation is not valid
+         */
+        Step(JsonProvider provider, JsonObject operation) {
+            this.op = Operation.fromOperationName(member(operation, "op"));
+            this.path = provider.compilePointer(member(operation, "path"));
+            this.from = op == Operation.MOVE || op == Operation.COPY
+                    ? provider.compilePointer(member(operation, "from"))
+                    : null;
+            if (op == Operation.MOVE && isProperPrefix(from, path)) {
+                throw new JsonException("The JSON Patch operation 'move' cannot move '"
+                        + from + "' to its child '" + path + "'");
+            }
+            if (op == Operation.ADD || op == Operation.REPLACE || op == Operation.TEST) {
+                this.value = operation.get("value");
+                if (value == null) {
+                    throw new JsonException("The JSON Patch operation '" + op.operationName()
+                            + "' has no member 'value': " + operation);
+                }
+            } else {
+                this.value = null;
+            }
+        }
+
+        /**
+         * Returns whether the reference tokens of a pointer are a proper
+         * prefix of the reference tokens of another pointer.
+         * @param prefix the possible prefix
+         * @param pointer the pointer
+         * @return whether {@code prefix} references an ancestor of the
+         *         location referenced by {@code pointer}
+         */
+        private static boolean isProperPrefix(JsonPointer prefix, JsonPointer pointer) {
+            List<String> tokens = prefix.getReferenceTokens();
+            List<String> other = pointer.getReferenceTokens();
+            return tokens.size() < other.size() && tokens.equals(other.subList(0, tokens.size()));
+        }
+
+        /**
+         * Returns a string member of a patch operation.
+         * @param operation the patch operation
+         * @param name the name of the member
+         * @return the string value of the member
+         * @throws JsonException if there is no such string member
+         */
+        private static String member(JsonObject operation, String name) {
+            JsonValue member = operation.get(name);
+            if (!(member instanceof JsonString)) {
+                throw new JsonException("The JSON Patch operation has no string member '"
+                        + name + "': " + operation);
+            }
+            return ((JsonString) member).getString();
+        }
+
+        /**
+         * Applies the operation to the working tree.
+         * @param tree the working tree
+         * @throws JsonException if the operation fails
+         */
+        void apply(WorkingTree tree) {
+            switch (op) {
+                case ADD:
+                    tree.add(path, value);
+                    break;
+                case REMOVE:
+                    tree.remove(path);
+                    break;
+                case REPLACE:
+                    tree.replace(path, value);
+                    break;
+                case MOVE:
+                    Object moved = tree.get(from);
+                    tree.remove(from);
+                    tree.add(path, moved);
+                    break;
+                case COPY:
+                    tree.add(path, tree.freeze(tree.get(from)));
+                    break;
+                case TEST:
+                    if (!tree.freeze(tree.get(path)).equals(value)) {
+                        throw new JsonException("The JSON Patch operation 'test' failed for path '"
+                                + path + "' and value " + value);
+                    }
+                    break;
+                default:
+                    throw new JsonException("Unsupported JSON Patch operation: " + op);
+            }
+        }
+    }
+
+    /**
+     * Document being patched. The nodes of the tree are either immutable
+     * {@link JsonValue}s, which are shared with the target, or mutable copies
+     * of the containers modified by the operations.
+     */
+    private final class WorkingTree {
+
+        /** Root node. */
+        private Object root;
+
+        /**
+         * Creates a working tree sharing all the values of the target.
+         * @param target the target of the patch
+         */
+        WorkingTree(JsonStructure target) {
+            this.root = target;
+        }
+
+        /**
+         * Returns the node referenced by a pointer.
+         * @param pointer the pointer
+         * @return the referenced node
+         * @throws JsonException if there is no such node
+         */
+        Object get(JsonPointer pointer) {
+            List<String> tokens = pointer.getReferenceTokens();
+            Object node = root;
+            for (int i = 0; i < tokens.size(); i++) {
+                node = child(node, pointer, i);
+                if (node == null) {
+                    throw missing(pointer);
+                }
+            }
+            return node;
+        }
+
+        /**
+         * Adds a node at the location referenced by a pointer.
+         * @param pointer the pointer
+         * @param node the node to add
+         * @throws JsonException if the location cannot be added to
+         */
+        void add(JsonPointer pointer, Object node) {
+            int last = pointer.getReferenceTokens().size() - 1;
+            if (last < 0) {
+                root = node;
+                return;
+            }
+            Object parent = parent(pointer);
+            if (parent instanceof MutableObject) {
+                members(parent).put(pointer.getReferenceTokens().get(last), node);
+            } else if (parent instanceof MutableArray) {
+                List<Object> elements = elements(parent);
+                if ("-".equals(pointer.getReferenceTokens().get(last))) {
+                    elements.add(node);
+                } else {
+                    int index = pointer.getArrayIndex(last);
+                    if (index < 0 || index > elements.size()) {
+                        throw missing(pointer);
+                    }
+                    elements.add(index, node);
+                }
+            } else {
+                throw missing(pointer);
+            }
+        }
+
+        /**
+         * Removes the node referenced by a pointer.
+         * @param pointer the pointer
+         * @throws JsonException if there is no such node
+         */
+        void remove(JsonPointer pointer) {
+            int last = pointer.getReferenceTokens().size() - 1;
+            if (last < 0) {
+                throw new JsonException("The root value cannot be removed");
+            }
+            Object parent = parent(pointer);
+            if (child(parent, pointer, last) == null) {
+                throw missing(pointer);
+            }
+            if (parent instanceof MutableObject) {
+                members(parent).remove(pointer.getReferenceTokens().get(last));
+            } else {
+                elements(parent).remove(pointer.getArrayIndex(last));
+            }
+        }
+
+        /**
+         * Replaces the node referenced by a pointer.
+         * @param pointer the pointer
+         * @param node the replacing node
+         * @throws JsonException if there is no such node
+         */
+        void replace(JsonPointer pointer, Object node) {
+            int last = pointer.getReferenceTokens().size() - 1;
+            if (last < 0) {
+                root = node;
+                return;
+            }
+            Object parent = parent(pointer);
+            if (child(parent, pointer, last) == null) {
+                throw missing(pointer);
+            }
+            if (parent instanceof MutableObject) {
+                members(parent).put(pointer.getReferenceTokens().get(last), node);
+            } else {
+                elements(parent).set(pointer.getArrayIndex(last), node);
+            }
+        }
+
+        /**
+         * Returns the mutable parent of the node referenced by a non empty
+         * pointer, copying the containers along the path as needed.
+         * @param pointer the pointer
+         * @return the parent node
+         * @throws JsonException if there is no such node
+         */
+        private Object parent(JsonPointer pointer) {
+            root = thaw(root);
+            Object node = root;
+            if (node instanceof MutableNode) {
+                ((MutableNode) node).frozen = null;
+            }
+            int last = pointer.getReferenceTokens().size() - 1;
+            for (int i = 0; i < last; i++) {
+                Object child = child(node, pointer, i);
+                if (child == null) {
+                    throw missing(pointer);
+                }
+                Object thawed = thaw(child);
+                if (thawed != child) {
+                    if (node instanceof MutableObject) {
+                        members(node).put(pointer.getReferenceTokens().get(i), thawed);
+                    } else {
+                        elements(node).set(pointer.getArrayIndex(i), thawed);
+                    }
+                }
+                if (thawed instanceof MutableNode) {
+                    ((MutableNode) thawed).frozen = null;
+                }
+                node = thawed;
+            }
+            return node;
+        }
+
+        /**
+         * Returns the child of a node referenced by a reference token.
+         * @param node the node
+         * @param pointer the pointer
+         * @param position the position of the reference token in the pointer
+         * @return the child node, or {@code null} if there is none
+         */
+        private Object child(Object node, JsonPointer pointer, int position) {
+            if (node instanceof MutableObject) {
+                return members(node).get(pointer.getReferenceTokens().get(position));
+            }
+            if (node instanceof JsonObject) {
+                return ((JsonObject) node).get(pointer.getReferenceTokens().get(position));
+            }
+            int index = pointer.getArrayIndex(position);
+            if (node instanceof MutableArray) {
+                List<Object> elements = elements(node);
+                return index >= 0 && index < elements.size() ? elements.get(index) : null;
+            }
+            if (node instanceof JsonArray) {
+                JsonArray elements = (JsonArray) node;
+                return index >= 0 && index < elements.size() ? elements.get(index) : null;
+            }
+            return null;
+        }
+
+        /**
+         * Returns a mutable copy of an immutable container, or the node itself.
+         * @param node the node
+         * @return the mutable node
+         */
+        private Object thaw(Object node) {
+            if (node instanceof JsonObject) {
+                return new MutableObject((JsonObject) node);
+            }
+            if (node instanceof JsonArray) {
+                return new MutableArray((JsonArray) node);
+            }
+            return node;
+        }
+
+        /**
+         * Returns the immutable value of a node, built once for a mutable
+         * node until it is modified.
+         * @param node the node
+         * @return the immutable value
+         */
+        JsonValue freeze(Object node) {
+            if (!(node instanceof MutableNode)) {
+                return (JsonValue) node;
+            }
+            MutableNode mutable = (MutableNode) node;
+            if (mutable.frozen == null) {
+                if (node instanceof MutableObject) {
+                    JsonObjectBuilder builder = provider.createObjectBuilder();
+                    for (Map.Entry<String, Object> member : members(node).entrySet()) {
+                        builder.add(member.getKey(), freeze(member.getValue()));
+                    }
+                    mutable.frozen = builder.build();
+                } else {
+                    JsonArrayBuilder builder = provider.createArrayBuilder();
+                    for (Object element : elements(node)) {
+                        builder.add(freeze(element));
+                    }
+                    mutable.frozen = builder.build();
+                }
+            }
+            return mutable.frozen;
+        }
+
+        /**
+         * Returns the members of a mutable object node.
+         * @param node the node
+         * @return the members of the object
+         */
+        private Map<String, Object> members(Object node) {
+            return ((MutableObject) node).members;
+        }
+
+        /**
+         * Returns the elements of a mutable array node.
+         * @param node the node
+         * @return the elements of the array
+         */
+        private List<Object> elements(Object node) {
+            return ((MutableArray) node).elements;
+        }
+
+        /**
+         * Creates the exception for a pointer not referencing a node.
+         * @param pointer the pointer
+         * @return the exception
+         */
+        private JsonException missing(JsonPointer pointer) {
+            return new JsonException("The JSON Pointer '" + pointer + "' does not reference a value");
+        }
+    }
+
+    /**
+     * Mutable copy of a JSON container in the working tree.
+     */
+    private abstract static class MutableNode {
+
+        /**
+         * Immutable value of the container, or {@code null} if it has not
+         * been built since the container or a descendant was last modified.
+         */
+        private JsonValue frozen;
+    }
+
+    /**
+     * Mutable copy of a JSON object in the working tree.
+     */
+    private static final class MutableObject extends MutableNode {
+
+        /** Members, in the order of the copied object. */
+        private final Map<String, Object> members;
+
+        /**
+         * Copies the members of an object.
+         * @param object the object
+         */
+        MutableObject(JsonObject object) {
+            this.members = new LinkedHashMap<>(object);
+        }
+    }
+
+    /**
+     * Mutable copy of a JSON array in the working tree.
+     */
+    private static final class MutableArray extends MutableNode {
+
+        /** Elements. */
+        private final List<Object> elements;
+
+        /**
+         * Copies the elements of an array.
+         * @param array the array
+         */
+        MutableArray(JsonArray array) {
+            this.elements = new ArrayList<>(array);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.json.spi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import jakarta.json.JsonPointer;
+import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
+
+/**
+ * Private implementation of {@link JsonPointer} returned by
+ * {@link JsonProvider#compilePointer(String)}. The reference tokens and the
+ * array indexes of the pointer are decoded once, and the operations are
+ * delegated to the pointer created by the provider.
+ */
+final class CompiledPointer implements JsonPointer {
+
+    /** Pointer created by the provider. */
+    private final JsonPointer pointer;
+
+    /** Decoded reference tokens. */
+    private final List<String> tokens;
+
+    /** Array indexes denoted by the reference tokens, -1 for other tokens. */
+    private final int[] indexes;
+
+    /**
+     * Creates a compiled pointer.
+     * @param pointer the pointer created by the provider
+     */
+    CompiledPointer(JsonPointer pointer) {
+        this.pointer = pointer;
+        this.tokens = Collections.unmodifiableList(new ArrayList<>(pointer.getReferenceTokens()));
+        this.indexes = new int[tokens.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = pointer.getArrayIndex(i);
+        }
+    }
+
+    @Override
+    public <T extends JsonStructure> T add(T target, JsonValue value) {
+        return pointer.add(target, value);
+    }
+
+    @Override
+    public <T extends JsonStructure> T remove(T target) {
+        return pointer.remove(target);
+    }
+
+    @Override
+    public <T extends JsonStructure> T replace(T target, JsonValue value) {
+        return pointer.replace(target, value);
+    }
+
+    @Override
+    public boolean containsValue(JsonStructure target) {
+        return pointer.containsValue(target);
+    }
+
+    @Override
+    public JsonValue getValue(JsonStructure target) {
+        return pointer.getValue(target);
+    }
+
+    @Override
+    public List<String> getReferenceTokens() {
+        return tokens;
+    }
+
+    @Override
+    public int getArrayIndex(int position) {
+        if (position < 0 || position >= indexes.length) {
+            throw new IndexOutOfBoundsException("Position: " + position);
+        }
+        return indexes[position];
+    }
+
+    /**
+     * Compares the specified object with this pointer for equality. Returns
+     * {@code true} if the object is a compiled pointer with the same string
+     * representation. Pointers created by the provider are never equal, as
+     * they do not consider compiled pointers equal to them.
+     * @param obj the object to be compared with this pointer
+     * @return whether the object is a compiled pointer with the same JSON Pointer string
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        return obj instanceof CompiledPointer && toString().equals(obj.toString());
+    }
+
+    /**
+     * Returns the hash code of the JSON Pointer string of this pointer.
+     * @return the hash code of this pointer
+     */
+    @Override
+    public int hashCode() {
+        return toString().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return pointer.toString();
+    }
+}
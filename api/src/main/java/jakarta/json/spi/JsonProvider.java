@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,20 +16,30 @@
 
 package jakarta.json.spi;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -51,6 +61,7 @@ import jakarta.json.JsonStructure;
 import jakarta.json.JsonValue;
 import jakarta.json.JsonWriter;
 import jakarta.json.JsonWriterFactory;
+import jakarta.json.stream.JsonFeedReader;
 import jakarta.json.stream.JsonGenerator;
 import jakarta.json.stream.JsonGeneratorFactory;
 import jakarta.json.stream.JsonParser;
@@ -81,6 +92,12 @@ public abstract class JsonProvider {
     /** A logger */
     private static final Logger LOG = Logger.getLogger(JsonProvider.class.getName());
 
+    /** Maximum number of pointers cached by {@link #compilePointer(String)}. */
+    private static final int POINTER_CACHE_SIZE = 512;
+
+    /** Pointers compiled by this provider, by JSON Pointer string. */
+    private final Map<String, JsonPointer> compiledPointers = new ConcurrentHashMap<>();
+
     /**
      * Default constructor.
      */
@@ -101,7 +118,8 @@ public abstract class JsonProvider {
      *    JSON Processing implementation. This phase of the look up is so that a platform can have
      *    its own Jakarta JSON Processing implementation as the last resort.</li>
      * </ol>
-     * Users are recommended to cache the result of this method.
+     * Users are recommended to cache the result of this method, or to use
+     * {@link #cachedProvider()} which does it for them.
      *
      * @see ServiceLoader
      * @return a JSON provider
@@ -144,6 +162,64 @@ public abstract class JsonProvider {
         return newInstance(DEFAULT_PROVIDER);
     }
 
+    /**
+     * Returns a JSON provider for the context class loader of the current thread.
+     * The provider is located with {@link #provider()} the first time this method
+     * is called for a given class loader, and the same instance is returned by
+     * subsequent calls made with that class loader, so that no look up work is
+     * repeated. This is the method used by the static factory methods of
+     * {@link jakarta.json.Json}.
+     *
+     * <p>Cached providers are strongly referenced, and a provider loaded by the
+     * class loader it is cached for keeps that class loader reachable until it
+     * is removed from the cache. Containers that redeploy applications, or
+     * applications that change the {@value #JSONP_PROVIDER_FACTORY} system
+     * property at runtime, should call {@link #clearProviderCache(ClassLoader)}
+     * or {@link #clearProviderCache()} to release the provider or force a new
+     * look up.
+     *
+     * @return a JSON provider
+     * @throws JsonException if the provider cannot be instantiated
+     *
+     * @since 2.2
+     */
+    public static JsonProvider cachedProvider() {
+        return ProviderCache.get(contextClassLoader());
+    }
+
+    /**
+     * Removes the provider cached by {@link #cachedProvider()} for the specified
+     * class loader. The next call to {@link #cachedProvider()} made with that
+     * class loader locates the provider again.
+     *
+     * @param loader the class loader, may be {@code null} to denote
+     *               the bootstrap/system class loader
+     *
+     * @since 2.2
+     */
+    public static void clearProviderCache(ClassLoader loader) {
+        ProviderCache.remove(loader);
+    }
+
+    /**
+     * Removes all the providers cached by {@link #cachedProvider()}.
+     *
+     * @since 2.2
+     */
+    public static void clearProviderCache() {
+        ProviderCache.clear();
+    }
+
+    /**
+     * Returns the context class loader of the current thread.
+     * @return the context class loader, may be {@code null}
+     */
+    private static ClassLoader contextClassLoader() {
+        return System.getSecurityManager() != null
+                ? AccessController.doPrivileged((PrivilegedAction<ClassLoader>) () -> Thread.currentThread().getContextClassLoader())
+                : Thread.currentThread().getContextClassLoader();
+    }
+
     /**
      * Creates a new instance from the specified class
      * @param className name of the class to instantiate
@@ -201,6 +277,60 @@ public abstract class JsonProvider {
      */
     public abstract JsonParser createParser(InputStream in);
 
+    /**
+     * Creates a JSON parser from the specified range of a byte array.
+     * The character encoding of the bytes is determined
+     * as defined in <a href="http://tools.ietf.org/rfc/rfc7159.txt">RFC 7159
+     * </a>. The content of the array must not be modified while the parser
+     * is in use.
+     *
+     * <p>The default implementation wraps the bytes in a {@link ByteArrayInputStream}
+     * and invokes {@link #createParser(InputStream)}.
+     *
+     * @param bytes array from which JSON is to be read
+     * @param offset offset of the first byte to read
+     * @param length number of bytes to read
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length}
+     *         do not denote a valid range of the array
+     * @throws JsonException if encoding cannot be determined
+     * @return a JSON parser
+     *
+     * @since 2.2
+     */
+    public JsonParser createParser(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || length > bytes.length - offset) {
+            throw new IndexOutOfBoundsException();
+        }
+        return createParser(new ByteArrayInputStream(bytes, offset, length));
+    }
+
+    /**
+     * Creates a JSON parser from the bytes remaining in the specified buffer,
+     * that is the bytes between its position and its limit. The buffer may
+     * be a direct buffer. The character encoding of the bytes is determined
+     * as defined in <a href="http://tools.ietf.org/rfc/rfc7159.txt">RFC 7159
+     * </a>. The position, limit and mark of the buffer are not modified, and
+     * its content must not be modified while the parser is in use.
+     *
+     * <p>The default implementation invokes {@link #createParser(byte[], int, int)}
+     * with the backing array of the buffer, if it is accessible, or with a copy
+     * of the remaining bytes otherwise.
+     *
+     * @param buffer buffer from which JSON is to be read
+     * @throws JsonException if encoding cannot be determined
+     * @return a JSON parser
+     *
+     * @since 2.2
+     */
+    public JsonParser createParser(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return createParser(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return createParser(bytes, 0, bytes.length);
+    }
+
     /**
      * Creates a parser factory for creating {@link JsonParser} instances.
      *
@@ -222,6 +352,28 @@ public abstract class JsonProvider {
      */
     public abstract JsonParserFactory createParserFactory(Map<String, ?> config);
 
+    /**
+     * Creates a reader of the JSON values at the specified depth of input fed
+     * in chunks of bytes. The values are read with a non-blocking parser
+     * created by a parser factory of this provider, and created by this
+     * provider.
+     *
+     * <p>The default implementation creates a {@link JsonFeedReader} with a
+     * parser obtained from {@link JsonParserFactory#createFeedParser()} on
+     * {@link #createParserFactory(Map)}.
+     *
+     * @param config a map of provider specific properties to configure the
+     *               JSON parser. The map may be empty or null
+     * @param depth depth of the values to read, {@code 0} for top-level values
+     * @return a JSON feed reader
+     * @throws IllegalArgumentException if {@code depth} is negative
+     *
+     * @since 2.2
+     */
+    public JsonFeedReader createFeedReader(Map<String, ?> config, int depth) {
+        return new JsonFeedReader(createParserFactory(config).createFeedParser(), this, depth);
+    }
+
     /**
      * Creates a JSON generator for writing JSON text to a character stream.
      *
@@ -238,6 +390,43 @@ public abstract class JsonProvider {
      */
     public abstract JsonGenerator createGenerator(OutputStream out);
 
+    /**
+     * Creates a JSON generator for writing JSON text to a byte channel.
+     * Characters written to the channel are encoded into bytes using UTF-8
+     * encoding.
+     *
+     * <p>The default implementation invokes {@link #createGenerator(OutputStream)}
+     * with a stream obtained from {@link Channels#newOutputStream(WritableByteChannel)},
+     * so the channel must be in blocking mode.
+     *
+     * @param channel byte channel to which JSON is written
+     * @return a JSON generator
+     *
+     * @since 2.2
+     */
+    public JsonGenerator createGenerator(WritableByteChannel channel) {
+        return createGenerator(Channels.newOutputStream(channel));
+    }
+
+    /**
+     * Creates a JSON generator for writing JSON text into a byte buffer, as
+     * described in {@link JsonGeneratorFactory#createGenerator(ByteBuffer, UnaryOperator)}.
+     *
+     * <p>The default implementation invokes
+     * {@link JsonGeneratorFactory#createGenerator(ByteBuffer, UnaryOperator)}
+     * on a factory created by {@link #createGeneratorFactory(Map)} with an
+     * empty configuration.
+     *
+     * @param buffer byte buffer into which JSON is written
+     * @param handler the handler draining the buffer
+     * @return a JSON generator
+     *
+     * @since 2.2
+     */
+    public JsonGenerator createGenerator(ByteBuffer buffer, UnaryOperator<ByteBuffer> handler) {
+        return createGeneratorFactory(Collections.emptyMap()).createGenerator(buffer, handler);
+    }
+
     /**
      * Creates a generator factory for creating {@link JsonGenerator} instances.
      *
@@ -276,6 +465,57 @@ public abstract class JsonProvider {
      */
     public abstract JsonReader createReader(InputStream in);
 
+    /**
+     * Creates a JSON reader from the specified range of a byte array. The
+     * character encoding of the bytes is determined as described in
+     * <a href="http://tools.ietf.org/rfc/rfc7159.txt">RFC 7159</a>.
+     * The content of the array must not be modified while the reader is in use.
+     *
+     * <p>The default implementation wraps the bytes in a {@link ByteArrayInputStream}
+     * and invokes {@link #createReader(InputStream)}.
+     *
+     * @param bytes array from which JSON is to be read
+     * @param offset offset of the first byte to read
+     * @param length number of bytes to read
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length}
+     *         do not denote a valid range of the array
+     * @return a JSON reader
+     *
+     * @since 2.2
+     */
+    public JsonReader createReader(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || length > bytes.length - offset) {
+            throw new IndexOutOfBoundsException();
+        }
+        return createReader(new ByteArrayInputStream(bytes, offset, length));
+    }
+
+    /**
+     * Creates a JSON reader from the bytes remaining in the specified buffer,
+     * that is the bytes between its position and its limit. The buffer may
+     * be a direct buffer. The character encoding of the bytes is determined
+     * as described in <a href="http://tools.ietf.org/rfc/rfc7159.txt">RFC 7159</a>.
+     * The position, limit and mark of the buffer are not modified, and its
+     * content must not be modified while the reader is in use.
+     *
+     * <p>The default implementation invokes {@link #createReader(byte[], int, int)}
+     * with the backing array of the buffer, if it is accessible, or with a copy
+     * of the remaining bytes otherwise.
+     *
+     * @param buffer buffer from which JSON is to be read
+     * @return a JSON reader
+     *
+     * @since 2.2
+     */
+    public JsonReader createReader(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return createReader(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return createReader(bytes, 0, bytes.length);
+    }
+
     /**
      * Creates a JSON writer to write a
      * JSON {@link JsonObject object} or {@link JsonArray array}
@@ -297,6 +537,46 @@ public abstract class JsonProvider {
      */
     public abstract JsonWriter createWriter(OutputStream out);
 
+    /**
+     * Creates a JSON writer to write a
+     * JSON {@link JsonObject object} or {@link JsonArray array}
+     * structure to the specified byte channel. Characters written to
+     * the channel are encoded into bytes using UTF-8 encoding.
+     *
+     * <p>The default implementation invokes {@link #createWriter(OutputStream)}
+     * with a stream obtained from {@link Channels#newOutputStream(WritableByteChannel)},
+     * so the channel must be in blocking mode.
+     *
+     * @param channel to which JSON object or array is written
+     * @return a JSON writer
+     *
+     * @since 2.2
+     */
+    public JsonWriter createWriter(WritableByteChannel channel) {
+        return createWriter(Channels.newOutputStream(channel));
+    }
+
+    /**
+     * Creates a JSON writer to write a
+     * JSON {@link JsonObject object} or {@link JsonArray array}
+     * structure into a byte buffer, as described in
+     * {@link JsonWriterFactory#createWriter(ByteBuffer, UnaryOperator)}.
+     *
+     * <p>The default implementation invokes
+     * {@link JsonWriterFactory#createWriter(ByteBuffer, UnaryOperator)}
+     * on a factory created by {@link #createWriterFactory(Map)} with an
+     * empty configuration.
+     *
+     * @param buffer byte buffer into which JSON is written
+     * @param handler the handler draining the buffer
+     * @return a JSON writer
+     *
+     * @since 2.2
+     */
+    public JsonWriter createWriter(ByteBuffer buffer, UnaryOperator<ByteBuffer> handler) {
+        return createWriterFactory(Collections.emptyMap()).createWriter(buffer, handler);
+    }
+
     /**
      * Creates a writer factory for creating {@link JsonWriter} objects.
      * The factory is configured with the specified map of provider specific
@@ -394,6 +674,41 @@ public abstract class JsonProvider {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Returns a compiled JSON Pointer (<a href="http://tools.ietf.org/html/rfc6901">RFC 6901</a>)
+     * for the given {@code jsonPointer} string. A compiled pointer behaves as the
+     * pointer returned by {@link #createPointer(String)}, but decodes its
+     * reference tokens and array indexes once, so that
+     * {@link JsonPointer#getReferenceTokens()} and {@link JsonPointer#getArrayIndex(int)}
+     * do not repeat any string processing. Compiled pointers are kept in a
+     * bounded cache of this provider, cleared when full, and the same instance
+     * may be returned for equal {@code jsonPointer} strings. Compiled pointers
+     * are equal if they have the same {@link JsonPointer#toString() string
+     * representation}, and their hash code is the hash code of that string;
+     * they are not equal to the pointers returned by {@link #createPointer(String)}.
+     *
+     * @param jsonPointer the JSON Pointer string
+     * @throws NullPointerException if {@code jsonPointer} is {@code null}
+     * @throws JsonException if {@code jsonPointer} is not a valid JSON Pointer
+     * @return a compiled JSON Pointer
+     *
+     * @since 2.2
+     */
+    public JsonPointer compilePointer(String jsonPointer) {
+        JsonPointer pointer = compiledPointers.get(jsonPointer);
+        if (pointer == null) {
+            pointer = new CompiledPointer(createPointer(jsonPointer));
+            if (compiledPointers.size() >= POINTER_CACHE_SIZE) {
+                compiledPointers.clear();
+            }
+            JsonPointer cached = compiledPointers.putIfAbsent(jsonPointer, pointer);
+            if (cached != null) {
+                pointer = cached;
+            }
+        }
+        return pointer;
+    }
+
     /**
      * Creates a JSON Patch builder (<a href="http://tools.ietf.org/html/rfc6902">RFC 6902</a>).
      *
@@ -432,6 +747,32 @@ public abstract class JsonProvider {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Compiles a JSON Patch (<a href="http://tools.ietf.org/html/rfc6902">RFC 6902</a>)
+     * from the specified operations. The operations are validated and their
+     * pointers compiled once, so that the returned patch can be applied to
+     * many targets efficiently. Its {@link JsonPatch#apply(JsonStructure) apply}
+     * method yields the same results as the one of the patch returned by
+     * {@link #createPatch(JsonArray)}, but modifies a mutable working copy of
+     * the target in place, and only builds the patched {@code JsonStructure}
+     * once all the operations have been applied.
+     *
+     * <p>The default implementation copies the containers modified by the
+     * operations into a working tree, and builds the patched values with
+     * {@link #createObjectBuilder()} and {@link #createArrayBuilder()}.
+     * Providers may override this method to apply the operations to their own
+     * mutable representation of JSON values.
+     *
+     * @param array patch operations
+     * @return a compiled JSON Patch
+     * @throws JsonException if an operation is not a valid JSON Patch operation
+     *
+     * @since 2.2
+     */
+    public JsonPatch compilePatch(JsonArray array) {
+        return new CompiledPatch(this, array);
+    }
+
     /**
      * Generates a JSON Patch (<a href="http://tools.ietf.org/html/rfc6902">RFC 6902</a>)
      * from the source and target {@code JsonStructure}.
@@ -447,6 +788,38 @@ public abstract class JsonProvider {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Generates a JSON Patch (<a href="http://tools.ietf.org/html/rfc6902">RFC 6902</a>)
+     * from the source and target {@code JsonStructure}, bounding the cost of
+     * the comparison of arrays.
+     * Objects are compared member by member. The elements of arrays are
+     * compared by hash code first, and a shortest edit script between them
+     * is computed in linear space
+     * (<a href="https://doi.org/10.1007/BF01840446">Myers</a>): elements
+     * removed from the source and equal to elements inserted in the target
+     * are moved, elements removed and inserted at the same position are
+     * compared in turn, and the others are removed or added.
+     * If more than {@code costLimit} elements must be inserted or removed to
+     * transform a source array into the target array, the comparison stops and
+     * the array is replaced as a whole, so that the time spent comparing an
+     * array of {@code n} elements is bounded by {@code O(n * costLimit)}.
+     *
+     * @param source the source
+     * @param target the target, must be the same type as the source
+     * @param costLimit the maximum number of elements inserted or removed
+     *        when comparing two arrays
+     * @return a JSON Patch which when applied to the source, yields the target
+     * @throws IllegalArgumentException if {@code costLimit} is negative
+     *
+     * @since 2.2
+     */
+    public JsonPatch createDiff(JsonStructure source, JsonStructure target, int costLimit) {
+        if (costLimit < 0) {
+            throw new IllegalArgumentException("Negative cost limit: " + costLimit);
+        }
+        return new StructureDiff(this, costLimit).diff(source, target);
+    }
+
     /**
      * Creates JSON Merge Patch (<a href="http://tools.ietf.org/html/rfc7396">RFC 7396</a>)
      * from specified {@code JsonValue}.
@@ -605,6 +978,156 @@ public abstract class JsonProvider {
         }
     }
 
+    /**
+     * Cache of the providers returned by {@link #cachedProvider()}, keyed by
+     * the context class loader the look up was done with.
+     *
+     * <p>Reads are lock free and scan a small copy-on-write array; the set of
+     * class loaders in use is expected to be small. Providers are located
+     * without holding any lock, and only updates of the array are done while
+     * holding one. A generation counter, incremented by every removal, keeps a
+     * provider located before a removal from being cached after it. Class
+     * loaders are weakly referenced and providers strongly referenced, so a
+     * provider is kept until it is removed or its class loader is collected.
+     */
+    private static final class ProviderCache {
+
+        /** Cached entries, replaced as a whole on every update. */
+        private static volatile Entry[] entries = new Entry[0];
+
+        /** Guards updates of {@link #entries} and {@link #generation}. */
+        private static final Object LOCK = new Object();
+
+        /** Number of removals, read before locating a provider. */
+        private static volatile int generation;
+
+        /** No instantiation. */
+        private ProviderCache() {
+        }
+
+        /**
+         * Returns the provider cached for the given class loader, locating
+         * and caching it when there is none yet.
+         * @param loader the class loader
+         * @return the JsonProvider instance
+         */
+        static JsonProvider get(ClassLoader loader) {
+            JsonProvider cached = find(loader);
+            if (cached != null) {
+                return cached;
+            }
+            int seen = generation;
+            JsonProvider provider = provider();
+            synchronized (LOCK) {
+                cached = find(loader);
+                if (cached != null) {
+                    return cached;
+                }
+                if (seen == generation) {
+                    List<Entry> updated = live(loader);
+                    updated.add(new Entry(loader, provider));
+                    entries = updated.toArray(new Entry[0]);
+                }
+                return provider;
+            }
+        }
+
+        /**
+         * Returns the provider cached for the given class loader.
+         * @param loader the class loader
+         * @return the cached provider, or {@code null} if there is none
+         */
+        private static JsonProvider find(ClassLoader loader) {
+            for (Entry entry : entries) {
+                if (entry.matches(loader)) {
+                    return entry.provider;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Removes the provider cached for the given class loader.
+         * @param loader the class loader
+         */
+        static void remove(ClassLoader loader) {
+            synchronized (LOCK) {
+                generation++;
+                entries = live(loader).toArray(new Entry[0]);
+            }
+        }
+
+        /**
+         * Removes all the cached providers.
+         */
+        static void clear() {
+            synchronized (LOCK) {
+                generation++;
+                entries = new Entry[0];
+            }
+        }
+
+        /**
+         * Returns the entries which are still in use, except the one of the
+         * given class loader. Must be called while holding {@link #LOCK}.
+         * @param loader the class loader to drop
+         * @return a mutable copy of the live entries
+         */
+        private static List<Entry> live(ClassLoader loader) {
+            List<Entry> live = new ArrayList<>(entries.length + 1);
+            for (Entry entry : entries) {
+                if (!entry.matches(loader) && !entry.isCleared()) {
+                    live.add(entry);
+                }
+            }
+            return live;
+        }
+
+        /**
+         * A class loader and the provider located with it.
+         */
+        private static final class Entry {
+
+            /** Whether the look up was done with a {@code null} class loader. */
+            private final boolean nullLoader;
+
+            /** The class loader, weakly referenced. */
+            private final WeakReference<ClassLoader> loader;
+
+            /** The provider. */
+            private final JsonProvider provider;
+
+            /**
+             * Creates a new cache entry.
+             * @param loader the class loader
+             * @param provider the provider located with the class loader
+             */
+            Entry(ClassLoader loader, JsonProvider provider) {
+                this.nullLoader = loader == null;
+                this.loader = new WeakReference<>(loader);
+                this.provider = provider;
+            }
+
+            /**
+             * Checks whether this entry belongs to the given class loader.
+             * @param cl the class loader
+             * @return true if this entry was created for the class loader
+             */
+            boolean matches(ClassLoader cl) {
+                return cl == null ? nullLoader : loader.get() == cl;
+            }
+
+            /**
+             * Checks whether the class loader of this entry has been garbage
+             * collected.
+             * @return true if this entry is no longer usable
+             */
+            boolean isCleared() {
+                return !nullLoader && loader.get() == null;
+            }
+        }
+    }
+
     /** OSGI aware service loader by HK2 */
     private static final String OSGI_SERVICE_LOADER_CLASS_NAME = "org.glassfish.hk2.osgiresourcelocator.ServiceLoader";
 
@@ -0,0 +1,430 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.json.spi;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonPatch;
+import jakarta.json.JsonPatchBuilder;
+import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
+
+/**
+ * Private implementation of {@link JsonProvider#createDiff(JsonStructure, JsonStructure, int)}.
+ * Objects are compared member by member. Arrays are compared with the linear
+ * space variant of the Myers algorithm, on the hash codes of their elements
+ * first: elements of the source which are not part of the longest common
+ * subsequence are moved if an equal element is inserted in the target, and
+ * otherwise compared with the element inserted at the same position, or
+ * removed.
+ */
+final class StructureDiff {
+
+    /** Role of a source element which is part of the longest common subsequence. */
+    private static final int KEPT = 0;
+
+    /** Role of a source element which is removed or replaced. */
+    private static final int REMOVED = 1;
+
+    /** Role of a source element which is moved. */
+    private static final int MOVED = 2;
+
+    /** Builder of the patch. */
+    private final JsonPatchBuilder builder;
+
+    /** Maximum number of elements inserted or removed in an array. */
+    private final int costLimit;
+
+    /**
+     * Creates a diff.
+     * @param provider the provider creating the patch builder
+     * @param costLimit the maximum number of elements inserted or removed in an array
+     */
+    StructureDiff(JsonProvider provider, int costLimit) {
+        this.builder = provider.createPatchBuilder();
+        this.costLimit = costLimit;
+    }
+
+    /**
+     * Generates the patch from the source to the target.
+     * @param source the source
+     * @param target the target
+     * @return the patch
+     */
+    JsonPatch diff(JsonStructure source, JsonStructure target) {
+        diff("", source, target);
+        return builder.build();
+    }
+
+    /**
+     * Adds the operations transforming a source value to a target value.
+     * @param path the pointer to the value
+     * @param source the source value
+     * @param target the target value
+     */
+    private void diff(String path, JsonValue source, JsonValue target) {
+        if (source.equals(target)) {
+            return;
+        }
+        JsonValue.ValueType type = source.getValueType();
+        if (type != target.getValueType()) {
+            builder.replace(path, target);
+        } else if (type == JsonValue.ValueType.OBJECT) {
+            diffObjects(path, source.asJsonObject(), target.asJsonObject());
+        } else if (type == JsonValue.ValueType.ARRAY) {
+            if (!new ArrayDiff(path, source.asJsonArray(), target.asJsonArray()).diff()) {
+                builder.replace(path, target);
+            }
+        } else {
+            builder.replace(path, target);
+        }
+    }
+
+    /**
+     * Adds the operations transforming a source object to a target object.
+     * @param path the pointer to the object
+     * @param source the source object
+     * @param target the target object
+     */
+    private void diffObjects(String path, JsonObject source, JsonObject target) {
+        for (Map.Entry<String, JsonValue> member : source.entrySet()) {
+            JsonValue value = target.get(member.getKey());
+            if (value == null) {
+                builder.remove(path + '/' + encode(member.getKey()));
+            } else {
+                diff(path + '/' + encode(member.getKey()), member.getValue(), value);
+            }
+        }
+        for (Map.Entry<String, JsonValue> member : target.entrySet()) {
+            if (!source.containsKey(member.getKey())) {
+                builder.add(path + '/' + encode(member.getKey()), member.getValue());
+            }
+        }
+    }
+
+    /**
+     * Encodes a name as a JSON Pointer reference token.
+     * @param name the name
+     * @return the reference token
+     */
+    private static String encode(String name) {
+        return name.replace("~", "~0").replace("/", "~1");
+    }
+
+    /**
+     * Comparison of a source array with a target array.
+     */
+    private final class ArrayDiff {
+
+        /** Pointer to the array. */
+        private final String path;
+
+        /** Elements of the source. */
+        private final List<JsonValue> a;
+
+        /** Elements of the target. */
+        private final List<JsonValue> b;
+
+        /** Hash codes of the elements of the source. */
+        private final int[] ha;
+
+        /** Hash codes of the elements of the target. */
+        private final int[] hb;
+
+        /** Roles of the elements of the source. */
+        private final int[] roles;
+
+        /** Index of the source element kept at each target index, or -1. */
+        private final int[] kept;
+
+        /** Index of the source element moved to each target index, or -1. */
+        private final int[] moved;
+
+        /**
+         * Creates a comparison.
+         * @param path the pointer to the array
+         * @param source the source array
+         * @param target the target array
+         */
+        ArrayDiff(String path, JsonArray source, JsonArray target) {
+            this.path = path;
+            this.a = source;
+            this.b = target;
+            this.ha = hashCodes(source);
+            this.hb = hashCodes(target);
+            this.roles = new int[source.size()];
+            this.kept = new int[target.size()];
+            this.moved = new int[target.size()];
+            Arrays.fill(roles, REMOVED);
+            Arrays.fill(kept, -1);
+            Arrays.fill(moved, -1);
+        }
+
+        /**
+         * Adds the operations transforming the source array to the target array.
+         * @return {@code false} if the arrays differ by more than the cost limit
+         */
+        boolean diff() {
+            if (!lcs(0, a.size(), 0, b.size(), true)) {
+                return false;
+            }
+            findMoves();
+            writeOperations();
+            return true;
+        }
+
+        /**
+         * Returns whether a source element equals a target element.
+         * @param i the index of the source element
+         * @param j the index of the target element
+         * @return whether the elements are equal
+         */
+        private boolean equal(int i, int j) {
+            return ha[i] == hb[j] && a.get(i).equals(b.get(j));
+        }
+
+        /**
+         * Records a source element kept at a target index.
+         * @param i the index of the source element
+         * @param j the index of the target element
+         */
+        private void keep(int i, int j) {
+            roles[i] = KEPT;
+            kept[j] = i;
+        }
+
+        /**
+         * Finds the longest common subsequence of ranges of the source and
+         * target elements.
+         * @param aLo the start of the source range
+         * @param aHi the end of the source range
+         * @param bLo the start of the target range
+         * @param bHi the end of the target range
+         * @param limited whether the cost limit applies to the ranges
+         * @return {@code false} if the ranges differ by more than the cost limit
+         */
+        private boolean lcs(int aLo, int aHi, int bLo, int bHi, boolean limited) {
+            while (aLo < aHi && bLo < bHi && equal(aLo, bLo)) {
+                keep(aLo++, bLo++);
+            }
+            while (aLo < aHi && bLo < bHi && equal(aHi - 1, bHi - 1)) {
+                keep(--aHi, --bHi);
+            }
+            if (aLo == aHi || bLo == bHi) {
+                return !limited || (aHi - aLo) + (bHi - bLo) <= costLimit;
+            }
+            int[] snake = middleSnake(aLo, aHi, bLo, bHi, limited ? costLimit : Integer.MAX_VALUE);
+            if (snake == null) {
+                return false;
+            }
+            lcs(aLo, snake[0], bLo, snake[1], false);
+            for (int x = snake[0], y = snake[1]; x < snake[2]; x++, y++) {
+                keep(x, y);
+            }
+            lcs(snake[2], aHi, snake[3], bHi, false);
+            return true;
+        }
+
+        /**
+         * Finds the middle snake of the shortest edit script of ranges of
+         * the source and target elements.
+         * @param aLo the start of the source range
+         * @param aHi the end of the source range
+         * @param bLo the start of the target range
+         * @param bHi the end of the target range
+         * @param limit the maximum length of the edit script
+         * @return the source and target start and end indexes of the snake,
+         *         or {@code null} if the edit script is longer than the limit
+         */
+        private int[] middleSnake(int aLo, int aHi, int bLo, int bHi, int limit) {
+            int n = aHi - aLo;
+            int m = bHi - bLo;
+            int delta = n - m;
+            boolean odd = (delta & 1) != 0;
+            int max = Math.min((n + m + 1) / 2, limit / 2 + 1);
+            int offset = max + 1;
+            int[] vf = new int[2 * max + 3];
+            int[] vb = new int[2 * max + 3];
+            for (int d = 0; d <= max; d++) {
+                if (2 * d - 1 > limit) {
+                    return null;
+                }
+                for (int k = -d; k <= d; k += 2) {
+                    int x = k == -d || (k != d && vf[offset + k - 1] < vf[offset + k + 1])
+                            ? vf[offset + k + 1]
+                            : vf[offset + k - 1] + 1;
+                    int y = x - k;
+                    int xs = x;
+                    int ys = y;
+                    while (x < n && y < m && equal(aLo + x, bLo + y)) {
+                        x++;
+                        y++;
+                    }
+                    vf[offset + k] = x;
+                    int kb = delta - k;
+                    if (odd && kb >= -(d - 1) && kb <= d - 1 && x + vb[offset + kb] >= n) {
+                        return new int[] {aLo + xs, bLo + ys, aLo + x, bLo + y};
+                    }
+                }
+                if (2 * d > limit) {
+                    return null;
+                }
+                for (int k = -d; k <= d; k += 2) {
+                    int x = k == -d || (k != d && vb[offset + k - 1] < vb[offset + k + 1])
+                            ? vb[offset + k + 1]
+                            : vb[offset + k - 1] + 1;
+                    int y = x - k;
+                    int xs = x;
+                    int ys = y;
+                    while (x < n && y < m && equal(aHi - x - 1, bHi - y - 1)) {
+                        x++;
+                        y++;
+                    }
+                    vb[offset + k] = x;
+                    int kf = delta - k;
+                    if (!odd && kf >= -d && kf <= d && x + vf[offset + kf] >= n) {
+                        return new int[] {aHi - x, bHi - y, aHi - xs, bHi - ys};
+                    }
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Pairs the removed source elements with equal inserted target elements.
+         */
+        private void findMoves() {
+            Map<Integer, ArrayDeque<Integer>> removed = new HashMap<>();
+            for (int i = 0; i < roles.length; i++) {
+                if (roles[i] == REMOVED) {
+                    removed.computeIfAbsent(ha[i], h -> new ArrayDeque<>()).add(i);
+                }
+            }
+            if (removed.isEmpty()) {
+                return;
+            }
+            for (int j = 0; j < kept.length; j++) {
+                ArrayDeque<Integer> candidates = kept[j] < 0 ? removed.get(hb[j]) : null;
+                if (candidates != null) {
+                    for (Iterator<Integer> it = candidates.iterator(); it.hasNext();) {
+                        int i = it.next();
+                        if (a.get(i).equals(b.get(j))) {
+                            it.remove();
+                            roles[i] = MOVED;
+                            moved[j] = i;
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Adds the operations moving an element within the array. Some
+         * providers compare the {@code from} and {@code path} pointers of a
+         * {@code move} as strings and reject the operation when {@code from}
+         * is a prefix of {@code path}, as for {@code /1} and {@code /10}; the
+         * element is then removed and added instead.
+         * @param from the index of the moved element
+         * @param to the index of the element once moved
+         * @param value the moved element
+         */
+        private void move(int from, int to, JsonValue value) {
+            String fromPath = path + '/' + from;
+            String toPath = path + '/' + to;
+            if (toPath.startsWith(fromPath)) {
+                builder.remove(fromPath);
+                builder.add(toPath, value);
+            } else {
+                builder.move(toPath, fromPath);
+            }
+        }
+
+        /**
+         * Adds the operations, following the target elements in order and
+         * keeping track of the current content of the array.
+         */
+        private void writeOperations() {
+            int[] current = new int[a.size() + b.size()];
+            int size = a.size();
+            for (int i = 0; i < size; i++) {
+                current[i] = i;
+            }
+            int p = 0;
+            for (int j = 0; j < b.size(); j++) {
+                if (kept[j] >= 0) {
+                    int k = p;
+                    while (current[k] != kept[j]) {
+                        if (current[k] >= 0 && roles[current[k]] == REMOVED) {
+                            builder.remove(path + '/' + k);
+                            System.arraycopy(current, k + 1, current, k, --size - k);
+                        } else {
+                            k++;
+                        }
+                    }
+                    current[k] = -1;
+                    p = k + 1;
+                } else if (moved[j] >= 0) {
+                    int k = 0;
+                    while (current[k] != moved[j]) {
+                        k++;
+                    }
+                    int to = k < p ? p - 1 : p;
+                    if (k != to) {
+                        move(k, to, b.get(j));
+                        System.arraycopy(current, k + 1, current, k, size - k - 1);
+                        System.arraycopy(current, to, current, to + 1, size - to - 1);
+                    }
+                    current[to] = -1;
+                    p = to + 1;
+                } else if (p < size && current[p] >= 0 && roles[current[p]] == REMOVED) {
+                    StructureDiff.this.diff(path + '/' + p, a.get(current[p]), b.get(j));
+                    current[p++] = -1;
+                } else {
+                    builder.add(path + '/' + p, b.get(j));
+                    System.arraycopy(current, p, current, p + 1, size++ - p);
+                    current[p++] = -1;
+                }
+            }
+            for (int k = size - 1; k >= 0; k--) {
+                if (current[k] >= 0 && roles[current[k]] == REMOVED) {
+                    builder.remove(path + '/' + k);
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the hash codes of the elements of an array.
+     * @param array the array
+     * @return the hash codes
+     */
+    private static int[] hashCodes(JsonArray array) {
+        int[] hashCodes = new int[array.size()];
+        for (int i = 0; i < hashCodes.length; i++) {
+            hashCodes[i] = array.get(i).hashCode();
+        }
+        return hashCodes;
+    }
+}
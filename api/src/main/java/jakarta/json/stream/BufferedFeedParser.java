@@ -0,0 +1,461 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.json.stream;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+/**
+ * Private implementation of {@link JsonFeedParser} used by the default
+ * {@link JsonParserFactory#createFeedParser()} method. The fed bytes are
+ * accumulated and scanned until they contain the whole top-level value,
+ * which is then parsed by a parser created by the factory, to which all
+ * the methods delegate. The bytes fed after the value are only checked to be
+ * whitespace and are not kept. Input in another encoding than UTF-8 is
+ * accumulated until the end of the input is signalled.
+ */
+final class BufferedFeedParser implements JsonFeedParser {
+
+    /** Location returned while no input has been parsed. */
+    private static final JsonLocation UNKNOWN_LOCATION = new UnknownLocation();
+
+    /** Factory creating the delegate parser. */
+    private final JsonParserFactory factory;
+
+    /** Bytes fed so far, up to the end of the top-level value. */
+    private byte[] bytes = new byte[256];
+
+    /** Number of bytes kept in {@link #bytes}. */
+    private int count;
+
+    /** Offset of the next byte to scan. */
+    private int scanned;
+
+    /** Whether the input is UTF-8, or {@code null} while it is not known yet. */
+    private Boolean utf8;
+
+    /** Whether the top-level value has started. */
+    private boolean started;
+
+    /** Whether the top-level value is a number or a literal. */
+    private boolean scalar;
+
+    /** Number of arrays and objects the scanned bytes are in. */
+    private int depth;
+
+    /** Whether the scanned bytes are in a string. */
+    private boolean inString;
+
+    /** Whether the last scanned byte is a backslash escaping the next one in a string. */
+    private boolean escaped;
+
+    /** Whether content other than whitespace was fed after the top-level value. */
+    private boolean trailing;
+
+    /** Whether the end of the input has been signalled. */
+    private boolean ended;
+
+    /** Parser of the top-level value, created once the value is complete. */
+    private JsonParser parser;
+
+    /** Whether this parser has been closed. */
+    private boolean closed;
+
+    /**
+     * Creates a new parser.
+     * @param factory the factory creating the delegate parser
+     */
+    BufferedFeedParser(JsonParserFactory factory) {
+        this.factory = factory;
+    }
+
+    @Override
+    public void feed(ByteBuffer input) {
+        ensureOpen();
+        if (ended) {
+            throw new IllegalStateException("End of input already signalled");
+        }
+        if (parser != null) {
+            while (input.hasRemaining()) {
+                if (!isWhitespace(input.get())) {
+                    trailing = true;
+                }
+            }
+            return;
+        }
+        int length = input.remaining();
+        if (length > bytes.length - count) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, Math.addExact(count, length)));
+        }
+        input.get(bytes, count, length);
+        count += length;
+        scan();
+    }
+
+    @Override
+    public void endOfInput() {
+        ensureOpen();
+        if (!ended) {
+            ended = true;
+            if (parser == null) {
+                parser = factory.createParser(bytes, 0, count);
+            }
+        }
+    }
+
+    @Override
+    public Status advance() {
+        ensureOpen();
+        if (parser == null) {
+            return Status.NEED_MORE_INPUT;
+        }
+        if (parser.hasNext()) {
+            parser.next();
+            return Status.EVENT;
+        }
+        checkTrailing();
+        return ended ? Status.END : Status.NEED_MORE_INPUT;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (parser().hasNext()) {
+            return true;
+        }
+        checkTrailing();
+        if (!ended) {
+            throw new IllegalStateException("More input is needed");
+        }
+        return false;
+    }
+
+    @Override
+    public Event next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return parser.next();
+    }
+
+    @Override
+    public Event currentEvent() {
+        return parser == null ? null : parser.currentEvent();
+    }
+
+    @Override
+    public String getString() {
+        return parser().getString();
+    }
+
+    @Override
+    public CharSequence getCharSequence() {
+        return parser().getCharSequence();
+    }
+
+    @Override
+    public boolean keyEquals(String name) {
+        return parser().keyEquals(name);
+    }
+
+    @Override
+    public int nextKey(KeySet keys) {
+        return parser().nextKey(keys);
+    }
+
+    @Override
+    public boolean isIntegralNumber() {
+        return parser().isIntegralNumber();
+    }
+
+    @Override
+    public int getInt() {
+        return parser().getInt();
+    }
+
+    @Override
+    public long getLong() {
+        return parser().getLong();
+    }
+
+    @Override
+    public double getDouble() {
+        return parser().getDouble();
+    }
+
+    @Override
+    public boolean isLongValue() {
+        return parser().isLongValue();
+    }
+
+    @Override
+    public boolean isDoubleExact() {
+        return parser().isDoubleExact();
+    }
+
+    @Override
+    public BigDecimal getBigDecimal() {
+        return parser().getBigDecimal();
+    }
+
+    @Override
+    public double[] readDoubleArray() {
+        return parser().readDoubleArray();
+    }
+
+    @Override
+    public int readDoubleArray(double[] buffer, int offset, int length) {
+        return parser().readDoubleArray(buffer, offset, length);
+    }
+
+    @Override
+    public long[] readLongArray() {
+        return parser().readLongArray();
+    }
+
+    @Override
+    public int readLongArray(long[] buffer, int offset, int length) {
+        return parser().readLongArray(buffer, offset, length);
+    }
+
+    @Override
+    public JsonLocation getLocation() {
+        return parser == null ? UNKNOWN_LOCATION : parser.getLocation();
+    }
+
+    @Override
+    public JsonObject getObject() {
+        return parser().getObject();
+    }
+
+    @Override
+    public JsonValue getValue() {
+        return parser().getValue();
+    }
+
+    @Override
+    public JsonArray getArray() {
+        return parser().getArray();
+    }
+
+    @Override
+    public Stream<JsonValue> getArrayStream() {
+        return parser().getArrayStream();
+    }
+
+    @Override
+    public Stream<Map.Entry<String, JsonValue>> getObjectStream() {
+        return parser().getObjectStream();
+    }
+
+    @Override
+    public Stream<JsonValue> getValueStream() {
+        return parser().getValueStream();
+    }
+
+    @Override
+    public void skipArray() {
+        parser().skipArray();
+    }
+
+    @Override
+    public void skipObject() {
+        parser().skipObject();
+    }
+
+    @Override
+    public void skipChildren() {
+        parser().skipChildren();
+    }
+
+    @Override
+    public void skipValue() {
+        parser().skipValue();
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            bytes = null;
+            if (parser != null) {
+                parser.close();
+            }
+        }
+    }
+
+    /**
+     * Scans the bytes fed since the last call, and creates the delegate parser
+     * if they complete the top-level value. The bytes of the value are ASCII
+     * characters or parts of UTF-8 multi-byte characters, which never match
+     * an ASCII character, so they can be scanned one at a time.
+     */
+    private void scan() {
+        if (utf8 == null) {
+            if (count < 2) {
+                return;
+            }
+            // RFC 4627: the first two characters are ASCII, so a zero byte means UTF-16 or UTF-32
+            int b0 = bytes[0] & 0xFF;
+            int b1 = bytes[1] & 0xFF;
+            utf8 = b0 != 0 && b1 != 0 && !(b0 == 0xFE && b1 == 0xFF) && !(b0 == 0xFF && b1 == 0xFE);
+        }
+        if (!utf8) {
+            return;
+        }
+        if (scanned == 0 && (bytes[0] & 0xFF) == 0xEF) {
+            if (count < 3) {
+                return;
+            }
+            if ((bytes[1] & 0xFF) == 0xBB && (bytes[2] & 0xFF) == 0xBF) {
+                scanned = 3;
+            }
+        }
+        for (; scanned < count; scanned++) {
+            byte b = bytes[scanned];
+            if (!started) {
+                if (isWhitespace(b)) {
+                    continue;
+                }
+                started = true;
+                if (b == '{' || b == '[') {
+                    depth = 1;
+                } else if (b == '"') {
+                    inString = true;
+                } else if (b == '}' || b == ']' || b == ',' || b == ':') {
+                    // invalid, reported by the delegate parser
+                    complete(scanned + 1);
+                    return;
+                } else {
+                    scalar = true;
+                }
+            } else if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (b == '\\') {
+                    escaped = true;
+                } else if (b == '"') {
+                    inString = false;
+                    if (depth == 0) {
+                        complete(scanned + 1);
+                        return;
+                    }
+                }
+            } else if (scalar) {
+                if (isWhitespace(b) || b == '{' || b == '}' || b == '[' || b == ']'
+                        || b == ',' || b == ':' || b == '"') {
+                    complete(scanned);
+                    return;
+                }
+            } else if (b == '"') {
+                inString = true;
+            } else if (b == '{' || b == '[') {
+                depth++;
+            } else if ((b == '}' || b == ']') && --depth == 0) {
+                complete(scanned + 1);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Creates the delegate parser of the top-level value, and checks the bytes
+     * fed after it.
+     * @param end the offset of the end of the value
+     */
+    private void complete(int end) {
+        parser = factory.createParser(bytes, 0, end);
+        for (int i = end; i < count; i++) {
+            if (!isWhitespace(bytes[i])) {
+                trailing = true;
+            }
+        }
+        count = end;
+    }
+
+    /**
+     * Checks that no content other than whitespace was fed after the
+     * top-level value.
+     * @throws JsonParsingException if there is such content
+     */
+    private void checkTrailing() {
+        if (trailing) {
+            throw new JsonParsingException("Expected the end of the input after the JSON value",
+                    parser.getLocation());
+        }
+    }
+
+    /**
+     * Tests whether a byte is JSON whitespace.
+     * @param b the byte
+     * @return whether the byte is a space, a tab, a line feed or a carriage return
+     */
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+    }
+
+    /**
+     * Returns the delegate parser.
+     * @return the parser of the top-level value
+     * @throws IllegalStateException if the parser is closed or more input is
+     *     needed to complete the top-level value
+     */
+    private JsonParser parser() {
+        ensureOpen();
+        if (parser == null) {
+            throw new IllegalStateException("More input is needed");
+        }
+        return parser;
+    }
+
+    /**
+     * Checks this parser is still open.
+     * @throws IllegalStateException if the parser is closed
+     */
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Parser closed");
+        }
+    }
+
+    /**
+     * Location without any information.
+     */
+    private static final class UnknownLocation implements JsonLocation {
+
+        @Override
+        public long getLineNumber() {
+            return -1;
+        }
+
+        @Override
+        public long getColumnNumber() {
+            return -1;
+        }
+
+        @Override
+        public long getStreamOffset() {
+            return -1;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -18,6 +18,9 @@ package jakarta.json.stream;
 
 import java.util.Map;
 import java.util.HashMap;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collector;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
@@ -33,7 +36,8 @@ import jakarta.json.JsonException;
 
 /**
  * This class contains some implementations of {@code java.util.stream.Collector} for accumulating
- * {@link JsonValue}s into {@link JsonArray} and {@link JsonObject}.
+ * {@link JsonValue}s into {@link JsonArray} and {@link JsonObject}, or for writing them to a
+ * {@link JsonGenerator}.
  *
  * @since 1.1
  */
@@ -74,6 +78,65 @@ public final class JsonCollectors {
                 JsonObjectBuilder::build);
     }
 
+    /**
+     * Constructs a {@code java.util.stream.Collector} that writes the input {@code JsonValue}
+     * elements to a JSON array of the specified {@code JsonGenerator}, as they are collected,
+     * instead of accumulating them into a {@code JsonArray}. The start of the array is
+     * written with {@link JsonGenerator#writeStartArray()} before the first element, so the
+     * generator may be at the top level, in an array, or after
+     * {@link JsonGenerator#writeKey(String)}. The end of the array is written when the
+     * collection completes, and the generator is returned, neither flushed nor closed.
+     * <pre>{@code
+     *   try (JsonGenerator generator = Json.createGenerator(out)) {
+     *       rows.map(Row::toJson).collect(JsonCollectors.writingTo(generator));
+     *   }
+     * }</pre>
+     *
+     * <p>The elements of a sequential stream are written in encounter order. The elements
+     * of a parallel stream are written concurrently, in no particular order, the writes to
+     * the generator being synchronized. The returned collector writes to the specified
+     * generator, so it can be used for one stream only.
+     *
+     * @param generator the generator to write the elements to
+     * @return the constructed Collector
+     *
+     * @since 2.2
+     */
+    public static Collector<JsonValue, ?, JsonGenerator> writingTo(JsonGenerator generator) {
+        GeneratorWriter writer = new GeneratorWriter(generator, false);
+        return Collector.of(
+                () -> writer,
+                GeneratorWriter::write,
+                (w1, w2) -> w1,
+                GeneratorWriter::finish,
+                Collector.Characteristics.CONCURRENT,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Constructs a {@code java.util.stream.Collector} that writes the input
+     * {@code Map.Entry<String,JsonValue>} elements to a JSON object of the specified
+     * {@code JsonGenerator}, as they are collected, instead of accumulating them into a
+     * {@code JsonObject}. The start and the end of the object are written as by
+     * {@link #writingTo(JsonGenerator)} for the array.
+     *
+     * @param generator the generator to write the elements to
+     * @return the constructed Collector
+     *
+     * @see #writingTo(JsonGenerator)
+     * @since 2.2
+     */
+    public static Collector<Map.Entry<String, JsonValue>, ?, JsonGenerator> writingEntriesTo(JsonGenerator generator) {
+        GeneratorWriter writer = new GeneratorWriter(generator, true);
+        return Collector.of(
+                () -> writer,
+                GeneratorWriter::write,
+                (w1, w2) -> w1,
+                GeneratorWriter::finish,
+                Collector.Characteristics.CONCURRENT,
+                Collector.Characteristics.UNORDERED);
+    }
+
     /**
      * Constructs a {@code java.util.stream.Collector} that accumulates the input {@code JsonValue}
      * elements into a {@code JsonObject}.  The name/value pairs of the {@code JsonObject} are computed
@@ -101,6 +164,8 @@ public final class JsonCollectors {
      * A reduction operation is performed on the {@code JsonValue}s in each group, using the
      * downstream {@code Collector}. For each group, the key and the results of the reduction operation
      * become the name/value pairs of the resultant {@code JsonObject}.
+     * When the collector is used on a parallel stream, the intermediate accumulations of a group
+     * are merged with the combiner of the downstream {@code Collector}.
      *
      * @param <T> the intermediate accumulation {@code JsonArrayBuilder} of the downstream collector
      * @param classifier a function mapping the input {@code JsonValue}s to a String, producing keys
@@ -114,35 +179,14 @@ public final class JsonCollectors {
 
         BiConsumer<Map<String, T>, JsonValue> accumulator =
             (map, value) -> {
-                String key = classifier.apply(value);
-                if (key == null) {
-                    throw new JsonException("element cannot be mapped to a null key");
-                }
                 // Build a map of key to JsonArrayBuilder
                 T arrayBuilder =
-                    map.computeIfAbsent(key, v->downstream.supplier().get());
+                    map.computeIfAbsent(groupingKey(classifier, value), v->downstream.supplier().get());
                 // Add elements from downstream Collector to the arrayBuilder.
                 downstream.accumulator().accept(arrayBuilder, value);
             };
-        Function<Map<String, T>, JsonObject> finisher =
-            map -> {
-                // transform the map of name: JsonArrayBuilder to
-                //                      name: JsonArray
-                // using the downstream collector for reducing the JsonArray
-                JsonObjectBuilder objectBuilder = Json.createObjectBuilder();
-                map.forEach((k, v) -> {
-                    JsonArray array = downstream.finisher().apply(v);
-                    objectBuilder.add(k, array);
-                });
-                return objectBuilder.build();
-            };
-        BinaryOperator<Map<String, T>> combiner =
-            (map1, map2) -> {
-                map1.putAll(map2);
-                return map1;
-            };
-        return Collector.of(HashMap::new, accumulator, combiner, finisher,
-            Collector.Characteristics.UNORDERED);
+        return Collector.of(HashMap::new, accumulator, groupingCombiner(downstream),
+            groupingFinisher(downstream), Collector.Characteristics.UNORDERED);
     }
 
     /**
@@ -159,5 +203,179 @@ public final class JsonCollectors {
                 groupingBy(Function<JsonValue, String> classifier) {
         return groupingBy(classifier, toJsonArray());
     }
-}
 
+    /**
+     * Constructs a concurrent {@code java.util.stream.Collector} that implements a "group by"
+     * operation on the input {@code JsonValue} elements, as {@link #groupingBy(Function, Collector)}.
+     * When the collector is used on a parallel stream, all the threads accumulate the
+     * {@code JsonValue}s into a single {@code ConcurrentMap}, instead of merging
+     * partial maps. The accumulation into the intermediate {@code JsonArrayBuilder}
+     * of a group is synchronized on that builder. The order of the {@code JsonValue}s
+     * in each group is not preserved.
+     *
+     * @param <T> the intermediate accumulation {@code JsonArrayBuilder} of the downstream collector
+     * @param classifier a function mapping the input {@code JsonValue}s to a String, producing keys
+     * @param downstream a {@code Collector} that implements a reduction operation on the
+     *        {@code JsonValue}s in each group.
+     * @return the constructed {@code Collector}
+     *
+     * @since 2.2
+     */
+    public static <T extends JsonArrayBuilder> Collector<JsonValue, ConcurrentMap<String, T>, JsonObject>
+                groupingByConcurrent(Function<JsonValue, String> classifier,
+                                     Collector<JsonValue, T, JsonArray> downstream) {
+
+        BiConsumer<ConcurrentMap<String, T>, JsonValue> accumulator =
+            (map, value) -> {
+                T arrayBuilder =
+                    map.computeIfAbsent(groupingKey(classifier, value), v->downstream.supplier().get());
+                synchronized (arrayBuilder) {
+                    downstream.accumulator().accept(arrayBuilder, value);
+                }
+            };
+        return Collector.of(ConcurrentHashMap::new, accumulator, groupingCombiner(downstream),
+            groupingFinisher(downstream), Collector.Characteristics.CONCURRENT,
+            Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Constructs a concurrent {@code java.util.stream.Collector} that implements a "group by"
+     * operation on the input {@code JsonValue} elements, as {@link #groupingBy(Function)}.
+     * The {@code JsonValue}s in each group are added to a {@code JsonArray}, in no
+     * particular order.
+     *
+     * @param classifier a function mapping the input {@code JsonValue}s to a String, producing keys
+     * @return the constructed {@code Collector}
+     *
+     * @see #groupingByConcurrent(Function, Collector)
+     * @since 2.2
+     */
+    public static Collector<JsonValue, ConcurrentMap<String, JsonArrayBuilder>, JsonObject>
+                groupingByConcurrent(Function<JsonValue, String> classifier) {
+        return groupingByConcurrent(classifier, toJsonArray());
+    }
+
+    /**
+     * Applies the classifier of a "group by" operation.
+     *
+     * @param classifier a function mapping the input {@code JsonValue}s to a String, producing keys
+     * @param value the input {@code JsonValue}
+     * @return the key of the group of the value
+     * @throws JsonException if the key is {@code null}
+     */
+    private static String groupingKey(Function<JsonValue, String> classifier, JsonValue value) {
+        String key = classifier.apply(value);
+        if (key == null) {
+            throw new JsonException("element cannot be mapped to a null key");
+        }
+        return key;
+    }
+
+    /**
+     * Returns the combiner of a "group by" operation, which merges the intermediate
+     * accumulations of the groups present in both maps with the combiner of the
+     * downstream collector.
+     *
+     * @param <T> the intermediate accumulation {@code JsonArrayBuilder} of the downstream collector
+     * @param <M> the map of the groups
+     * @param downstream the downstream collector
+     * @return the combiner
+     */
+    private static <T extends JsonArrayBuilder, M extends Map<String, T>> BinaryOperator<M>
+                groupingCombiner(Collector<JsonValue, T, JsonArray> downstream) {
+        return (map1, map2) -> {
+            map2.forEach((k, v) -> map1.merge(k, v, downstream.combiner()));
+            return map1;
+        };
+    }
+
+    /**
+     * Returns the finisher of a "group by" operation, which transforms the map of
+     * name: {@code JsonArrayBuilder} to name: {@code JsonArray} using the downstream
+     * collector for reducing the {@code JsonArray}.
+     *
+     * @param <T> the intermediate accumulation {@code JsonArrayBuilder} of the downstream collector
+     * @param <M> the map of the groups
+     * @param downstream the downstream collector
+     * @return the finisher
+     */
+    private static <T extends JsonArrayBuilder, M extends Map<String, T>> Function<M, JsonObject>
+                groupingFinisher(Collector<JsonValue, T, JsonArray> downstream) {
+        return map -> {
+            JsonObjectBuilder objectBuilder = Json.createObjectBuilder();
+            map.forEach((k, v) -> {
+                JsonArray array = downstream.finisher().apply(v);
+                objectBuilder.add(k, array);
+            });
+            return objectBuilder.build();
+        };
+    }
+
+    /**
+     * Container of the collectors writing to a {@code JsonGenerator}, shared by all the
+     * threads collecting a parallel stream.
+     */
+    private static final class GeneratorWriter {
+
+        /** Generator to write to. */
+        private final JsonGenerator generator;
+
+        /** Whether an object is written, otherwise an array. */
+        private final boolean object;
+
+        /** Whether the start of the structure has been written. */
+        private boolean started;
+
+        /**
+         * Creates a container.
+         * @param generator the generator to write to
+         * @param object whether an object is written, otherwise an array
+         */
+        GeneratorWriter(JsonGenerator generator, boolean object) {
+            this.generator = Objects.requireNonNull(generator, "generator");
+            this.object = object;
+        }
+
+        /**
+         * Writes the start of the structure, if not written yet.
+         */
+        private void start() {
+            if (!started) {
+                if (object) {
+                    generator.writeStartObject();
+                } else {
+                    generator.writeStartArray();
+                }
+                started = true;
+            }
+        }
+
+        /**
+         * Writes an element of the array.
+         * @param value the element
+         */
+        synchronized void write(JsonValue value) {
+            start();
+            generator.write(value);
+        }
+
+        /**
+         * Writes a member of the object.
+         * @param entry the member
+         */
+        synchronized void write(Map.Entry<String, JsonValue> entry) {
+            start();
+            generator.write(entry.getKey(), entry.getValue());
+        }
+
+        /**
+         * Writes the end of the structure.
+         * @return the generator
+         */
+        synchronized JsonGenerator finish() {
+            start();
+            generator.writeEnd();
+            return generator;
+        }
+    }
+}
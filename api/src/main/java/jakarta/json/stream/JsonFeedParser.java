@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.json.stream;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link JsonParser} which is supplied with its input by the application,
+ * one chunk of bytes at a time, and never blocks waiting for more input.
+ * Such a parser is suited to event-loop based servers where the bytes of a
+ * JSON text arrive in several network reads, and where a thread must not be
+ * parked until the rest of the text is available.
+ *
+ * <p>
+ * The application feeds the bytes it has received with {@link #feed(ByteBuffer)}
+ * and calls {@link #advance()} to move the parser forward. Instead of blocking,
+ * {@code advance()} returns {@link Status#NEED_MORE_INPUT} when the bytes fed
+ * so far do not contain the next event. Once all the input has been fed,
+ * {@link #endOfInput()} is called and the remaining events are returned. The
+ * following example shows a typical usage from a read callback:
+ *
+ * <pre>
+ * <code>
+ * JsonFeedParser parser = Json.createParserFactory(null).createFeedParser();
+ *
+ * void onRead(ByteBuffer chunk) {
+ *     parser.feed(chunk);
+ *     while (parser.advance() == JsonFeedParser.Status.EVENT) {
+ *         handle(parser.currentEvent(), parser);
+ *     }
+ * }
+ *
+ * void onEndOfStream() {
+ *     parser.endOfInput();
+ *     while (parser.advance() == JsonFeedParser.Status.EVENT) {
+ *         handle(parser.currentEvent(), parser);
+ *     }
+ *     parser.close();
+ * }
+ * </code>
+ * </pre>
+ *
+ * <p>
+ * The methods inherited from {@code JsonParser} behave as specified there as
+ * long as the input they need has been fed. The methods {@link #hasNext()},
+ * {@link #next()}, and the methods reading a whole value, such as
+ * {@link #getValue()} or {@link #skipArray()}, throw an
+ * {@code IllegalStateException} instead of blocking if they need bytes that
+ * have not been fed yet and {@link #endOfInput()} has not been called.
+ *
+ * <p>
+ * Whether events are reported before the end of the input, and how much of
+ * the fed input is kept in memory, depends on the provider: the default
+ * {@link JsonParserFactory#createFeedParser()} keeps the whole top-level
+ * value and reports no event before it has been fed.
+ *
+ * <p>
+ * A {@code JsonFeedParser} is not safe for use by multiple concurrent threads.
+ *
+ * @see JsonParserFactory#createFeedParser()
+ * @since 2.2
+ */
+public interface JsonFeedParser extends JsonParser {
+
+    /**
+     * The outcome of an attempt to advance a {@link JsonFeedParser}.
+     *
+     * @since 2.2
+     */
+    enum Status {
+        /**
+         * The parser advanced to the next event. The method
+         * {@link JsonParser#currentEvent()} returns the event, and the other
+         * get methods give access to its value.
+         */
+        EVENT,
+        /**
+         * The bytes fed so far do not contain the next event. The parser state
+         * is unchanged, and the application should call {@link #advance()}
+         * again after feeding more input or signalling the end of the input.
+         */
+        NEED_MORE_INPUT,
+        /**
+         * The end of the input has been signalled and there are no more events.
+         */
+        END
+    }
+
+    /**
+     * Supplies the parser with the next chunk of input, that is the bytes
+     * remaining in the specified buffer. The character encoding of the input
+     * is determined as specified in
+     * <a href="http://tools.ietf.org/rfc/rfc7159.txt">RFC 7159</a>.
+     * The position of the buffer is advanced to its limit, and the parser
+     * keeps no reference to the buffer, which may be reused by the application
+     * as soon as this method returns. A chunk may end anywhere in the input,
+     * including in the middle of a token or of a multi-byte character.
+     *
+     * @param input the next chunk of input
+     * @throws IllegalStateException if {@link #endOfInput()} has been called
+     *     or if the parser is closed
+     */
+    void feed(ByteBuffer input);
+
+    /**
+     * Signals that all the input has been fed. Incomplete JSON text at the end
+     * of the input is then reported as a {@link JsonParsingException} by the
+     * method advancing the parser over it.
+     *
+     * @throws IllegalStateException if the parser is closed
+     */
+    void endOfInput();
+
+    /**
+     * Advances the parser to the next event if the input fed so far allows it,
+     * without blocking.
+     *
+     * @return {@link Status#EVENT} if the parser advanced to the next event,
+     *     {@link Status#NEED_MORE_INPUT} if more input is needed to do so, or
+     *     {@link Status#END} if the end of the input has been reached
+     * @throws JsonParsingException if the parser encounters invalid JSON
+     *     when advancing to next state
+     * @throws IllegalStateException if the parser is closed
+     */
+    Status advance();
+
+}
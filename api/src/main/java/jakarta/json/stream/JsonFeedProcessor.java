@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package jakarta.json.stream;
+
+import jakarta.json.JsonException;
+import jakarta.json.JsonValue;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link Flow.Processor} receiving JSON text in chunks of bytes and
+ * publishing the JSON values read from it by a {@link JsonFeedReader}:
+ * the top-level values, or the values at the depth the reader is
+ * configured with, for instance the elements of a top-level array.
+ *
+ * <p>
+ * The processor honours the demand of its subscriber: it requests one more
+ * chunk from its upstream publisher only when the subscriber has requested
+ * a value that cannot be read from the chunks received so far. Values read
+ * from the chunks already received are published as soon as they are
+ * requested, including after the upstream publisher has completed. Invalid
+ * JSON text cancels the upstream subscription and is signalled to the
+ * subscriber as a {@link JsonParsingException}. The following example
+ * publishes the elements of a JSON array received as byte buffers:
+ *
+ * <pre>
+ * <code>
+ * JsonFeedProcessor processor = new JsonFeedProcessor(
+ *         JsonProvider.provider().createFeedReader(null, 1));
+ * byteBufferPublisher.subscribe(processor);
+ * processor.subscribe(jsonValueSubscriber);
+ * </code>
+ * </pre>
+ *
+ * <p>
+ * A processor accepts a single subscriber, and is subscribed to a single
+ * upstream publisher. The reader is closed when the processor terminates.
+ * This class requires Java 9 or later.
+ *
+ * @see JsonFeedReader
+ * @since 2.2
+ */
+public final class JsonFeedProcessor implements Flow.Processor<ByteBuffer, JsonValue> {
+
+    /** Reader of the values, only used by the thread draining. */
+    private final JsonFeedReader reader;
+
+    /** Chunks received and not fed to the reader yet. */
+    private final Queue<ByteBuffer> chunks = new ConcurrentLinkedQueue<>();
+
+    /** Values requested by the subscriber and not published yet. */
+    private final AtomicLong demand = new AtomicLong();
+
+    /** Number of pending calls to {@link #drain()}. */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /** Subscription to the upstream publisher. */
+    private volatile Flow.Subscription upstream;
+
+    /** Subscriber to which the values are published, once subscribed. */
+    private volatile Flow.Subscriber<? super JsonValue> subscriber;
+
+    /** Whether a subscriber has been accepted. */
+    private boolean subscribed;
+
+    /** Whether a chunk has been requested and not received yet. */
+    private volatile boolean requested;
+
+    /** Whether the upstream publisher has completed. */
+    private volatile boolean completed;
+
+    /** Error to signal to the subscriber. */
+    private volatile Throwable error;
+
+    /** Whether the subscriber cancelled its subscription. */
+    private volatile boolean cancelled;
+
+    /** Whether the end of the input has been signalled to the reader. */
+    private boolean ended;
+
+    /** Whether the subscriber has been sent a terminal signal. */
+    private boolean terminated;
+
+    /**
+     * Creates a processor publishing the values read by the specified
+     * reader. The reader must not have been fed yet, and must not be used
+     * directly by the application afterwards.
+     *
+     * @param reader reader of the values
+     */
+    public JsonFeedProcessor(JsonFeedReader reader) {
+        this.reader = Objects.requireNonNull(reader, "reader");
+    }
+
+    /**
+     * Subscribes the subscriber to which the values are published. Only one
+     * subscriber is accepted, others are signalled an
+     * {@code IllegalStateException}.
+     *
+     * @param subscriber the subscriber
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super JsonValue> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        boolean accepted;
+        synchronized (this) {
+            accepted = !subscribed;
+            subscribed = true;
+        }
+        if (accepted) {
+            subscriber.onSubscribe(new Subscription());
+            this.subscriber = subscriber;
+            drain();
+        } else {
+            subscriber.onSubscribe(new NoSubscription());
+            subscriber.onError(new IllegalStateException("The processor already has a subscriber"));
+        }
+    }
+
+    /**
+     * Receives the subscription to the upstream publisher. A second
+     * subscription is cancelled.
+     *
+     * @param subscription the subscription
+     */
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "subscription");
+        synchronized (this) {
+            if (upstream == null) {
+                upstream = subscription;
+                drain();
+                return;
+            }
+        }
+        subscription.cancel();
+    }
+
+    /**
+     * Receives the next chunk of input. The bytes remaining in the buffer
+     * are copied, so the publisher may reuse it as soon as this method returns.
+     *
+     * @param chunk the next chunk of input
+     */
+    @Override
+    public void onNext(ByteBuffer chunk) {
+        ByteBuffer copy = ByteBuffer.allocate(chunk.remaining());
+        copy.put(chunk).flip();
+        chunks.add(copy);
+        requested = false;
+        drain();
+    }
+
+    /**
+     * Receives the error of the upstream publisher, which is signalled to
+     * the subscriber.
+     *
+     * @param throwable the error
+     */
+    @Override
+    public void onError(Throwable throwable) {
+        error = Objects.requireNonNull(throwable, "throwable");
+        drain();
+    }
+
+    /**
+     * Receives the completion of the upstream publisher, which signals the
+     * end of the input. The values remaining in the input are published
+     * before the subscriber is completed.
+     */
+    @Override
+    public void onComplete() {
+        completed = true;
+        drain();
+    }
+
+    /**
+     * Publishes the values requested by the subscriber, feeding the reader
+     * with the chunks received and requesting more chunks as needed. Only
+     * one thread at a time runs the loop, other callers leave the work to it.
+     */
+    private void drain() {
+        if (pending.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            Flow.Subscriber<? super JsonValue> s = subscriber;
+            Flow.Subscription up = upstream;
+            if (!terminated && s != null && up != null) {
+                try {
+                    publish(s, up);
+                } catch (JsonException | IllegalStateException e) {
+                    up.cancel();
+                    terminate();
+                    s.onError(e);
+                }
+            }
+        } while (pending.decrementAndGet() != 0);
+    }
+
+    /**
+     * Publishes as many values as requested and available.
+     * @param s the subscriber
+     * @param up the upstream subscription
+     */
+    private void publish(Flow.Subscriber<? super JsonValue> s, Flow.Subscription up) {
+        Throwable failure = error;
+        if (failure != null) {
+            up.cancel();
+            terminate();
+            s.onError(failure);
+            return;
+        }
+        if (cancelled) {
+            up.cancel();
+            terminate();
+            return;
+        }
+        boolean done = completed;
+        ByteBuffer chunk;
+        while ((chunk = chunks.poll()) != null) {
+            reader.feed(chunk);
+        }
+        if (done && !ended) {
+            ended = true;
+            reader.endOfInput();
+        }
+        while (demand.get() > 0 && !cancelled) {
+            switch (reader.advance()) {
+                case EVENT:
+                    if (demand.get() != Long.MAX_VALUE) {
+                        demand.decrementAndGet();
+                    }
+                    s.onNext(reader.getValue());
+                    break;
+                case NEED_MORE_INPUT:
+                    if (!requested && !done) {
+                        requested = true;
+                        up.request(1);
+                    }
+                    return;
+                default:
+                    terminate();
+                    s.onComplete();
+                    return;
+            }
+        }
+    }
+
+    /**
+     * Marks the subscriber as terminated and releases the reader.
+     */
+    private void terminate() {
+        terminated = true;
+        chunks.clear();
+        reader.close();
+    }
+
+    /**
+     * Subscription of the subscriber.
+     */
+    private final class Subscription implements Flow.Subscription {
+
+        /** Creates a new subscription. */
+        Subscription() {
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Non-positive request: " + n);
+            } else {
+                demand.getAndUpdate(d -> d + n < 0 ? Long.MAX_VALUE : d + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+    }
+
+    /**
+     * Subscription of a rejected subscriber.
+     */
+    private static final class NoSubscription implements Flow.Subscription {
+
+        /** Creates a new subscription. */
+        NoSubscription() {
+        }
+
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.json.stream;
+
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+
+/**
+ * Reads JSON values from input supplied by the application in chunks of
+ * bytes, without blocking. A {@code JsonFeedReader} is built on a
+ * {@link JsonFeedParser} and produces a {@link JsonValue} each time a value
+ * at the configured depth is complete: top-level values with a depth of
+ * {@code 0}, the elements of a top-level array (or the values of a top-level
+ * object) with a depth of {@code 1}, and so on. Only the value being read is
+ * built, so a large array can be processed element by element. How much of
+ * the fed input is kept in memory, and whether the values are produced as
+ * their bytes arrive, depends on the parser: the default
+ * {@link JsonParserFactory#createFeedParser()} keeps the whole top-level
+ * value and only produces values once it has been fed.
+ *
+ * <p>
+ * The reader is pull based: the application decides when to ask for the
+ * next value, so that it can honour the demand of a downstream consumer.
+ * Values already fed must be read both when more input arrives and when
+ * more values are requested, as in the following example:
+ *
+ * <pre>
+ * <code>
+ * JsonFeedReader reader = JsonProvider.provider().createFeedReader(null, 1);
+ *
+ * void onInput(ByteBuffer chunk) {
+ *     reader.feed(chunk);
+ *     drain();
+ * }
+ *
+ * void onRequest(long n) {
+ *     demand += n;
+ *     drain();
+ * }
+ *
+ * void drain() {
+ *     while (demand &gt; 0 &amp;&amp; reader.advance() == JsonFeedParser.Status.EVENT) {
+ *         demand--;
+ *         consumer.accept(reader.getValue());
+ *     }
+ * }
+ * </code>
+ * </pre>
+ *
+ * <p>
+ * On Java 9 and later, {@code JsonFeedProcessor} adapts a
+ * {@code JsonFeedReader} to {@code java.util.concurrent.Flow}.
+ *
+ * <p>
+ * A {@code JsonFeedReader} is not safe for use by multiple concurrent threads.
+ *
+ * @see JsonFeedParser
+ * @since 2.2
+ */
+public final class JsonFeedReader implements Closeable {
+
+    /** Parser of the input. */
+    private final JsonFeedParser parser;
+
+    /** Provider creating the values. */
+    private final JsonProvider provider;
+
+    /** Depth of the values to read. */
+    private final int depth;
+
+    /** Containers of the value being read, innermost first. */
+    private final Deque<Container> containers = new ArrayDeque<>();
+
+    /** Number of arrays and objects the parser is in. */
+    private int level;
+
+    /** Last value read. */
+    private JsonValue value;
+
+    /**
+     * Creates a reader of the values at the specified depth of the input
+     * of the specified parser. The parser must not have been advanced yet,
+     * and must not be used directly by the application afterwards. The values
+     * are created by the specified provider, which should be the provider
+     * of the factory which created the parser.
+     *
+     * @param parser parser of the input
+     * @param provider provider creating the values
+     * @param depth depth of the values to read, {@code 0} for top-level values
+     * @throws IllegalArgumentException if {@code depth} is negative
+     * @see JsonProvider#createFeedReader(java.util.Map, int)
+     */
+    public JsonFeedReader(JsonFeedParser parser, JsonProvider provider, int depth) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("Negative depth: " + depth);
+        }
+        this.parser = Objects.requireNonNull(parser, "parser");
+        this.provider = Objects.requireNonNull(provider, "provider");
+        this.depth = depth;
+    }
+
+    /**
+     * Supplies the reader with the next chunk of input.
+     *
+     * @param input the next chunk of input
+     * @throws IllegalStateException if {@link #endOfInput()} has been called
+     *     or if the reader is closed
+     * @see JsonFeedParser#feed(ByteBuffer)
+     */
+    public void feed(ByteBuffer input) {
+        parser.feed(input);
+    }
+
+    /**
+     * Signals that all the input has been fed.
+     *
+     * @throws IllegalStateException if the reader is closed
+     * @see JsonFeedParser#endOfInput()
+     */
+    public void endOfInput() {
+        parser.endOfInput();
+    }
+
+    /**
+     * Reads the next value at the configured depth if the input fed so far
+     * allows it, without blocking.
+     *
+     * @return {@link JsonFeedParser.Status#EVENT} if the next value has been
+     *     read and is returned by {@link #getValue()},
+     *     {@link JsonFeedParser.Status#NEED_MORE_INPUT} if more input is needed
+     *     to complete it, or {@link JsonFeedParser.Status#END} if the end of the
+     *     input has been reached
+     * @throws JsonParsingException if the input is not valid JSON
+     * @throws IllegalStateException if the reader is closed
+     */
+    public JsonFeedParser.Status advance() {
+        value = null;
+        JsonFeedParser.Status status;
+        while ((status = parser.advance()) == JsonFeedParser.Status.EVENT) {
+            if (onEvent(parser.currentEvent())) {
+                return status;
+            }
+        }
+        return status;
+    }
+
+    /**
+     * Returns the value read by the last call to {@link #advance()}.
+     *
+     * @return the last value read
+     * @throws IllegalStateException if the last call to {@code advance()}
+     *     did not return {@link JsonFeedParser.Status#EVENT}
+     */
+    public JsonValue getValue() {
+        if (value == null) {
+            throw new IllegalStateException("No value has been read");
+        }
+        return value;
+    }
+
+    /**
+     * Closes this reader and the underlying parser.
+     */
+    @Override
+    public void close() {
+        parser.close();
+    }
+
+    /**
+     * Processes an event of the parser.
+     * @param event the event
+     * @return {@code true} if a value at the configured depth has been completed
+     */
+    private boolean onEvent(JsonParser.Event event) {
+        switch (event) {
+            case START_OBJECT:
+            case START_ARRAY:
+                if (level++ >= depth) {
+                    containers.push(new Container(provider, event == JsonParser.Event.START_OBJECT));
+                }
+                return false;
+            case END_OBJECT:
+            case END_ARRAY:
+                if (--level >= depth) {
+                    return add(containers.pop().build());
+                }
+                return false;
+            case KEY_NAME:
+                if (!containers.isEmpty()) {
+                    containers.peek().key = parser.getString();
+                }
+                return false;
+            default:
+                return level >= depth && add(scalar(event));
+        }
+    }
+
+    /**
+     * Adds a value to the innermost container, or makes it the read value
+     * if it is at the configured depth.
+     * @param v the value
+     * @return {@code true} if the value is at the configured depth
+     */
+    private boolean add(JsonValue v) {
+        Container container = containers.peek();
+        if (container == null) {
+            value = v;
+            return true;
+        }
+        container.add(v);
+        return false;
+    }
+
+    /**
+     * Creates the value of a scalar event.
+     * @param event the event
+     * @return the value at the current parser state
+     */
+    private JsonValue scalar(JsonParser.Event event) {
+        switch (event) {
+            case VALUE_STRING:
+                return provider.createValue(parser.getString());
+            case VALUE_NUMBER:
+                return provider.createValue(parser.getBigDecimal());
+            case VALUE_TRUE:
+                return JsonValue.TRUE;
+            case VALUE_FALSE:
+                return JsonValue.FALSE;
+            default:
+                return JsonValue.NULL;
+        }
+    }
+
+    /**
+     * Array or object being built.
+     */
+    private static final class Container {
+
+        /** Builder of the object, or {@code null} for an array. */
+        private final JsonObjectBuilder object;
+
+        /** Builder of the array, or {@code null} for an object. */
+        private final JsonArrayBuilder array;
+
+        /** Name of the next member of the object. */
+        private String key;
+
+        /**
+         * Creates a new container.
+         * @param provider provider creating the builder
+         * @param isObject whether the container is an object
+         */
+        Container(JsonProvider provider, boolean isObject) {
+            object = isObject ? provider.createObjectBuilder() : null;
+            array = isObject ? null : provider.createArrayBuilder();
+        }
+
+        /**
+         * Adds a member or an element.
+         * @param v the value
+         */
+        void add(JsonValue v) {
+            if (object != null) {
+                object.add(key, v);
+            } else {
+                array.add(v);
+            }
+        }
+
+        /**
+         * Builds the container.
+         * @return the built array or object
+         */
+        JsonValue build() {
+            return object != null ? object.build() : array.build();
+        }
+    }
+}
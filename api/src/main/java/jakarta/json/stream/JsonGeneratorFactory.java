@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -18,8 +18,13 @@ package jakarta.json.stream;
 
 import java.io.OutputStream;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.util.Map;
+import java.util.function.UnaryOperator;
+
 
 /**
  * Factory to create {@link JsonGenerator} instances. If a factory
@@ -75,6 +80,54 @@ public interface JsonGeneratorFactory {
      */
     JsonGenerator createGenerator(OutputStream out, Charset charset);
 
+    /**
+     * Creates a JSON generator to write JSON text to a byte channel. Characters
+     * written to the channel are encoded into bytes using UTF-8 encoding.
+     * Closing the generator closes the channel.
+     * The generator is configured with the factory's configuration.
+     *
+     * <p>The default implementation invokes {@link #createGenerator(OutputStream)}
+     * with a stream obtained from {@link Channels#newOutputStream(WritableByteChannel)},
+     * so the channel must be in blocking mode.
+     *
+     * @param channel byte channel to which JSON is written
+     * @return the created JSON generator
+     *
+     * @since 2.2
+     */
+    default JsonGenerator createGenerator(WritableByteChannel channel) {
+        return createGenerator(Channels.newOutputStream(channel));
+    }
+
+    /**
+     * Creates a JSON generator to write JSON text into the specified byte buffer.
+     * Characters are encoded into bytes using UTF-8 encoding and put into the
+     * buffer starting at its current position.
+     * <p>
+     * The {@code handler} is invoked with the buffer when it is full, when the
+     * generator is flushed after bytes were written into the buffer and when
+     * the generator is closed. It is expected to
+     * consume the bytes written so far, typically by flipping the buffer, writing
+     * its content to the final destination and clearing it, and it returns the
+     * buffer into which the generator continues writing. That can be the same
+     * buffer or a new one, but it must have some space remaining, otherwise
+     * the write or the flush fails with a {@link jakarta.json.JsonException}.
+     * The value returned when the generator is closed is ignored.
+     * The generator is configured with the factory's configuration.
+     *
+     * <p>The default implementation invokes {@link #createGenerator(OutputStream)}
+     * with a stream writing into the buffer.
+     *
+     * @param buffer byte buffer into which JSON is written
+     * @param handler the handler draining the buffer
+     * @return the created JSON generator
+     *
+     * @since 2.2
+     */
+    default JsonGenerator createGenerator(ByteBuffer buffer, UnaryOperator<ByteBuffer> handler) {
+        return createGenerator(new ByteBufferOutputStream(buffer, handler));
+    }
+
     /**
      * Returns a read-only map of supported provider specific configuration
      * properties that are used to configure the JSON generators.
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package jakarta.json.stream;
+
+import jakarta.json.JsonException;
+import jakarta.json.JsonValue;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * A {@link Flow.Subscriber} writing the JSON values it receives with a
+ * {@link JsonGenerator}, as the elements of a JSON array. The array is
+ * started when the subscriber is subscribed, and ended when the publisher
+ * completes, after which the generator is closed.
+ *
+ * <p>
+ * The subscriber requests the values in batches of a configured size: it
+ * requests a first batch when subscribed, and once all the values of a batch
+ * have been written, it flushes the generator before requesting the next one.
+ * The publisher can therefore never get ahead of the generator by more than
+ * one batch. The following example writes the values of a publisher to a
+ * byte channel:
+ *
+ * <pre>
+ * <code>
+ * JsonGeneratorSubscriber subscriber = new JsonGeneratorSubscriber(
+ *         Json.createGeneratorFactory(null).createGenerator(channel), 64);
+ * jsonValuePublisher.subscribe(subscriber);
+ * subscriber.getCompletion().toCompletableFuture().join();
+ * </code>
+ * </pre>
+ *
+ * <p>
+ * If the publisher signals an error, or if the generator fails, the
+ * subscription is cancelled, the generator is closed, and the completion
+ * of the subscriber completes exceptionally. This class requires Java 9 or
+ * later.
+ *
+ * @see JsonGenerator#write(JsonValue)
+ * @since 2.2
+ */
+public final class JsonGeneratorSubscriber implements Flow.Subscriber<JsonValue> {
+
+    /** Generator writing the values. */
+    private final JsonGenerator generator;
+
+    /** Number of values requested at a time. */
+    private final int batchSize;
+
+    /** Completion of this subscriber. */
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    /** Subscription to the publisher. */
+    private Flow.Subscription subscription;
+
+    /** Number of values of the current batch written so far. */
+    private int written;
+
+    /**
+     * Creates a subscriber writing the values with the specified generator,
+     * which must not have written anything yet, and must not be used directly
+     * by the application afterwards.
+     *
+     * @param generator generator writing the values
+     * @param batchSize number of values requested at a time
+     * @throws IllegalArgumentException if {@code batchSize} is not positive
+     */
+    public JsonGeneratorSubscriber(JsonGenerator generator, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Non-positive batch size: " + batchSize);
+        }
+        this.generator = Objects.requireNonNull(generator, "generator");
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Returns the completion of this subscriber, which completes normally
+     * once the array has been ended and the generator closed, or
+     * exceptionally with the error of the publisher or of the generator.
+     *
+     * @return the completion of this subscriber
+     */
+    public CompletionStage<Void> getCompletion() {
+        return completion;
+    }
+
+    /**
+     * Starts the array and requests the first batch of values. A second
+     * subscription is cancelled.
+     *
+     * @param subscription the subscription
+     */
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "subscription");
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        try {
+            generator.writeStartArray();
+        } catch (JsonException e) {
+            fail(e);
+            return;
+        }
+        subscription.request(batchSize);
+    }
+
+    /**
+     * Writes the value, and requests the next batch of values once the
+     * generator has been flushed if the value is the last of its batch.
+     *
+     * @param value the value
+     */
+    @Override
+    public void onNext(JsonValue value) {
+        if (completion.isDone()) {
+            return;
+        }
+        try {
+            generator.write(value);
+            if (++written == batchSize) {
+                written = 0;
+                generator.flush();
+                subscription.request(batchSize);
+            }
+        } catch (JsonException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Closes the generator and completes this subscriber exceptionally.
+     *
+     * @param throwable the error of the publisher
+     */
+    @Override
+    public void onError(Throwable throwable) {
+        if (!completion.isDone()) {
+            close(throwable);
+            completion.completeExceptionally(throwable);
+        }
+    }
+
+    /**
+     * Ends the array, closes the generator and completes this subscriber.
+     */
+    @Override
+    public void onComplete() {
+        if (completion.isDone()) {
+            return;
+        }
+        try {
+            generator.writeEnd();
+            generator.close();
+        } catch (JsonException e) {
+            close(e);
+            completion.completeExceptionally(e);
+            return;
+        }
+        completion.complete(null);
+    }
+
+    /**
+     * Cancels the subscription after a failure of the generator.
+     * @param e the failure
+     */
+    private void fail(JsonException e) {
+        subscription.cancel();
+        close(e);
+        completion.completeExceptionally(e);
+    }
+
+    /**
+     * Closes the generator after a failure, recording the error of
+     * closing incomplete JSON text as suppressed by the failure.
+     * @param failure the failure
+     */
+    private void close(Throwable failure) {
+        try {
+            generator.close();
+        } catch (JsonException e) {
+            if (e != failure) {
+                failure.addSuppressed(e);
+            }
+        }
+    }
+}
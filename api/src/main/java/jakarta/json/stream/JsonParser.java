@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -19,8 +19,10 @@ package jakarta.json.stream;
 
 import java.io.Closeable;
 import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.stream.Stream;
 import java.util.Map;
+import java.util.Objects;
 
 import jakarta.json.JsonValue;
 import jakarta.json.JsonObject;
@@ -153,7 +155,9 @@ import jakarta.json.JsonArray;
  *
  * The methods {@link #skipArray} and {@link #skipObject} can be used to
  * skip tokens and position the parser to {@code END_ARRAY} or
- * {@code END_OBJECT}.
+ * {@code END_OBJECT}. The methods {@link #skipValue} and {@link #skipChildren}
+ * can be used to skip a single value, whether it is a scalar, an array or
+ * an object.
  * <p>
  * {@code JsonParser} can be used to parse sequence of JSON values that are not
  * enclosed in a JSON array, e.g. { } { }. The following code demonstrates how
@@ -199,7 +203,7 @@ public interface JsonParser extends /*Auto*/Closeable {
          * Number value in a JSON array or object. The position of the parser is
          * after the number value. {@code JsonParser} provides the following
          * methods to access the number value: {@link #getInt},
-         * {@link #getLong}, and {@link #getBigDecimal}.
+         * {@link #getLong}, {@link #getDouble}, and {@link #getBigDecimal}.
          */
         VALUE_NUMBER,
         /**
@@ -227,6 +231,117 @@ public interface JsonParser extends /*Auto*/Closeable {
         END_ARRAY
     }
 
+    /**
+     * An immutable set of names, built once and used to match the names of
+     * JSON objects with {@link JsonParser#nextKey}. Each name of the set is
+     * identified by its index in the array the set is built from.
+     *
+     * <p> A {@code KeySet} is safe for use by multiple concurrent threads.
+     *
+     * @since 2.2
+     */
+    final class KeySet {
+
+        /** Names of the set, by index. */
+        private final String[] names;
+
+        /** Open addressing hash table of the indexes of the names, -1 for empty slots. */
+        private final int[] table;
+
+        /**
+         * Creates a set of names.
+         * @param names the names of the set, by index
+         */
+        private KeySet(String[] names) {
+            this.names = names;
+            int capacity = Integer.highestOneBit(Math.max(1, names.length) * 2 - 1) << 1;
+            table = new int[capacity];
+            Arrays.fill(table, -1);
+            for (int index = 0; index < names.length; index++) {
+                String name = Objects.requireNonNull(names[index], "name");
+                int slot = name.hashCode() & (capacity - 1);
+                while (table[slot] != -1) {
+                    if (names[table[slot]].equals(name)) {
+                        throw new IllegalArgumentException("Duplicate name: " + name);
+                    }
+                    slot = (slot + 1) & (capacity - 1);
+                }
+                table[slot] = index;
+            }
+        }
+
+        /**
+         * Creates a set of the specified names. The index of each name in the
+         * set is its index in the specified array.
+         *
+         * @param names the names of the set
+         * @return the created set
+         * @throws IllegalArgumentException if a name is present more than once
+         */
+        public static KeySet of(String... names) {
+            return new KeySet(names.clone());
+        }
+
+        /**
+         * Returns the number of names of this set.
+         *
+         * @return the number of names
+         */
+        public int size() {
+            return names.length;
+        }
+
+        /**
+         * Returns the name at the specified index of this set.
+         *
+         * @param index the index of the name
+         * @return the name at the index
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        public String getName(int index) {
+            return names[index];
+        }
+
+        /**
+         * Returns the index of the specified name in this set. This method
+         * does not create any object.
+         *
+         * @param name the name to look up
+         * @return the index of the name, or -1 if it is not in this set
+         */
+        public int indexOf(CharSequence name) {
+            int mask = table.length - 1;
+            for (int slot = hash(name) & mask; table[slot] != -1; slot = (slot + 1) & mask) {
+                int index = table[slot];
+                if (names[index].contentEquals(name)) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(names);
+        }
+
+        /**
+         * Computes the hash code of a name as {@link String#hashCode()} does.
+         * @param name the name
+         * @return the hash code of the name
+         */
+        private static int hash(CharSequence name) {
+            if (name instanceof String) {
+                return name.hashCode();
+            }
+            int h = 0;
+            for (int i = 0, length = name.length(); i < length; i++) {
+                h = 31 * h + name.charAt(i);
+            }
+            return h;
+        }
+    }
+
     /**
      * Returns {@code true} if there are more parsing states. This method returns
      * {@code false} if the parser reaches the end of the JSON text.
@@ -277,6 +392,114 @@ public interface JsonParser extends /*Auto*/Closeable {
      */
     String getString();
 
+    /**
+     * Returns a {@code CharSequence} for the name in a name/value pair,
+     * for a string value or a number value. The returned character sequence
+     * has the same content as the {@code String} returned by {@link #getString},
+     * but may be a view over the internal buffers of the parser: it is only
+     * valid until the parser is advanced to a next state, and must be copied,
+     * for example with {@code toString()}, to be used afterwards. This method
+     * should only be called when the parser state is {@link Event#KEY_NAME},
+     * {@link Event#VALUE_STRING}, or {@link Event#VALUE_NUMBER}.
+     *
+     * <p>The default implementation returns {@link #getString}.
+     *
+     * @return the characters of the name, string value or number value at the
+     *         current parser state
+     * @throws IllegalStateException when the parser state is not
+     *      {@code KEY_NAME}, {@code VALUE_STRING}, or {@code VALUE_NUMBER}
+     * @see jakarta.json.JsonString#getChars()
+     *
+     * @since 2.2
+     */
+    default CharSequence getCharSequence() {
+        return getString();
+    }
+
+    /**
+     * Returns true if the name in the name/value pair at the current parser
+     * state is equal to the specified name. This allows dispatching on the
+     * names of an object without creating a {@code String} for each name, as
+     * in the following example:
+     *
+     * <pre>
+     * <code>
+     * while (parser.next() == Event.KEY_NAME) {
+     *     if (parser.keyEquals("id")) {
+     *         ...
+     *     } else if (parser.keyEquals("name")) {
+     *         ...
+     *     }
+     * }
+     * </code>
+     * </pre>
+     *
+     * This method should only be called when the parser state is
+     * {@link Event#KEY_NAME}.
+     *
+     * <p>The default implementation compares {@code name} with
+     * {@link #getCharSequence}.
+     *
+     * @param name the name to compare the current name with
+     * @return true if the current name is equal to {@code name}, otherwise false
+     * @throws IllegalStateException when the parser state is not {@code KEY_NAME}
+     *
+     * @since 2.2
+     */
+    default boolean keyEquals(String name) {
+        if (currentEvent() != Event.KEY_NAME) {
+            throw new IllegalStateException("Current event is not KEY_NAME: " + currentEvent());
+        }
+        return name.contentEquals(getCharSequence());
+    }
+
+    /**
+     * Advances the parser to the next state and, if it is a name in a
+     * name/value pair, returns the index of the name in the specified set.
+     * This method behaves as {@link #next} followed by
+     * {@code keys.indexOf(getCharSequence())} when the new state is
+     * {@link Event#KEY_NAME}, but providers may match the name directly from
+     * their input, without decoding it into a {@code String}. It allows
+     * binding the members of an object with a {@code switch}, as in the
+     * following example:
+     *
+     * <pre>
+     * <code>
+     * static final KeySet KEYS = KeySet.of("id", "name");
+     * ...
+     * int key;
+     * while ((key = parser.nextKey(KEYS)) != -1 || parser.currentEvent() == Event.KEY_NAME) {
+     *     parser.next();
+     *     switch (key) {
+     *         case 0: id = parser.getLong(); break;
+     *         case 1: name = parser.getString(); break;
+     *         default: parser.skipValue(); // ignores unknown names
+     *     }
+     * }
+     * </code>
+     * </pre>
+     *
+     * <p>The default implementation invokes {@link #next} and, for a
+     * {@code KEY_NAME} event, {@link KeySet#indexOf} with {@link #getCharSequence}.
+     *
+     * @param keys the set of names to match the next name against
+     * @return the index of the name in {@code keys} if the new parser state is
+     *     {@code KEY_NAME} and the name is in the set, otherwise -1; the method
+     *     {@link #currentEvent} tells whether the new state is {@code KEY_NAME}
+     * @throws jakarta.json.JsonException if an i/o error occurs (IOException
+     * would be cause of JsonException)
+     * @throws JsonParsingException if the parser encounters invalid JSON
+     * when advancing to next state.
+     * @throws java.util.NoSuchElementException if there are no more parsing
+     * states.
+     *
+     * @since 2.2
+     */
+    default int nextKey(KeySet keys) {
+        Objects.requireNonNull(keys, "keys");
+        return next() == Event.KEY_NAME ? keys.indexOf(getCharSequence()) : -1;
+    }
+
     /**
      * Returns true if the JSON number at the current parser state is a
      * integral number. A {@link BigDecimal} may be used to store the value
@@ -345,6 +568,291 @@ public interface JsonParser extends /*Auto*/Closeable {
      */
     BigDecimal getBigDecimal();
 
+    /**
+     * Returns a JSON number as a double. The returned value is equal
+     * to {@code new BigDecimal(getString()).doubleValue()}. Note that this
+     * conversion can lose information about the precision of the number
+     * value, and returns an infinity if its magnitude is too large to be
+     * represented as a double. This method should only be called when the
+     * parser state is {@link Event#VALUE_NUMBER}.
+     *
+     * <p>The default implementation returns
+     * {@code Double.parseDouble(getString())}, which gives the same result
+     * without creating a {@code BigDecimal}.
+     *
+     * @return a double for a JSON number
+     * @throws IllegalStateException when the parser state is not
+     *      {@code VALUE_NUMBER}
+     * @see java.math.BigDecimal#doubleValue()
+     * @see #isDoubleExact()
+     *
+     * @since 2.2
+     */
+    default double getDouble() {
+        if (currentEvent() != Event.VALUE_NUMBER) {
+            throw new IllegalStateException("Current event is not VALUE_NUMBER: " + currentEvent());
+        }
+        return Double.parseDouble(getString());
+    }
+
+    /**
+     * Returns true if the JSON number at the current parser state is an
+     * integral value within the range of a long, that is if {@link #getLong}
+     * returns the number value exactly. Unlike {@link #isIntegralNumber},
+     * this method does not depend on the representation of the number:
+     * {@code 1.0} and {@code 1e2} are long values.
+     *
+     * <p>The default implementation answers from {@link #getString()} for
+     * integers of up to 18 digits, and checks {@code getBigDecimal().longValueExact()}
+     * otherwise.
+     *
+     * @return true if {@code getLong()} returns the exact number value,
+     *      otherwise false
+     * @throws IllegalStateException when the parser state is not
+     *      {@code VALUE_NUMBER}
+     * @see java.math.BigDecimal#longValueExact()
+     *
+     * @since 2.2
+     */
+    default boolean isLongValue() {
+        if (currentEvent() != Event.VALUE_NUMBER) {
+            throw new IllegalStateException("Current event is not VALUE_NUMBER: " + currentEvent());
+        }
+        int digits = NumberStrings.integerDigits(getString());
+        if (digits >= 0 && digits <= 18) {
+            return true;
+        }
+        try {
+            getBigDecimal().longValueExact();
+            return true;
+        } catch (ArithmeticException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns true if {@link #getDouble} returns the JSON number at the
+     * current parser state exactly, that is without rounding, underflow
+     * or overflow.
+     *
+     * <p>The default implementation answers from {@link #getString()} for
+     * integers of up to 15 digits, and compares the exact value of
+     * {@code getDouble()} with {@link #getBigDecimal()} otherwise.
+     *
+     * @return true if {@code getDouble()} returns the exact number value,
+     *      otherwise false
+     * @throws IllegalStateException when the parser state is not
+     *      {@code VALUE_NUMBER}
+     *
+     * @since 2.2
+     */
+    default boolean isDoubleExact() {
+        double value = getDouble();
+        int digits = NumberStrings.integerDigits(getString());
+        if (digits >= 0 && digits <= 15) {
+            return true;
+        }
+        return !Double.isInfinite(value) && new BigDecimal(value).compareTo(getBigDecimal()) == 0;
+    }
+
+    /**
+     * Reads the JSON array at the current parser state, whose elements must
+     * all be JSON numbers, into a {@code double[]}, and advances the parser
+     * to the corresponding {@code END_ARRAY}. The values are the ones
+     * returned by {@link #getDouble} for each element. This method avoids
+     * creating a {@code JsonValue} or a {@code BigDecimal} for each element.
+     *
+     * <p>The default implementation repeatedly invokes
+     * {@link #readDoubleArray(double[], int, int)} with a growing buffer.
+     *
+     * @return the values of the elements of the array, which may be empty
+     * @throws IllegalStateException when the parser state is not
+     *     {@code START_ARRAY}
+     * @throws JsonParsingException if an element of the array is not a
+     *     JSON number, or if the parser encounters invalid JSON when
+     *     advancing to next state
+     * @throws jakarta.json.JsonException if an i/o error occurs (IOException
+     * would be cause of JsonException)
+     * @see #readLongArray()
+     *
+     * @since 2.2
+     */
+    default double[] readDoubleArray() {
+        if (currentEvent() != Event.START_ARRAY) {
+            throw new IllegalStateException("Current event is not START_ARRAY: " + currentEvent());
+        }
+        double[] values = new double[16];
+        int size = 0;
+        do {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            size += readDoubleArray(values, size, values.length - size);
+        } while (currentEvent() != Event.END_ARRAY);
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Reads at most {@code length} elements of the JSON array being read,
+     * which must all be JSON numbers, into the specified range of a buffer.
+     * The values are the ones returned by {@link #getDouble} for each element.
+     * The parser state must be the {@code START_ARRAY} of the array, or the
+     * last element read by a previous invocation of this method. The parser
+     * is then positioned at the last element read or, if the end of the array
+     * is reached, at its {@code END_ARRAY}. If the parser state is
+     * {@code END_ARRAY}, nothing is read. Large arrays can be read in chunks
+     * as follows:
+     *
+     * <pre>
+     * <code>
+     * double[] buffer = new double[1024];
+     * int count;
+     * while ((count = parser.readDoubleArray(buffer, 0, buffer.length)) &gt; 0) {
+     *     process(buffer, count);
+     * }
+     * </code>
+     * </pre>
+     *
+     * <p>The default implementation invokes {@link #next} and
+     * {@link #getDouble} for each element.
+     *
+     * @param buffer the buffer to which the values are written
+     * @param offset offset in the buffer of the first value written
+     * @param length maximum number of values written
+     * @return the number of values written, which is less than {@code length}
+     *     only if the end of the array was reached
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length}
+     *     do not denote a valid range of the buffer
+     * @throws IllegalStateException when the parser state is not
+     *     {@code START_ARRAY}, {@code VALUE_NUMBER} or {@code END_ARRAY}
+     * @throws JsonParsingException if an element of the array is not a
+     *     JSON number, or if the parser encounters invalid JSON when
+     *     advancing to next state
+     * @throws jakarta.json.JsonException if an i/o error occurs (IOException
+     * would be cause of JsonException)
+     *
+     * @since 2.2
+     */
+    default int readDoubleArray(double[] buffer, int offset, int length) {
+        if (offset < 0 || length < 0 || length > buffer.length - offset) {
+            throw new IndexOutOfBoundsException();
+        }
+        Event event = currentEvent();
+        if (event == Event.END_ARRAY) {
+            return 0;
+        }
+        if (event != Event.START_ARRAY && event != Event.VALUE_NUMBER) {
+            throw new IllegalStateException("Current event is not START_ARRAY or VALUE_NUMBER: " + event);
+        }
+        int count = 0;
+        while (count < length) {
+            event = next();
+            if (event == Event.END_ARRAY) {
+                break;
+            }
+            if (event != Event.VALUE_NUMBER) {
+                throw new JsonParsingException("Array element is not a number: " + event, getLocation());
+            }
+            buffer[offset + count++] = getDouble();
+        }
+        return count;
+    }
+
+    /**
+     * Reads the JSON array at the current parser state, whose elements must
+     * all be JSON numbers, into a {@code long[]}, and advances the parser
+     * to the corresponding {@code END_ARRAY}. Each element must be a long
+     * value as by {@link #isLongValue}, and its value is the one returned by
+     * {@link #getLong}. This method avoids creating a {@code JsonValue} for
+     * each element.
+     *
+     * <p>The default implementation repeatedly invokes
+     * {@link #readLongArray(long[], int, int)} with a growing buffer.
+     *
+     * @return the values of the elements of the array, which may be empty
+     * @throws IllegalStateException when the parser state is not
+     *     {@code START_ARRAY}
+     * @throws JsonParsingException if an element of the array is not a
+     *     JSON number, or is not an integral value within the range of a
+     *     {@code long}, or if the parser encounters invalid JSON when
+     *     advancing to next state
+     * @throws jakarta.json.JsonException if an i/o error occurs (IOException
+     * would be cause of JsonException)
+     * @see #readDoubleArray()
+     *
+     * @since 2.2
+     */
+    default long[] readLongArray() {
+        if (currentEvent() != Event.START_ARRAY) {
+            throw new IllegalStateException("Current event is not START_ARRAY: " + currentEvent());
+        }
+        long[] values = new long[16];
+        int size = 0;
+        do {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            size += readLongArray(values, size, values.length - size);
+        } while (currentEvent() != Event.END_ARRAY);
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Reads at most {@code length} elements of the JSON array being read,
+     * which must all be JSON numbers, into the specified range of a buffer.
+     * Each element must be a long value as by {@link #isLongValue}, and its
+     * value is the one returned by {@link #getLong}. The parser is positioned
+     * as by {@link #readDoubleArray(double[], int, int)}.
+     *
+     * <p>The default implementation invokes {@link #next},
+     * {@link #isLongValue} and {@link #getLong} for each element.
+     *
+     * @param buffer the buffer to which the values are written
+     * @param offset offset in the buffer of the first value written
+     * @param length maximum number of values written
+     * @return the number of values written, which is less than {@code length}
+     *     only if the end of the array was reached
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length}
+     *     do not denote a valid range of the buffer
+     * @throws IllegalStateException when the parser state is not
+     *     {@code START_ARRAY}, {@code VALUE_NUMBER} or {@code END_ARRAY}
+     * @throws JsonParsingException if an element of the array is not a
+     *     JSON number, or is not an integral value within the range of a
+     *     {@code long}, or if the parser encounters invalid JSON when
+     *     advancing to next state
+     * @throws jakarta.json.JsonException if an i/o error occurs (IOException
+     * would be cause of JsonException)
+     *
+     * @since 2.2
+     */
+    default int readLongArray(long[] buffer, int offset, int length) {
+        if (offset < 0 || length < 0 || length > buffer.length - offset) {
+            throw new IndexOutOfBoundsException();
+        }
+        Event event = currentEvent();
+        if (event == Event.END_ARRAY) {
+            return 0;
+        }
+        if (event != Event.START_ARRAY && event != Event.VALUE_NUMBER) {
+            throw new IllegalStateException("Current event is not START_ARRAY or VALUE_NUMBER: " + event);
+        }
+        int count = 0;
+        while (count < length) {
+            event = next();
+            if (event == Event.END_ARRAY) {
+                break;
+            }
+            if (event != Event.VALUE_NUMBER) {
+                throw new JsonParsingException("Array element is not a number: " + event, getLocation());
+            }
+            if (!isLongValue()) {
+                throw new JsonParsingException("Array element is not a long value: " + getString(), getLocation());
+            }
+            buffer[offset + count++] = getLong();
+        }
+        return count;
+    }
+
     /**
      * Return the location that corresponds to the parser's current state in
      * the JSON input source. The location information is only valid in the
@@ -502,6 +1010,100 @@ public interface JsonParser extends /*Auto*/Closeable {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Advance the parser to the end of the JSON array or object starting at
+     * the current parser state. If the parser state is {@code START_ARRAY}
+     * or {@code START_OBJECT}, the parser is advanced to the corresponding
+     * {@code END_ARRAY} or {@code END_OBJECT}. Otherwise nothing happens.
+     * Unlike {@link #skipArray} and {@link #skipObject}, this method never
+     * leaves the array or object the parser was in before the call.
+     *
+     * <p>The skipped content is only scanned for its structure: providers are
+     * not required to decode the skipped strings and numbers, nor to report
+     * invalid characters, escape sequences or numbers within them.
+     *
+     * <p>The default implementation advances the parser with {@link #next}
+     * until the nesting depth returns to that of the current parser state.
+     * It does not use {@link #skipArray} or {@link #skipObject}, so it also
+     * skips a container that is the value of an object member.
+     *
+     * @throws jakarta.json.JsonException if an i/o error occurs (IOException
+     * would be cause of JsonException)
+     * @throws JsonParsingException if the parser encounters invalid JSON
+     * when advancing to next state.
+     *
+     * @since 2.2
+     */
+    default void skipChildren() {
+        Event event = currentEvent();
+        if (event != Event.START_ARRAY && event != Event.START_OBJECT) {
+            return;
+        }
+        int depth = 1;
+        while (depth > 0) {
+            switch (next()) {
+                case START_ARRAY:
+                case START_OBJECT:
+                    depth++;
+                    break;
+                case END_ARRAY:
+                case END_OBJECT:
+                    depth--;
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Advance the parser over the value at the current parser state, which
+     * may be a scalar, an array or an object. If the parser state is
+     * {@code KEY_NAME}, the parser is first advanced to the value of the
+     * name/value pair. The parser is then positioned at the last event of the
+     * value: the value itself for a scalar, or the corresponding
+     * {@code END_ARRAY} or {@code END_OBJECT} as with {@link #skipChildren}.
+     * If the parser state is the last event of a value, nothing happens.
+     * The following code demonstrates how to ignore the members of an object
+     * that are not needed:
+     *
+     * <pre>
+     * <code>
+     * while (parser.next() == Event.KEY_NAME) {
+     *     if (parser.keyEquals("id")) {
+     *         parser.next();
+     *         id = parser.getLong();
+     *     } else {
+     *         parser.skipValue();
+     *     }
+     * }
+     * </code>
+     * </pre>
+     *
+     * <p>As with {@link #skipChildren}, the skipped content is only scanned for
+     * its structure: providers are not required to decode the skipped strings
+     * and numbers, nor to report invalid characters, escape sequences or
+     * numbers within them.
+     *
+     * <p>The default implementation invokes {@link #next} if the parser state
+     * is {@code KEY_NAME}, and then {@link #skipChildren}.
+     *
+     * @throws jakarta.json.JsonException if an i/o error occurs (IOException
+     * would be cause of JsonException)
+     * @throws JsonParsingException if the parser encounters invalid JSON
+     * when advancing to next state.
+     * @throws java.util.NoSuchElementException if there are no more parsing
+     * states.
+     *
+     * @since 2.2
+     */
+    default void skipValue() {
+        if (currentEvent() == Event.KEY_NAME) {
+            next();
+        }
+        skipChildren();
+    }
+
     /**
      * Closes this parser and frees any resources associated with the
      * parser. This method closes the underlying input source.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -18,8 +18,10 @@ package jakarta.json.stream;
 
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.Map;
 
@@ -78,6 +80,88 @@ public interface JsonParserFactory {
      */
     JsonParser createParser(InputStream in, Charset charset);
 
+    /**
+     * Creates a JSON parser from the specified range of a byte array.
+     * The character encoding of the bytes is determined
+     * as specified in <a href="http://tools.ietf.org/rfc/rfc7159.txt">RFC 7159</a>.
+     * The content of the array must not be modified while the parser is in use.
+     *
+     * <p>The default implementation wraps the bytes in a {@link ByteArrayInputStream}
+     * and invokes {@link #createParser(InputStream)}.
+     *
+     * @param bytes array from which JSON is to be read
+     * @param offset offset of the first byte to read
+     * @param length number of bytes to read
+     * @return the created JSON parser
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length}
+     *         do not denote a valid range of the array
+     * @throws jakarta.json.JsonException if encoding cannot be determined
+     *
+     * @since 2.2
+     */
+    default JsonParser createParser(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || length > bytes.length - offset) {
+            throw new IndexOutOfBoundsException();
+        }
+        return createParser(new ByteArrayInputStream(bytes, offset, length));
+    }
+
+    /**
+     * Creates a JSON parser from the bytes remaining in the specified buffer,
+     * that is the bytes between its position and its limit. The buffer may
+     * be a direct buffer. The character encoding of the bytes is determined
+     * as specified in <a href="http://tools.ietf.org/rfc/rfc7159.txt">RFC 7159</a>.
+     * The position, limit and mark of the buffer are not modified, and its
+     * content must not be modified while the parser is in use.
+     *
+     * <p>The default implementation invokes {@link #createParser(byte[], int, int)}
+     * with the backing array of the buffer, if it is accessible, or with a copy
+     * of the remaining bytes otherwise.
+     *
+     * @param buffer buffer from which JSON is to be read
+     * @return the created JSON parser
+     * @throws jakarta.json.JsonException if encoding cannot be determined
+     *
+     * @since 2.2
+     */
+    default JsonParser createParser(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return createParser(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return createParser(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Creates a non-blocking JSON parser, to which the application feeds
+     * the input in chunks of bytes.
+     *
+     * <p><b>The default implementation only reports events once the whole
+     * top-level value has been fed.</b> It returns a parser keeping the fed
+     * bytes in memory and scanning them for the end of the top-level value,
+     * which reports {@link JsonFeedParser.Status#NEED_MORE_INPUT} until then,
+     * and then parses the value with {@link #createParser(byte[], int, int)}
+     * and reports its events without waiting for the end of the input. The
+     * bytes fed after the value are not kept: content other than whitespace
+     * makes the next call to {@link JsonFeedParser#advance()} after the last
+     * event of the value fail with a {@link JsonParsingException}. Input in
+     * another encoding than UTF-8 is kept until the end of the input has been
+     * signalled, and only then parsed. The memory used by such a parser grows
+     * with the size of the top-level value, so applications which need bounded
+     * memory per parser, for instance per connection, should limit the input
+     * they feed or check that the provider overrides this method. Providers
+     * are encouraged to override it with a parser producing events
+     * incrementally.
+     *
+     * @return the created non-blocking JSON parser
+     *
+     * @since 2.2
+     */
+    default JsonFeedParser createFeedParser() {
+        return new BufferedFeedParser(this);
+    }
+
     /**
      * Creates a JSON parser from the specified JSON object.
      *
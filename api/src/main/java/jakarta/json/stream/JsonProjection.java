@@ -0,0 +1,348 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.json.stream;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonPointer;
+import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A set of {@link JsonPointer}s compiled to be evaluated directly on a
+ * {@link JsonParser}, in one forward pass and without building the whole
+ * JSON value. Only the referenced values are built: the values that cannot
+ * contain a referenced value, including the remaining members of an array or
+ * object once all the pointers into it have been resolved, are skipped with
+ * {@link JsonParser#skipValue} and {@link JsonParser#skipChildren}. The
+ * following example reads two values from a large document:
+ *
+ * <pre>
+ * <code>
+ * static final JsonProjection PROJECTION = JsonProjection.of(
+ *         Json.compilePointer("/user/id"), Json.compilePointer("/items/0/price"));
+ * ...
+ * Map&lt;JsonPointer, JsonValue&gt; values = PROJECTION.project(parser);
+ * </code>
+ * </pre>
+ *
+ * <p>
+ * A projection can also be resolved against a {@link JsonStructure} which has
+ * already been built, with {@link #resolve}. The pointers are then resolved
+ * in one traversal of the structure, the common prefixes of the pointers
+ * being walked only once, instead of walking from the root for each pointer.
+ *
+ * <p>
+ * If a name is repeated in a JSON object read from a parser, the pointers are
+ * resolved against its first occurrence.
+ *
+ * <p>
+ * A {@code JsonProjection} is immutable and safe for use by multiple
+ * concurrent threads.
+ *
+ * @since 2.2
+ */
+public final class JsonProjection {
+
+    /** Compiled pointers, in the order they were given. */
+    private final JsonPointer[] pointers;
+
+    /** Root of the trie of the reference tokens of the pointers. */
+    private final Node root;
+
+    /**
+     * Creates a projection.
+     * @param pointers the pointers to compile
+     */
+    private JsonProjection(JsonPointer[] pointers) {
+        this.pointers = pointers;
+        Builder builder = new Builder(-1);
+        for (int i = 0; i < pointers.length; i++) {
+            JsonPointer pointer = pointers[i];
+            List<String> tokens = pointer.getReferenceTokens();
+            Builder node = builder;
+            for (int position = 0; position < tokens.size(); position++) {
+                Builder parent = node;
+                node = parent.children.get(tokens.get(position));
+                if (node == null) {
+                    node = new Builder(pointer.getArrayIndex(position));
+                    parent.children.put(tokens.get(position), node);
+                }
+            }
+            node.pointers.add(i);
+        }
+        root = builder.build();
+    }
+
+    /**
+     * Compiles the specified pointers into a projection.
+     *
+     * @param pointers the pointers to compile
+     * @return the compiled projection
+     * @throws NullPointerException if a pointer is {@code null}
+     */
+    public static JsonProjection of(JsonPointer... pointers) {
+        return new JsonProjection(pointers.clone());
+    }
+
+    /**
+     * Compiles the specified pointers into a projection.
+     *
+     * @param pointers the pointers to compile
+     * @return the compiled projection
+     * @throws NullPointerException if a pointer is {@code null}
+     */
+    public static JsonProjection of(Collection<? extends JsonPointer> pointers) {
+        return new JsonProjection(pointers.toArray(new JsonPointer[0]));
+    }
+
+    /**
+     * Reads the next JSON value of the specified parser and returns the values
+     * referenced by the pointers of this projection. The parser is advanced to
+     * the next state, which must be the start of a value, and is left at the
+     * last event of that value, so that a projection can be applied to each
+     * value of a sequence or to the value of a name/value pair.
+     *
+     * @param parser the parser to read the value from
+     * @return an unmodifiable map from the pointers of this projection that
+     *     reference a value to that value, in the order the pointers were given;
+     *     the pointers that do not reference any value are not in the map
+     * @throws jakarta.json.JsonException if an i/o error occurs (IOException
+     * would be cause of JsonException)
+     * @throws JsonParsingException if the parser encounters invalid JSON
+     * @throws IllegalStateException if the next parser state is not the start
+     * of a value
+     * @throws java.util.NoSuchElementException if there are no more parsing
+     * states
+     */
+    public Map<JsonPointer, JsonValue> project(JsonParser parser) {
+        JsonValue[] values = new JsonValue[pointers.length];
+        JsonParser.Event event = parser.next();
+        if (event == JsonParser.Event.KEY_NAME || event == JsonParser.Event.END_OBJECT
+                || event == JsonParser.Event.END_ARRAY) {
+            throw new IllegalStateException("Not at the start of a value: " + event);
+        }
+        project(parser, root, values);
+        return toMap(values);
+    }
+
+    /**
+     * Returns the values referenced by the pointers of this projection in the
+     * specified target. Unlike {@link JsonPointer#getValue}, no exception is
+     * thrown for the pointers that do not reference any value: they are
+     * reported by their absence from the returned map.
+     *
+     * @param target the target to resolve the pointers against
+     * @return an unmodifiable map from the pointers of this projection that
+     *     reference a value to that value, in the order the pointers were given;
+     *     the pointers that do not reference any value are not in the map
+     * @throws NullPointerException if {@code target} is {@code null}
+     */
+    public Map<JsonPointer, JsonValue> resolve(JsonStructure target) {
+        JsonValue[] values = new JsonValue[pointers.length];
+        resolve(Objects.requireNonNull(target, "target"), root, values);
+        return toMap(values);
+    }
+
+    /**
+     * Maps the pointers to the values they reference.
+     * @param values the resolved values, by pointer index
+     * @return the unmodifiable map of the resolved values, in pointer order
+     */
+    private Map<JsonPointer, JsonValue> toMap(JsonValue[] values) {
+        Map<JsonPointer, JsonValue> result = new LinkedHashMap<>();
+        for (int i = 0; i < pointers.length; i++) {
+            if (values[i] != null) {
+                result.put(pointers[i], values[i]);
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Evaluates a trie node on the value starting at the current parser state,
+     * leaving the parser at the last event of the value.
+     * @param parser the parser
+     * @param node the node corresponding to the value
+     * @param values the resolved values, by pointer index
+     */
+    private static void project(JsonParser parser, Node node, JsonValue[] values) {
+        if (node.pointers.length > 0) {
+            resolve(parser.getValue(), node, values);
+            return;
+        }
+        switch (parser.currentEvent()) {
+            case START_OBJECT:
+                boolean[] seen = new boolean[node.members.length];
+                for (int remaining = seen.length; remaining > 0; ) {
+                    int key = parser.nextKey(node.names);
+                    if (parser.currentEvent() == JsonParser.Event.END_OBJECT) {
+                        return;
+                    }
+                    parser.next();
+                    if (key < 0 || seen[key]) {
+                        parser.skipChildren();
+                    } else {
+                        seen[key] = true;
+                        remaining--;
+                        project(parser, node.members[key], values);
+                    }
+                }
+                while (parser.next() != JsonParser.Event.END_OBJECT) {
+                    parser.skipValue();
+                }
+                break;
+            case START_ARRAY:
+                for (int index = 0, remaining = node.elements.size(); remaining > 0; index++) {
+                    if (parser.next() == JsonParser.Event.END_ARRAY) {
+                        return;
+                    }
+                    Node element = node.elements.get(index);
+                    if (element == null) {
+                        parser.skipChildren();
+                    } else {
+                        remaining--;
+                        project(parser, element, values);
+                    }
+                }
+                while (parser.next() != JsonParser.Event.END_ARRAY) {
+                    parser.skipChildren();
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Evaluates a trie node on a value which has been built.
+     * @param value the value
+     * @param node the node corresponding to the value
+     * @param values the resolved values, by pointer index
+     */
+    private static void resolve(JsonValue value, Node node, JsonValue[] values) {
+        for (int pointer : node.pointers) {
+            values[pointer] = value;
+        }
+        switch (value.getValueType()) {
+            case OBJECT:
+                JsonObject object = value.asJsonObject();
+                for (int key = 0; key < node.members.length; key++) {
+                    JsonValue member = object.get(node.names.getName(key));
+                    if (member != null) {
+                        resolve(member, node.members[key], values);
+                    }
+                }
+                break;
+            case ARRAY:
+                JsonArray array = value.asJsonArray();
+                for (Map.Entry<Integer, Node> element : node.elements.entrySet()) {
+                    if (element.getKey() < array.size()) {
+                        resolve(array.get(element.getKey()), element.getValue(), values);
+                    }
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Node of the trie under construction.
+     */
+    private static final class Builder {
+
+        /** Children by reference token. */
+        private final Map<String, Builder> children = new LinkedHashMap<>();
+
+        /** Indexes of the pointers ending at this node. */
+        private final List<Integer> pointers = new ArrayList<>();
+
+        /** Array index denoted by the reference token of this node, -1 if none. */
+        private final int arrayIndex;
+
+        /**
+         * Creates a node.
+         * @param arrayIndex the array index denoted by the reference token of the node
+         */
+        Builder(int arrayIndex) {
+            this.arrayIndex = arrayIndex;
+        }
+
+        /**
+         * Builds the compiled node.
+         * @return the node
+         */
+        Node build() {
+            String[] names = children.keySet().toArray(new String[0]);
+            Node[] members = new Node[names.length];
+            Map<Integer, Node> elements = new HashMap<>();
+            for (int i = 0; i < names.length; i++) {
+                Builder child = children.get(names[i]);
+                members[i] = child.build();
+                if (child.arrayIndex >= 0) {
+                    elements.put(child.arrayIndex, members[i]);
+                }
+            }
+            int[] ends = new int[pointers.size()];
+            for (int i = 0; i < ends.length; i++) {
+                ends[i] = pointers.get(i);
+            }
+            return new Node(ends, JsonParser.KeySet.of(names), members, elements);
+        }
+    }
+
+    /**
+     * Compiled node of the trie.
+     */
+    private static final class Node {
+
+        /** Indexes of the pointers ending at this node. */
+        private final int[] pointers;
+
+        /** Reference tokens of the children, as object member names. */
+        private final JsonParser.KeySet names;
+
+        /** Children, by index in {@link #names}. */
+        private final Node[] members;
+
+        /** Children whose reference token is an array index, by index. */
+        private final Map<Integer, Node> elements;
+
+        /**
+         * Creates a node.
+         * @param pointers indexes of the pointers ending at the node
+         * @param names reference tokens of the children
+         * @param members children by index in {@code names}
+         * @param elements children by array index
+         */
+        Node(int[] pointers, JsonParser.KeySet names, Node[] members, Map<Integer, Node> elements) {
+            this.pointers = pointers;
+            this.names = names;
+            this.members = members;
+            this.elements = elements;
+        }
+    }
+}
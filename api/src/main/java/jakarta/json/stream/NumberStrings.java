@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.json.stream;
+
+/**
+ * Private helper inspecting the textual representation of JSON numbers,
+ * used by the default methods of {@link JsonParser} to answer simple cases
+ * without creating a {@link java.math.BigDecimal}.
+ */
+final class NumberStrings {
+
+    /**
+     * No instantiation.
+     */
+    private NumberStrings() {
+    }
+
+    /**
+     * Returns the number of digits of a JSON number without fraction and
+     * exponent parts.
+     * @param number the JSON number
+     * @return the number of digits, or -1 if the number has a fraction
+     *     or an exponent part
+     */
+    static int integerDigits(CharSequence number) {
+        int length = number.length();
+        int start = length > 0 && number.charAt(0) == '-' ? 1 : 0;
+        if (start == length) {
+            return -1;
+        }
+        for (int i = start; i < length; i++) {
+            char c = number.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+        }
+        return length - start;
+    }
+}
@@ -35,7 +35,8 @@ public class CollectorTests {
    * 
    * @testName: jsonCollectorTest
    * @assertion_ids: JSONP:JAVADOC:668; JSONP:JAVADOC:669; JSONP:JAVADOC:670;
-   *                 JSONP:JAVADOC:671;
+   *                 JSONP:JAVADOC:671; JSONP:JAVADOC:731; JSONP:JAVADOC:732;
+   *                 JSONP:JAVADOC:733; JSONP:JAVADOC:734; JSONP:JAVADOC:735;
    * @test_Strategy: Test all collectors returned by API.
    */
   @Test
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -20,10 +20,15 @@ import ee.jakarta.tck.jsonp.api.common.JsonAssert;
 import ee.jakarta.tck.jsonp.api.common.SimpleValues;
 import ee.jakarta.tck.jsonp.api.common.TestResult;
 
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 import java.util.logging.Logger;
 import java.util.stream.Collector;
@@ -32,8 +37,10 @@ import jakarta.json.JsonArray;
 import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonReader;
 import jakarta.json.JsonValue;
 import jakarta.json.stream.JsonCollectors;
+import jakarta.json.stream.JsonGenerator;
 import jakarta.json.stream.JsonParser;
 
 // $Id$
@@ -78,6 +85,12 @@ public class Collectors {
       .add(Json.createObjectBuilder().add("name", "Rick").add("office", "Red"))
       .build();
 
+  /** Number of values of the large parallel streams. */
+  private static final int PARALLEL_COUNT = 200000;
+
+  /** Number of groups of the large parallel streams. */
+  private static final int PARALLEL_GROUPS = 16;
+
   /**
    * Creates an instance of {@link jakarta.json.stream.JsonCollectors} class
    * implementation tests.
@@ -101,6 +114,10 @@ public class Collectors {
     testToJsonObjectCollector(result);
     testSimpleGroupingByCollector(result);
     testSortingGroupingByCollector(result);
+    testParallelGroupingByCollector(result);
+    testGroupingByConcurrentCollector(result);
+    testWritingToCollector(result);
+    testWritingEntriesToCollector(result);
     return result;
   }
 
@@ -501,6 +518,187 @@ public class Collectors {
     }
   }
 
+  /**
+   * Test collector returned by {@code groupingBy(Function<JsonValue,String>)}
+   * method on a large parallel stream. Partial groups built by different
+   * threads must be merged, so that no value is lost.
+   * 
+   * @param result
+   *          Tests result record.
+   */
+  private void testParallelGroupingByCollector(final TestResult result) {
+    LOGGER.info(" - Collector returned by groupingBy(Function) on parallel stream");
+    final Collector<JsonValue, Map<String, JsonArrayBuilder>, JsonObject> col = JsonCollectors
+        .groupingBy(Collectors::parallelGroup);
+    final JsonObject out = parallelValues().getValuesAs(JsonObject.class)
+        .parallelStream().collect(col);
+    checkParallelGroups(result, "groupingBy(Function)", out);
+  }
+
+  /**
+   * Test collector returned by
+   * {@code groupingByConcurrent(Function<JsonValue,String>)} method on a large
+   * parallel stream.
+   * 
+   * @param result
+   *          Tests result record.
+   */
+  private void testGroupingByConcurrentCollector(final TestResult result) {
+    LOGGER.info(" - Collector returned by groupingByConcurrent(Function)");
+    final Collector<JsonValue, ConcurrentMap<String, JsonArrayBuilder>, JsonObject> col = JsonCollectors
+        .groupingByConcurrent(Collectors::parallelGroup);
+    final JsonArray in = parallelValues();
+    checkParallelGroups(result, "groupingByConcurrent(Function)",
+        in.getValuesAs(JsonObject.class).parallelStream().collect(col));
+    checkParallelGroups(result, "groupingByConcurrent(Function) sequential",
+        in.getValuesAs(JsonObject.class).stream().collect(col));
+  }
+
+  /**
+   * Create input data for the large parallel streams: objects with
+   * {@code "id"} attribute.
+   * 
+   * @return Array of objects.
+   */
+  private static JsonArray parallelValues() {
+    final JsonArrayBuilder builder = Json.createArrayBuilder();
+    for (int i = 0; i < PARALLEL_COUNT; i++) {
+      builder.add(Json.createObjectBuilder().add("id", i));
+    }
+    return builder.build();
+  }
+
+  /**
+   * Group identifier of the large parallel streams values.
+   * 
+   * @param v
+   *          Value of the stream.
+   * @return Group identifier.
+   */
+  private static String parallelGroup(final JsonValue v) {
+    if (v.getValueType() == JsonValue.ValueType.OBJECT)
+      return "g" + v.asJsonObject().getInt("id") % PARALLEL_GROUPS;
+    throw new IllegalStateException("Value must be JsonObject");
+  }
+
+  /**
+   * Check that all values of the large parallel streams are present once, in
+   * their group.
+   * 
+   * @param result
+   *          Tests result record.
+   * @param name
+   *          Name of the tested collector.
+   * @param out
+   *          Groups.
+   */
+  private void checkParallelGroups(final TestResult result, final String name,
+      final JsonObject out) {
+    int count = 0;
+    for (int g = 0; g < PARALLEL_GROUPS; g++) {
+      final JsonArray group = out.getJsonArray("g" + g);
+      if (group == null) {
+        result.fail(name, "Missing group g" + g);
+        continue;
+      }
+      final Set<Integer> ids = new HashSet<>();
+      for (JsonObject value : group.getValuesAs(JsonObject.class)) {
+        final int id = value.getInt("id");
+        if (id % PARALLEL_GROUPS != g || !ids.add(id)) {
+          result.fail(name, "Value " + id + " in group g" + g);
+        }
+      }
+      count += ids.size();
+    }
+    if (out.size() != PARALLEL_GROUPS || count != PARALLEL_COUNT) {
+      result.fail(name, "Output contains " + out.size() + " groups of "
+          + count + " values, expected " + PARALLEL_GROUPS + " groups of "
+          + PARALLEL_COUNT + " values");
+    }
+  }
+
+  /**
+   * Test collector returned by {@code writingTo(JsonGenerator)} method. This
+   * collector writes {@code Stream<JsonValue>} content to a JSON array of the
+   * generator, in the same order as they were read for sequential stream.
+   * 
+   * @param result
+   *          Tests result record.
+   */
+  private void testWritingToCollector(final TestResult result) {
+    LOGGER.info(" - Collector returned by writingTo(JsonGenerator)");
+    for (final JsonArray in : ARRAY_VALUES) {
+      final StringWriter writer = new StringWriter();
+      try (JsonGenerator generator = Json.createGenerator(writer)) {
+        in.stream().collect(JsonCollectors.writingTo(generator));
+      }
+      final JsonValue out = read(writer.toString());
+      if (operationFailed(in, out)) {
+        result.fail("writingTo(JsonGenerator)", "Output Stream value "
+            + JsonAssert.valueToString(out) + " shall be "
+            + JsonAssert.valueToString(in));
+      }
+    }
+    final StringWriter writer = new StringWriter();
+    try (JsonGenerator generator = Json.createGenerator(writer)) {
+      generator.writeStartObject().writeKey("empty");
+      JsonValue.EMPTY_JSON_ARRAY.stream()
+          .collect(JsonCollectors.writingTo(generator));
+      generator.writeKey("values");
+      parallelValues().parallelStream()
+          .collect(JsonCollectors.writingTo(generator));
+      generator.writeEnd();
+    }
+    final JsonObject out = read(writer.toString()).asJsonObject();
+    if (operationFailed(JsonValue.EMPTY_JSON_ARRAY, out.get("empty"))) {
+      result.fail("writingTo(JsonGenerator)",
+          "Empty stream shall be written as empty array");
+    }
+    checkParallelGroups(result, "writingTo(JsonGenerator) parallel",
+        out.getJsonArray("values").stream()
+            .collect(JsonCollectors.groupingBy(Collectors::parallelGroup)));
+  }
+
+  /**
+   * Test collector returned by {@code writingEntriesTo(JsonGenerator)} method.
+   * This collector writes {@code Stream<Map.Entry<String,JsonValue>>} content
+   * to a JSON object of the generator.
+   * 
+   * @param result
+   *          Tests result record.
+   */
+  private void testWritingEntriesToCollector(final TestResult result) {
+    LOGGER.info(" - Collector returned by writingEntriesTo(JsonGenerator)");
+    for (final JsonObject in : OBJ_VALUES) {
+      for (final boolean parallel : new boolean[] { false, true }) {
+        final StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = Json.createGenerator(writer)) {
+          (parallel ? in.entrySet().parallelStream() : in.entrySet().stream())
+              .collect(JsonCollectors.writingEntriesTo(generator));
+        }
+        final JsonValue out = read(writer.toString());
+        if (operationFailed(in, out)) {
+          result.fail("writingEntriesTo(JsonGenerator)", "Output Stream value "
+              + JsonAssert.valueToString(out) + " shall be "
+              + JsonAssert.valueToString(in));
+        }
+      }
+    }
+  }
+
+  /**
+   * Read JSON value from JSON text.
+   * 
+   * @param json
+   *          JSON text.
+   * @return JSON value.
+   */
+  private static JsonValue read(final String json) {
+    try (JsonReader reader = Json.createReader(new StringReader(json))) {
+      return reader.readValue();
+    }
+  }
+
   /**
    * Operation result check.
    * 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -24,12 +24,17 @@ import java.io.*;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import jakarta.json.*;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -1406,4 +1411,155 @@ public class ClientTests {
     result.eval();
   }
 
+  /*
+   * @testName: jsonArrayHashCodeTest
+   *
+   * @assertion_ids: JSONP:JAVADOC:729;
+   *
+   * @test_Strategy: Tests that JsonArray hash code, which may be cached, is
+   * the one defined by List and is stable, and that equality follows the List
+   * contract.
+   */
+  @Test
+  public void jsonArrayHashCodeTest() {
+    String json = "[1,{\"a\":[true,null]},[\"b\",[2.5]],\"c\"]";
+    JsonArray built = Json.createArrayBuilder()
+        .add(1)
+        .add(Json.createObjectBuilder()
+            .add("a", Json.createArrayBuilder().add(true).addNull()))
+        .add(Json.createArrayBuilder().add("b")
+            .add(Json.createArrayBuilder().add(2.5)))
+        .add("c")
+        .build();
+    JsonArray read;
+    try (JsonReader reader = Json.createReader(new StringReader(json))) {
+      read = reader.readArray();
+    }
+    int hashCode = built.hashCode();
+    assertEquals(new ArrayList<>(built).hashCode(), hashCode);
+    assertEquals(hashCode, built.hashCode());
+    assertEquals(read, built);
+    assertEquals(hashCode, read.hashCode());
+    assertEquals(new ArrayList<>(built), built);
+    assertEquals(built, new ArrayList<>(built));
+
+    JsonArray extended = Json.createArrayBuilder(built).add("d").build();
+    assertEquals(new ArrayList<>(extended).hashCode(), extended.hashCode());
+    assertNotEquals(built, extended);
+
+    JsonArray changed = Json.createArrayBuilder(built)
+        .set(2, Json.createArrayBuilder().add("b")
+            .add(Json.createArrayBuilder().add(3.5)))
+        .build();
+    assertEquals(new ArrayList<>(changed).hashCode(), changed.hashCode());
+    assertNotEquals(built, changed);
+    assertNotEquals(changed, read);
+  }
+
+  /*
+   * @testName: jsonArrayPrimitiveValuesTest
+   *
+   * @test_Strategy: Tests JsonArray toIntArray(), toLongArray() and
+   * toDoubleArray() and JsonArrayBuilder addAll(long[]) and addAll(double[])
+   * added in JSON-P 2.2 against the List view of the array.
+   */
+  @Test
+  public void jsonArrayPrimitiveValuesTest() {
+    long[] longs = { 0L, -1L, 42L, Integer.MAX_VALUE, Integer.MIN_VALUE };
+    double[] doubles = { 0.0, -1.5, 2.25, 1e10, -3.0 };
+    JsonArrayBuilder longBuilder = Json.createArrayBuilder();
+    JsonArrayBuilder doubleBuilder = Json.createArrayBuilder();
+    for (int i = 0; i < longs.length; i++) {
+      longBuilder.add(longs[i]);
+      doubleBuilder.add(doubles[i]);
+    }
+    JsonArray longArray = Json.createArrayBuilder().addAll(longs).build();
+    JsonArray doubleArray = Json.createArrayBuilder().addAll(doubles).build();
+    assertEquals(longBuilder.build(), longArray);
+    assertEquals(doubleBuilder.build(), doubleArray);
+
+    assertArrayEquals(longs, longArray.toLongArray());
+    assertArrayEquals(doubles, doubleArray.toDoubleArray());
+    List<Integer> ints = longArray.getValuesAs(JsonNumber::intValue);
+    List<Double> listDoubles = longArray.getValuesAs(JsonNumber::doubleValue);
+    int[] intValues = longArray.toIntArray();
+    double[] doubleValues = longArray.toDoubleArray();
+    assertEquals(ints.size(), intValues.length);
+    assertEquals(listDoubles.size(), doubleValues.length);
+    for (int i = 0; i < intValues.length; i++) {
+      assertEquals(ints.get(i).intValue(), intValues[i]);
+      assertEquals(listDoubles.get(i).doubleValue(), doubleValues[i]);
+    }
+    List<Long> listLongs = doubleArray.getValuesAs(JsonNumber::longValue);
+    long[] longValues = doubleArray.toLongArray();
+    for (int i = 0; i < longValues.length; i++) {
+      assertEquals(listLongs.get(i).longValue(), longValues[i]);
+    }
+    assertEquals(0, JsonValue.EMPTY_JSON_ARRAY.toLongArray().length);
+
+    try {
+      Json.createArrayBuilder().add(1).add("2").build().toIntArray();
+      fail("toIntArray() did not throw ClassCastException for a string");
+    } catch (ClassCastException e) {
+      LOGGER.info("Got expected ClassCastException");
+    }
+    JsonArrayBuilder builder = Json.createArrayBuilder().add(0);
+    try {
+      builder.addAll(new double[] { 1.0, Double.NaN });
+      fail("addAll(double[]) did not throw NumberFormatException for NaN");
+    } catch (NumberFormatException e) {
+      LOGGER.info("Got expected NumberFormatException");
+    }
+    assertEquals(1, builder.build().size(),
+        "addAll(double[]) added values before the NaN");
+  }
+
+  /*
+   * @testName: jsonArrayPackedNumbersTest
+   *
+   * @assertion_ids: JSONP:JAVADOC:698;
+   *
+   * @test_Strategy: Tests packed number arrays property added in JSON-P 2.2.
+   * The property is optional, arrays read or built with it must be equal to,
+   * and have the same hash code and values as, the arrays created without it.
+   */
+  @Test
+  public void jsonArrayPackedNumbersTest() {
+    Map<String, Object> config = new HashMap<>();
+    config.put(JsonConfig.PACKED_NUMBER_ARRAYS, true);
+    JsonReaderFactory readerFactory = Json.createReaderFactory(config);
+    JsonBuilderFactory builderFactory = Json.createBuilderFactory(config);
+    LOGGER.info("Packed number arrays supported by JsonReaderFactory: "
+        + readerFactory.getConfigInUse().containsKey(JsonConfig.PACKED_NUMBER_ARRAYS));
+    LOGGER.info("Packed number arrays supported by JsonBuilderFactory: "
+        + builderFactory.getConfigInUse().containsKey(JsonConfig.PACKED_NUMBER_ARRAYS));
+
+    String json = "[[1,-2,3000000000],[0.5,-1.25,1e3],[1,2.5,\"x\"]]";
+    JsonArray plain;
+    JsonArray packed;
+    try (JsonReader reader = Json.createReader(new StringReader(json))) {
+      plain = reader.readArray();
+    }
+    try (JsonReader reader = readerFactory.createReader(new StringReader(json))) {
+      packed = reader.readArray();
+    }
+    assertEquals(plain, packed);
+    assertEquals(packed, plain);
+    assertEquals(plain.hashCode(), packed.hashCode());
+    assertArrayEquals(plain.getJsonArray(0).toLongArray(),
+        packed.getJsonArray(0).toLongArray());
+    assertArrayEquals(plain.getJsonArray(1).toDoubleArray(),
+        packed.getJsonArray(1).toDoubleArray());
+    assertEquals(plain.getJsonArray(1).getJsonNumber(2),
+        packed.getJsonArray(1).getJsonNumber(2));
+
+    long[] longs = { 7L, -8L, Long.MAX_VALUE };
+    JsonArray built = builderFactory.createArrayBuilder().addAll(longs).build();
+    JsonArray expected = Json.createArrayBuilder().addAll(longs).build();
+    assertEquals(expected, built);
+    assertEquals(expected.hashCode(), built.hashCode());
+    assertArrayEquals(longs, built.toLongArray());
+    assertEquals(new ArrayList<>(expected), new ArrayList<>(built));
+  }
+
 }
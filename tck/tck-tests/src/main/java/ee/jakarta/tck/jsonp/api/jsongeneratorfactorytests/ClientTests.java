@@ -25,11 +25,18 @@ import jakarta.json.stream.*;
 
 import java.io.*;
 
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.function.UnaryOperator;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -316,4 +323,160 @@ public class ClientTests {
     }
     assertTrue(pass, "jsonGeneratorFactoryTest4 Failed");
   }
+
+  /*
+   * @testName: jsonGeneratorFactoryTest5
+   * 
+   * @assertion_ids: JSONP:JAVADOC:709; JSONP:JAVADOC:710;
+   * 
+   * @test_Strategy: Tests the JsonGeneratorFactory API.
+   *
+   * JsonGeneratorFactory generatorFactory =
+   * Json.createGeneratorFactory(Map<String, ?>); JsonGenerator generator1 =
+   * generatorFactory.createGenerator(WritableByteChannel) JsonGenerator
+   * generator2 = generatorFactory.createGenerator(ByteBuffer, UnaryOperator)
+   *
+   * The byte buffer is smaller than the generated JSON text, so the handler
+   * must be called several times and multi-byte characters may be split
+   * between two buffers.
+   */
+  @Test
+  public void jsonGeneratorFactoryTest5() {
+    boolean pass = true;
+    String expString = "{\"name\":\"\u017dlu\u0165ou\u010dk\u00fd k\u016f\u0148\",\"values\":[1,2,3]}";
+    try {
+      LOGGER.info("Create JsonGeneratorFactory with Map<String, ?> with EMPTY config");
+      JsonGeneratorFactory generatorFactory = Json
+          .createGeneratorFactory(JSONP_Util.getEmptyConfig());
+
+      LOGGER.info("---------------------------------------------------------------------");
+      LOGGER.info("TEST CASE [JsonGeneratorFactory.createGenerator(WritableByteChannel)]");
+      LOGGER.info("---------------------------------------------------------------------");
+      ByteArrayOutputStream baos1 = new ByteArrayOutputStream();
+      try (JsonGenerator generator = generatorFactory
+          .createGenerator(Channels.newChannel(baos1))) {
+        generateNameValues(generator);
+      }
+      String actString = new String(baos1.toByteArray(), StandardCharsets.UTF_8);
+      LOGGER.info("channel=" + actString);
+      if (!JSONP_Util.assertEqualsJsonText(expString, actString))
+        pass = false;
+
+      LOGGER.info("---------------------------------------------------------------------------");
+      LOGGER.info("TEST CASE [JsonGeneratorFactory.createGenerator(ByteBuffer, UnaryOperator)]");
+      LOGGER.info("---------------------------------------------------------------------------");
+      ByteArrayOutputStream baos2 = new ByteArrayOutputStream();
+      int[] calls = new int[1];
+      UnaryOperator<ByteBuffer> handler = buffer -> {
+        calls[0]++;
+        buffer.flip();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        baos2.write(bytes, 0, bytes.length);
+        buffer.clear();
+        return buffer;
+      };
+      try (JsonGenerator generator = generatorFactory
+          .createGenerator(ByteBuffer.allocateDirect(8), handler)) {
+        generateNameValues(generator);
+      }
+      actString = new String(baos2.toByteArray(), StandardCharsets.UTF_8);
+      LOGGER.info("buffer=" + actString + ", handler calls=" + calls[0]);
+      if (!JSONP_Util.assertEqualsJsonText(expString, actString))
+        pass = false;
+      if (calls[0] < 2) {
+        LOGGER.warning("Handler was called " + calls[0] + " times");
+        pass = false;
+      }
+    } catch (Exception e) {
+      fail("jsonGeneratorFactoryTest5 Failed: ", e);
+    }
+    assertTrue(pass, "jsonGeneratorFactoryTest5 Failed");
+  }
+
+  /*
+   * @testName: jsonGeneratorFactoryTest6
+   * 
+   * @assertion_ids: JSONP:JAVADOC:711;
+   * 
+   * @test_Strategy: Tests the JsonGeneratorFactory API.
+   *
+   * JsonGenerator generator =
+   * generatorFactory.createGenerator(ByteBuffer, UnaryOperator)
+   *
+   * The handler returns a buffer without space remaining, which must make
+   * both writing into a full buffer and flushing fail with JsonException.
+   */
+  @Test
+  public void jsonGeneratorFactoryTest6() {
+    JsonGeneratorFactory generatorFactory = Json
+        .createGeneratorFactory(JSONP_Util.getEmptyConfig());
+    UnaryOperator<ByteBuffer> handler = buffer -> ByteBuffer.allocate(0);
+
+    LOGGER.info("Flush with a handler returning a full buffer");
+    JsonGenerator flushed = generatorFactory
+        .createGenerator(ByteBuffer.allocate(64), handler);
+    flushed.writeStartArray().write(1);
+    assertThrows(JsonException.class, flushed::flush);
+
+    LOGGER.info("Write with a handler returning a full buffer");
+    JsonGenerator written = generatorFactory
+        .createGenerator(ByteBuffer.allocate(4), handler);
+    assertThrows(JsonException.class, () -> {
+      written.writeStartArray();
+      for (int i = 0; i < 100; i++) {
+        written.write(i);
+      }
+      written.flush();
+    });
+  }
+
+  /*
+   * @testName: jsonGeneratorFactoryTest7
+   * 
+   * @assertion_ids: JSONP:JAVADOC:712;
+   * 
+   * @test_Strategy: Tests the JsonGeneratorFactory API.
+   *
+   * JsonGenerator generator =
+   * generatorFactory.createGenerator(ByteBuffer, UnaryOperator)
+   *
+   * Flushing the generator must invoke the handler only when bytes were
+   * written into the buffer since the handler was last invoked.
+   */
+  @Test
+  public void jsonGeneratorFactoryTest7() {
+    JsonGeneratorFactory generatorFactory = Json
+        .createGeneratorFactory(JSONP_Util.getEmptyConfig());
+    AtomicInteger calls = new AtomicInteger();
+    UnaryOperator<ByteBuffer> handler = buffer -> {
+      calls.incrementAndGet();
+      buffer.clear();
+      return buffer;
+    };
+
+    JsonGenerator generator = generatorFactory
+        .createGenerator(ByteBuffer.allocate(64), handler);
+    LOGGER.info("Flush before anything was written");
+    generator.flush();
+    assertEquals(0, calls.get(), "Handler invoked by an empty flush");
+
+    LOGGER.info("Flush after writing");
+    generator.writeStartArray().write(1);
+    generator.flush();
+    assertEquals(1, calls.get(), "Handler not invoked by the flush");
+
+    LOGGER.info("Flush again without writing");
+    generator.flush();
+    assertEquals(1, calls.get(), "Handler invoked by an empty flush");
+    generator.writeEnd();
+    generator.close();
+  }
+
+  private void generateNameValues(JsonGenerator generator) {
+    generator.writeStartObject()
+        .write("name", "\u017dlu\u0165ou\u010dk\u00fd k\u016f\u0148")
+        .writeStartArray("values").write(1).write(2).write(3).writeEnd()
+        .writeEnd();
+  }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -27,6 +27,7 @@ import java.io.StringReader;
 import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.logging.Logger;
@@ -34,16 +35,21 @@ import java.util.logging.Logger;
 import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonBuilderFactory;
+import jakarta.json.JsonConfig;
 import jakarta.json.JsonNumber;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonObjectBuilder;
 import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
 import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
 import jakarta.json.JsonWriter;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -1365,4 +1371,112 @@ public class ClientTests {
       assertNull(jsonObj.get("test"));
   }
 
+  /*
+   * @testName: jsonObjectHashCodeTest
+   *
+   * @assertion_ids: JSONP:JAVADOC:730;
+   *
+   * @test_Strategy: Tests that JsonObject hash code, which may be cached, is
+   * the one defined by Map and is stable, and that equality follows the Map
+   * contract.
+   */
+  @Test
+  public void jsonObjectHashCodeTest() {
+      String json = "{\"a\":1,\"b\":{\"c\":[true,null,\"d\"],\"e\":{\"f\":2.5}}}";
+      JsonObject built = Json.createObjectBuilder()
+          .add("a", 1)
+          .add("b", Json.createObjectBuilder()
+              .add("c", Json.createArrayBuilder().add(true).addNull().add("d"))
+              .add("e", Json.createObjectBuilder().add("f", 2.5)))
+          .build();
+      JsonObject read;
+      try (JsonReader reader = Json.createReader(new StringReader(json))) {
+          read = reader.readObject();
+      }
+      int hashCode = built.hashCode();
+      assertEquals(new HashMap<>(built).hashCode(), hashCode);
+      assertEquals(hashCode, built.hashCode());
+      assertEquals(read, built);
+      assertEquals(hashCode, read.hashCode());
+      assertEquals(new HashMap<>(built), built);
+      assertEquals(built, new HashMap<>(built));
+
+      JsonObject extended = Json.createObjectBuilder(built).add("g", "h").build();
+      assertEquals(new HashMap<>(extended).hashCode(), extended.hashCode());
+      assertNotEquals(built, extended);
+
+      JsonObject changed = Json.createObjectBuilder(built)
+          .add("b", Json.createObjectBuilder(built.getJsonObject("b"))
+              .add("e", Json.createObjectBuilder().add("f", 3.5)))
+          .build();
+      assertEquals(new HashMap<>(changed).hashCode(), changed.hashCode());
+      assertNotEquals(built, changed);
+      assertNotEquals(changed, read);
+  }
+
+  /*
+   * @testName: jsonObjectCompactSizeTest
+   *
+   * @assertion_ids: JSONP:JAVADOC:699;
+   *
+   * @test_Strategy: Tests compact object size property added in JSON-P 2.2.
+   * The property is optional, objects read or built with it, whatever their
+   * number of members, must be equal to, and have the same hash code,
+   * iteration order and values as, the objects created without it.
+   */
+  @Test
+  public void jsonObjectCompactSizeTest() {
+      Map<String, Object> config = new HashMap<>();
+      config.put(JsonConfig.COMPACT_OBJECT_SIZE, 8);
+      JsonBuilderFactory builderFactory = Json.createBuilderFactory(config);
+      JsonReaderFactory readerFactory = Json.createReaderFactory(config);
+      LOGGER.info("Compact objects supported by JsonBuilderFactory: "
+          + builderFactory.getConfigInUse().containsKey(JsonConfig.COMPACT_OBJECT_SIZE));
+      LOGGER.info("Compact objects supported by JsonReaderFactory: "
+          + readerFactory.getConfigInUse().containsKey(JsonConfig.COMPACT_OBJECT_SIZE));
+
+      for (int size = 0; size <= 12; size++) {
+          JsonObjectBuilder plainBuilder = Json.createObjectBuilder();
+          JsonObjectBuilder compactBuilder = builderFactory.createObjectBuilder();
+          StringBuilder json = new StringBuilder("{");
+          for (int i = 0; i < size; i++) {
+              String name = "k" + ((i * 7) % 13);
+              plainBuilder.add(name, i);
+              compactBuilder.add(name, i);
+              json.append(i == 0 ? "" : ",").append('"').append(name).append("\":").append(i);
+          }
+          json.append('}');
+          JsonObject plain = plainBuilder.build();
+          JsonObject compact = compactBuilder.build();
+          JsonObject read;
+          try (JsonReader reader = readerFactory.createReader(new StringReader(json.toString()))) {
+              read = reader.readObject();
+          }
+          for (JsonObject object : new JsonObject[] { compact, read }) {
+              assertEquals(plain, object);
+              assertEquals(object, plain);
+              assertEquals(plain.hashCode(), object.hashCode());
+              assertEquals(size, object.size());
+              assertEquals(new ArrayList<>(plain.keySet()), new ArrayList<>(object.keySet()));
+              assertEquals(new ArrayList<>(plain.entrySet()), new ArrayList<>(object.entrySet()));
+              for (String name : plain.keySet()) {
+                  assertTrue(object.containsKey(name));
+                  assertEquals(plain.getInt(name), object.getInt(name));
+              }
+              assertFalse(object.containsKey("k13"));
+              assertNull(object.get("k13"));
+              try {
+                  object.put("k13", JsonValue.NULL);
+                  fail("put() did not throw UnsupportedOperationException");
+              } catch (UnsupportedOperationException e) {
+                  LOGGER.info("Got expected UnsupportedOperationException");
+              }
+          }
+      }
+
+      JsonObject replaced = builderFactory.createObjectBuilder()
+          .add("a", 1).add("b", 2).add("a", 3).remove("b").build();
+      assertEquals(Json.createObjectBuilder().add("a", 3).build(), replaced);
+  }
+
 }
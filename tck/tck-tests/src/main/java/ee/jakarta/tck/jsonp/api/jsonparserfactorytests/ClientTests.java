@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -25,6 +25,12 @@ import jakarta.json.*;
 import jakarta.json.stream.*;
 import java.io.*;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
 
@@ -502,6 +508,321 @@ public class ClientTests {
     assertTrue(pass, "jsonParserFactoryTest6 Failed");
   }
 
+  /*
+   * @testName: jsonParserFactoryTest7
+   * 
+   * @assertion_ids: JSONP:JAVADOC:705; JSONP:JAVADOC:706;
+   * 
+   * @test_Strategy: Tests the JsonParserFactory API.
+   *
+   * JsonParserFactory parserFactory = Json.createParserFactory(Map<String, ?>);
+   * JsonParser parser1 = parserFactory.createParser(byte[], int, int)
+   * JsonParser parser2 = parserFactory.createParser(ByteBuffer) with a heap buffer
+   * JsonParser parser3 = parserFactory.createParser(ByteBuffer) with a direct buffer
+   *
+   * Only the requested range of bytes must be parsed and the position of the
+   * buffers must not change.
+   */
+  @Test
+  public void jsonParserFactoryTest7() {
+    boolean pass = true;
+    try {
+      LOGGER.info("Create JsonParserFactory with a configuration");
+      JsonParserFactory parserFactory = Json
+          .createParserFactory(JSONP_Util.getEmptyConfig());
+      String jsonObjectString = "{\"foo\":\"bar\"}";
+      byte[] bytes = ("[[[" + jsonObjectString + "]]]")
+          .getBytes(StandardCharsets.UTF_8);
+      int offset = 3;
+      int length = bytes.length - 6;
+
+      LOGGER.info("-------------------------------------------------------------");
+      LOGGER.info("TEST CASE [JsonParserFactory.createParser(byte[], int, int)]");
+      LOGGER.info("-------------------------------------------------------------");
+      try (JsonParser parser = parserFactory.createParser(bytes, offset, length)) {
+        if (!parseFooBar(parser))
+          pass = false;
+      }
+
+      LOGGER.info("---------------------------------------------------------------");
+      LOGGER.info("TEST CASE [JsonParserFactory.createParser(ByteBuffer)] heap buffer");
+      LOGGER.info("---------------------------------------------------------------");
+      ByteBuffer heap = ByteBuffer.wrap(bytes, offset, length).slice();
+      try (JsonParser parser = parserFactory.createParser(heap)) {
+        if (!parseFooBar(parser))
+          pass = false;
+      }
+      if (!JSONP_Util.assertEquals(0, heap.position()))
+        pass = false;
+
+      LOGGER.info("-----------------------------------------------------------------");
+      LOGGER.info("TEST CASE [JsonParserFactory.createParser(ByteBuffer)] direct buffer");
+      LOGGER.info("-----------------------------------------------------------------");
+      ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+      direct.put(bytes);
+      direct.position(offset);
+      direct.limit(offset + length);
+      try (JsonParser parser = parserFactory.createParser(direct)) {
+        if (!parseFooBar(parser))
+          pass = false;
+      }
+      if (!JSONP_Util.assertEquals(offset, direct.position()))
+        pass = false;
+    } catch (Exception e) {
+      fail("jsonParserFactoryTest7 Failed: ", e);
+    }
+    assertTrue(pass, "jsonParserFactoryTest7 Failed");
+  }
+
+  private boolean parseFooBar(JsonParser parser) {
+    if (parser == null) {
+      LOGGER.warning("ParserFactory failed to create parser");
+      return false;
+    }
+    LOGGER.info("Verify that JSON Parser Events/Data matches");
+    JSONP_Util.resetParseErrs();
+    JSONP_Util.testEventType(parser, JsonParser.Event.START_OBJECT);
+    JSONP_Util.testKeyStringValue(parser, "foo", "bar");
+    JSONP_Util.testEventType(parser, JsonParser.Event.END_OBJECT);
+    int parseErrs = JSONP_Util.getParseErrs();
+    if (parseErrs != 0) {
+      LOGGER.warning("There were " + parseErrs + " parser errors that occurred.");
+      return false;
+    }
+    if (parser.hasNext()) {
+      LOGGER.warning("Parser read past the end of the requested range");
+      return false;
+    }
+    return true;
+  }
+
+  /*
+   * @testName: jsonParserFactoryTest8
+   * 
+   * @assertion_ids: JSONP:JAVADOC:417; JSONP:JAVADOC:684;
+   * 
+   * @test_Strategy: Tests the JsonParserFactory API.
+   *
+   * JsonParserFactory parserFactory = Json.createParserFactory(Map<String, ?>);
+   * JsonFeedParser parser = parserFactory.createFeedParser()
+   *
+   * The input is fed one byte at a time, splitting tokens and multi-byte
+   * characters. The events may be reported as soon as they are available or
+   * only after the end of input is signalled, but they must all be reported
+   * in order, and feeding input after the end of input must fail.
+   */
+  @Test
+  public void jsonParserFactoryTest8() {
+    boolean pass = true;
+    try {
+      LOGGER.info("Create JsonParserFactory with a configuration");
+      JsonParserFactory parserFactory = Json
+          .createParserFactory(JSONP_Util.getEmptyConfig());
+      byte[] bytes = "{\"foo\":[\"b\u00e4r\",12.5,true,null]}"
+          .getBytes(StandardCharsets.UTF_8);
+      List<JsonParser.Event> expectedEvents = Arrays.asList(
+          JsonParser.Event.START_OBJECT, JsonParser.Event.KEY_NAME,
+          JsonParser.Event.START_ARRAY, JsonParser.Event.VALUE_STRING,
+          JsonParser.Event.VALUE_NUMBER, JsonParser.Event.VALUE_TRUE,
+          JsonParser.Event.VALUE_NULL, JsonParser.Event.END_ARRAY,
+          JsonParser.Event.END_OBJECT);
+      List<JsonParser.Event> events = new ArrayList<>();
+      List<String> strings = new ArrayList<>();
+
+      LOGGER.info("------------------------------------------------------");
+      LOGGER.info("TEST CASE [JsonParserFactory.createFeedParser()]");
+      LOGGER.info("------------------------------------------------------");
+      try (JsonFeedParser parser = parserFactory.createFeedParser()) {
+        for (byte b : bytes) {
+          ByteBuffer chunk = ByteBuffer.wrap(new byte[] { b });
+          parser.feed(chunk);
+          if (!JSONP_Util.assertEquals(1, chunk.position()))
+            pass = false;
+          if (!drainFeedParser(parser, events, strings,
+              JsonFeedParser.Status.NEED_MORE_INPUT))
+            pass = false;
+        }
+        parser.endOfInput();
+        if (!drainFeedParser(parser, events, strings,
+            JsonFeedParser.Status.END))
+          pass = false;
+
+        LOGGER.info("Verify that JSON Parser Events/Data matches");
+        if (!JSONP_Util.assertEquals(expectedEvents.toString(), events.toString()))
+          pass = false;
+        if (!JSONP_Util.assertEquals("[foo, b\u00e4r, 12.5]", strings.toString()))
+          pass = false;
+
+        LOGGER.info("Verify that feeding input after the end of input fails");
+        try {
+          parser.feed(ByteBuffer.wrap(bytes));
+          LOGGER.warning("Did not get expected IllegalStateException");
+          pass = false;
+        } catch (IllegalStateException e) {
+          LOGGER.info("Caught expected IllegalStateException");
+        }
+      }
+    } catch (Exception e) {
+      fail("jsonParserFactoryTest8 Failed: ", e);
+    }
+    assertTrue(pass, "jsonParserFactoryTest8 Failed");
+  }
+
+  /*
+   * @testName: jsonParserFactoryTest9
+   * 
+   * @assertion_ids: JSONP:JAVADOC:736;
+   * 
+   * @test_Strategy: Tests the default implementation of
+   * JsonParserFactory.createFeedParser(), through a factory which does not
+   * override it.
+   *
+   * The events of the top-level value must be reported as soon as the value
+   * has been fed, before the end of input is signalled, a top-level number
+   * must only be complete at the end of input, and content other than
+   * whitespace after the value must fail with JsonParsingException.
+   */
+  @Test
+  public void jsonParserFactoryTest9() {
+    boolean pass = true;
+    try {
+      JsonParserFactory parserFactory = new DefaultFeedParserFactory(
+          Json.createParserFactory(JSONP_Util.getEmptyConfig()));
+      List<JsonParser.Event> events = new ArrayList<>();
+      List<String> strings = new ArrayList<>();
+
+      LOGGER.info("Events reported once the top-level value is fed");
+      try (JsonFeedParser parser = parserFactory.createFeedParser()) {
+        parser.feed(utf8("{\"a\":[\"}\\\"]"));
+        if (!drainFeedParser(parser, events, strings,
+            JsonFeedParser.Status.NEED_MORE_INPUT))
+          pass = false;
+        if (!JSONP_Util.assertEquals(0, events.size()))
+          pass = false;
+        parser.feed(utf8("\",2]} \n"));
+        if (!drainFeedParser(parser, events, strings,
+            JsonFeedParser.Status.NEED_MORE_INPUT))
+          pass = false;
+        if (!JSONP_Util.assertEquals(
+            "[START_OBJECT, KEY_NAME, START_ARRAY, VALUE_STRING, VALUE_NUMBER, END_ARRAY, END_OBJECT]",
+            events.toString()))
+          pass = false;
+        if (!JSONP_Util.assertEquals("[a, }\"], 2]", strings.toString()))
+          pass = false;
+        parser.feed(utf8("\t"));
+        parser.endOfInput();
+        if (!drainFeedParser(parser, events, strings,
+            JsonFeedParser.Status.END))
+          pass = false;
+      }
+
+      LOGGER.info("Top-level number completed by the end of input");
+      events.clear();
+      strings.clear();
+      try (JsonFeedParser parser = parserFactory.createFeedParser()) {
+        parser.feed(utf8("12"));
+        if (!drainFeedParser(parser, events, strings,
+            JsonFeedParser.Status.NEED_MORE_INPUT))
+          pass = false;
+        parser.feed(utf8("3"));
+        parser.endOfInput();
+        if (!drainFeedParser(parser, events, strings,
+            JsonFeedParser.Status.END))
+          pass = false;
+        if (!JSONP_Util.assertEquals("[VALUE_NUMBER]", events.toString()))
+          pass = false;
+        if (!JSONP_Util.assertEquals("[123]", strings.toString()))
+          pass = false;
+      }
+
+      LOGGER.info("Content after the top-level value");
+      try (JsonFeedParser parser = parserFactory.createFeedParser()) {
+        parser.feed(utf8("[1] x"));
+        for (int i = 0; i < 3; i++) {
+          if (!JSONP_Util.assertEquals(JsonFeedParser.Status.EVENT, parser.advance()))
+            pass = false;
+        }
+        try {
+          parser.advance();
+          LOGGER.warning("Did not get expected JsonParsingException");
+          pass = false;
+        } catch (JsonParsingException e) {
+          LOGGER.info("Caught expected JsonParsingException");
+        }
+      }
+    } catch (Exception e) {
+      fail("jsonParserFactoryTest9 Failed: ", e);
+    }
+    assertTrue(pass, "jsonParserFactoryTest9 Failed");
+  }
+
+  private static ByteBuffer utf8(String text) {
+    return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /*
+   * Parser factory which does not override the default methods of
+   * JsonParserFactory added in JSON-P 2.2.
+   */
+  private static final class DefaultFeedParserFactory implements JsonParserFactory {
+
+    private final JsonParserFactory factory;
+
+    DefaultFeedParserFactory(JsonParserFactory factory) {
+      this.factory = factory;
+    }
+
+    @Override
+    public JsonParser createParser(Reader reader) {
+      return factory.createParser(reader);
+    }
+
+    @Override
+    public JsonParser createParser(InputStream in) {
+      return factory.createParser(in);
+    }
+
+    @Override
+    public JsonParser createParser(InputStream in, Charset charset) {
+      return factory.createParser(in, charset);
+    }
+
+    @Override
+    public JsonParser createParser(JsonObject obj) {
+      return factory.createParser(obj);
+    }
+
+    @Override
+    public JsonParser createParser(JsonArray array) {
+      return factory.createParser(array);
+    }
+
+    @Override
+    public Map<String, ?> getConfigInUse() {
+      return factory.getConfigInUse();
+    }
+  }
+
+  private boolean drainFeedParser(JsonFeedParser parser,
+      List<JsonParser.Event> events, List<String> strings,
+      JsonFeedParser.Status expectedStatus) {
+    JsonFeedParser.Status status;
+    while ((status = parser.advance()) == JsonFeedParser.Status.EVENT) {
+      JsonParser.Event event = parser.currentEvent();
+      events.add(event);
+      if (event == JsonParser.Event.KEY_NAME
+          || event == JsonParser.Event.VALUE_STRING
+          || event == JsonParser.Event.VALUE_NUMBER) {
+        strings.add(parser.getString());
+      }
+    }
+    if (status != expectedStatus) {
+      LOGGER.warning("Expected status " + expectedStatus + ", got " + status);
+      return false;
+    }
+    return true;
+  }
+
   /*
    * @testName: jsonParserFactoryExceptionTest
    * 
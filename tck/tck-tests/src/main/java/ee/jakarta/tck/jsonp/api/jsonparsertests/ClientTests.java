@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -22,6 +22,7 @@ package ee.jakarta.tck.jsonp.api.jsonparsertests;
 import java.io.InputStream;
 import java.io.StringReader;
 import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.NoSuchElementException;
 import java.util.logging.Logger;
 
@@ -1871,4 +1872,409 @@ public class ClientTests {
           assertEquals(6, events);
       }
   }
+
+  /*
+   * @testName: jsonParserGetDouble
+   *
+   * @assertion_ids: JSONP:JAVADOC:688;
+   *
+   * @test_Strategy: Tests JsonParser.getDouble() added in JSON-P 2.2. The
+   * returned value must be the value of BigDecimal.doubleValue(), including
+   * rounding, underflow to zero and overflow to infinity, and calling it in
+   * any other state than VALUE_NUMBER must throw IllegalStateException.
+   */
+  @Test
+  public void jsonParserGetDouble() {
+      String[] numbers = { "0", "-12", "12.5", "1e2", "1.0", "0.1",
+          "9007199254740993", "9223372036854775808", "1e400", "-1e400", "1.5e-400" };
+      double[] expected = { 0.0, -12.0, 12.5, 100.0, 1.0, 0.1,
+          9007199254740992.0, 9.223372036854775808E18,
+          Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 0.0 };
+      try (JsonParser parser = Json.createParser(
+          new StringReader("[" + String.join(",", numbers) + ",\"1\"]"))) {
+          assertEquals(Event.START_ARRAY, parser.next());
+          for (int i = 0; i < numbers.length; i++) {
+              assertEquals(Event.VALUE_NUMBER, parser.next());
+              assertEquals(expected[i], parser.getDouble(), numbers[i]);
+              assertEquals(new BigDecimal(numbers[i]).doubleValue(), parser.getDouble(), numbers[i]);
+          }
+          assertEquals(Event.VALUE_STRING, parser.next());
+          assertThrows(IllegalStateException.class, parser::getDouble);
+          assertEquals(Event.END_ARRAY, parser.next());
+          assertThrows(IllegalStateException.class, parser::getDouble);
+      }
+  }
+
+  /*
+   * @testName: jsonParserNumberExactness
+   *
+   * @assertion_ids: JSONP:JAVADOC:689; JSONP:JAVADOC:690;
+   *
+   * @test_Strategy: Tests JsonParser.isLongValue() and JsonParser.isDoubleExact()
+   * added in JSON-P 2.2. isLongValue() must be true exactly when getLong()
+   * returns the number value, whatever its representation, and isDoubleExact()
+   * exactly when getDouble() returns it without rounding, underflow or overflow.
+   */
+  @Test
+  public void jsonParserNumberExactness() {
+      String[] numbers = { "0", "-12", "12.5", "1e2", "1.0", "0.1",
+          "9007199254740992", "9007199254740993", "9223372036854775807",
+          "9223372036854775808", "-9223372036854775808", "-9223372036854775809",
+          "1e400", "1.5e-400" };
+      boolean[] longValues = { true, true, false, true, true, false,
+          true, true, true,
+          false, true, false,
+          false, false };
+      boolean[] exactDoubles = { true, true, true, true, true, false,
+          true, false, false,
+          true, true, false,
+          false, false };
+      try (JsonParser parser = Json.createParser(
+          new StringReader("[" + String.join(",", numbers) + ",true]"))) {
+          assertEquals(Event.START_ARRAY, parser.next());
+          for (int i = 0; i < numbers.length; i++) {
+              assertEquals(Event.VALUE_NUMBER, parser.next());
+              assertEquals(longValues[i], parser.isLongValue(), numbers[i]);
+              if (longValues[i]) {
+                  assertEquals(new BigDecimal(numbers[i]).longValueExact(), parser.getLong(), numbers[i]);
+              }
+              assertEquals(exactDoubles[i], parser.isDoubleExact(), numbers[i]);
+          }
+          assertEquals(Event.VALUE_TRUE, parser.next());
+          assertThrows(IllegalStateException.class, parser::isLongValue);
+          assertThrows(IllegalStateException.class, parser::isDoubleExact);
+      }
+  }
+
+  /*
+   * @testName: jsonParserGetCharSequence
+   *
+   * @assertion_ids: JSONP:JAVADOC:691; JSONP:JAVADOC:692;
+   *
+   * @test_Strategy: Tests JsonParser.getCharSequence() and
+   * JsonParser.keyEquals(String) added in JSON-P 2.2. The character sequence
+   * must have the content of getString() for names, strings and numbers, and
+   * keyEquals(String) must compare the current name, throwing
+   * IllegalStateException in any other state than KEY_NAME.
+   */
+  @Test
+  public void jsonParserGetCharSequence() {
+      try (JsonParser parser = Json.createParser(
+          new StringReader("{\"id\":\"\\u00e9t\\u00e9\",\"idx\":-1.5e3,\"\":true}"))) {
+          assertEquals(Event.START_OBJECT, parser.next());
+          assertEquals(Event.KEY_NAME, parser.next());
+          assertEquals("id", parser.getCharSequence().toString());
+          assertTrue(parser.keyEquals("id"));
+          assertFalse(parser.keyEquals("idx"));
+          assertFalse(parser.keyEquals("i"));
+          assertEquals(Event.VALUE_STRING, parser.next());
+          assertEquals("\u00e9t\u00e9", parser.getCharSequence().toString());
+          assertThrows(IllegalStateException.class, () -> parser.keyEquals("id"));
+          assertEquals(Event.KEY_NAME, parser.next());
+          assertTrue(parser.keyEquals("idx"));
+          assertFalse(parser.keyEquals("id"));
+          assertEquals(Event.VALUE_NUMBER, parser.next());
+          assertEquals(parser.getString(), parser.getCharSequence().toString());
+          assertEquals(Event.KEY_NAME, parser.next());
+          assertTrue(parser.keyEquals(""));
+          assertEquals(0, parser.getCharSequence().length());
+          assertEquals(Event.VALUE_TRUE, parser.next());
+          assertThrows(IllegalStateException.class, parser::getCharSequence);
+          assertEquals(Event.END_OBJECT, parser.next());
+      }
+  }
+
+  /*
+   * @testName: jsonParserNextKey
+   *
+   * @assertion_ids: JSONP:JAVADOC:693;
+   *
+   * @test_Strategy: Tests JsonParser.nextKey(KeySet) and JsonParser.KeySet
+   * added in JSON-P 2.2. The index of names in the set must be returned,
+   * and -1 for names not in the set and for any other event.
+   */
+  @Test
+  public void jsonParserNextKey() {
+      JsonParser.KeySet keys = JsonParser.KeySet.of("a", "b", "\u00e9t\u00e9");
+      assertEquals(3, keys.size());
+      assertEquals("b", keys.getName(1));
+      assertEquals(2, keys.indexOf(new StringBuilder("\u00e9t\u00e9")));
+      assertEquals(-1, keys.indexOf("c"));
+      assertThrows(IllegalArgumentException.class, () -> JsonParser.KeySet.of("a", "b", "a"));
+
+      try (JsonParser parser = Json.createParser(new StringReader(
+          "{\"b\":1,\"zz\":{\"a\":2},\"\\u00e9t\\u00e9\":[3],\"a\":\"b\"}"))) {
+          assertEquals(Event.START_OBJECT, parser.next());
+          assertEquals(1, parser.nextKey(keys));
+          assertEquals(Event.VALUE_NUMBER, parser.next());
+          assertEquals(-1, parser.nextKey(keys));
+          assertEquals(Event.KEY_NAME, parser.currentEvent());
+          assertEquals("zz", parser.getString());
+          assertEquals(-1, parser.nextKey(keys));
+          assertEquals(Event.START_OBJECT, parser.currentEvent());
+          assertEquals(0, parser.nextKey(keys));
+          assertEquals(Event.VALUE_NUMBER, parser.next());
+          assertEquals(Event.END_OBJECT, parser.next());
+          assertEquals(2, parser.nextKey(keys));
+          assertEquals(Event.START_ARRAY, parser.next());
+          assertEquals(-1, parser.nextKey(keys));
+          assertEquals(Event.VALUE_NUMBER, parser.currentEvent());
+          assertEquals(Event.END_ARRAY, parser.next());
+          assertEquals(0, parser.nextKey(keys));
+          assertEquals(-1, parser.nextKey(keys));
+          assertEquals(Event.VALUE_STRING, parser.currentEvent());
+          assertEquals(-1, parser.nextKey(keys));
+          assertEquals(Event.END_OBJECT, parser.currentEvent());
+      }
+  }
+
+  /*
+   * @testName: jsonParserSkipValue
+   *
+   * @assertion_ids: JSONP:JAVADOC:694;
+   *
+   * @test_Strategy: Tests JsonParser.skipValue() added in JSON-P 2.2. After a
+   * KEY_NAME event the whole value of the pair must be skipped, whether it is
+   * a scalar, an array or an object, and on a scalar value nothing happens.
+   */
+  @Test
+  public void jsonParserSkipValue() {
+      try (JsonParser parser = Json.createParser(new StringReader(
+          "{\"a\":1,\"b\":{\"x\":[1,{\"y\":\"z\"}],\"w\":\"\\u00e9\"},"
+          + "\"c\":[[],{}],\"d\":\"s\",\"e\":null}"))) {
+          assertEquals(Event.START_OBJECT, parser.next());
+          assertEquals(Event.KEY_NAME, parser.next());
+          parser.skipValue();
+          assertEquals(Event.VALUE_NUMBER, parser.currentEvent());
+          assertEquals(Event.KEY_NAME, parser.next());
+          assertEquals("b", parser.getString());
+          parser.skipValue();
+          assertEquals(Event.END_OBJECT, parser.currentEvent());
+          assertEquals(Event.KEY_NAME, parser.next());
+          assertEquals("c", parser.getString());
+          parser.skipValue();
+          assertEquals(Event.END_ARRAY, parser.currentEvent());
+          assertEquals(Event.KEY_NAME, parser.next());
+          assertEquals("d", parser.getString());
+          assertEquals(Event.VALUE_STRING, parser.next());
+          parser.skipValue();
+          assertEquals(Event.VALUE_STRING, parser.currentEvent());
+          assertEquals("s", parser.getString());
+          assertEquals(Event.KEY_NAME, parser.next());
+          assertEquals("e", parser.getString());
+          parser.skipValue();
+          assertEquals(Event.VALUE_NULL, parser.currentEvent());
+          assertEquals(Event.END_OBJECT, parser.next());
+          assertFalse(parser.hasNext());
+      }
+
+      try (JsonParser parser = Json.createParser(new StringReader("[1,[2]]"))) {
+          assertEquals(Event.START_ARRAY, parser.next());
+          parser.skipValue();
+          assertEquals(Event.END_ARRAY, parser.currentEvent());
+          assertFalse(parser.hasNext());
+      }
+
+      try (JsonParser parser = Json.createParser(new StringReader("7"))) {
+          assertEquals(Event.VALUE_NUMBER, parser.next());
+          parser.skipValue();
+          assertEquals(Event.VALUE_NUMBER, parser.currentEvent());
+          assertEquals(7, parser.getInt());
+          assertFalse(parser.hasNext());
+      }
+  }
+
+  /*
+   * @testName: jsonParserSkipChildren
+   *
+   * @assertion_ids: JSONP:JAVADOC:695;
+   *
+   * @test_Strategy: Tests JsonParser.skipChildren() added in JSON-P 2.2. On
+   * START_ARRAY and START_OBJECT the parser must be advanced to the
+   * corresponding end, also when the array or object is the value of an
+   * object member, and on any other event nothing happens.
+   */
+  @Test
+  public void jsonParserSkipChildren() {
+      try (JsonParser parser = Json.createParser(new StringReader(
+          "[1,[2,[3]],{\"k\":[4]},5]"))) {
+          assertEquals(Event.START_ARRAY, parser.next());
+          assertEquals(Event.VALUE_NUMBER, parser.next());
+          parser.skipChildren();
+          assertEquals(Event.VALUE_NUMBER, parser.currentEvent());
+          assertEquals(1, parser.getInt());
+          assertEquals(Event.START_ARRAY, parser.next());
+          parser.skipChildren();
+          assertEquals(Event.END_ARRAY, parser.currentEvent());
+          assertEquals(Event.START_OBJECT, parser.next());
+          parser.skipChildren();
+          assertEquals(Event.END_OBJECT, parser.currentEvent());
+          assertEquals(Event.VALUE_NUMBER, parser.next());
+          assertEquals(5, parser.getInt());
+          assertEquals(Event.END_ARRAY, parser.next());
+          parser.skipChildren();
+          assertEquals(Event.END_ARRAY, parser.currentEvent());
+          assertFalse(parser.hasNext());
+      }
+      try (JsonParser parser = Json.createParser(new StringReader(
+          "{\"a\":{\"b\":[1]},\"c\":[{}],\"d\":2}"))) {
+          assertEquals(Event.START_OBJECT, parser.next());
+          assertEquals(Event.KEY_NAME, parser.next());
+          assertEquals(Event.START_OBJECT, parser.next());
+          parser.skipChildren();
+          assertEquals(Event.END_OBJECT, parser.currentEvent());
+          assertEquals(Event.KEY_NAME, parser.next());
+          assertEquals("c", parser.getString());
+          assertEquals(Event.START_ARRAY, parser.next());
+          parser.skipChildren();
+          assertEquals(Event.END_ARRAY, parser.currentEvent());
+          assertEquals(Event.KEY_NAME, parser.next());
+          assertEquals("d", parser.getString());
+      }
+  }
+
+  /*
+   * @testName: jsonParserReadDoubleArray
+   *
+   * @assertion_ids: JSONP:JAVADOC:702;
+   *
+   * @test_Strategy: Tests JsonParser.readDoubleArray() and
+   * readDoubleArray(double[], int, int) added in JSON-P 2.2. The values must
+   * be the ones of getDouble(), the parser must be left at the END_ARRAY of
+   * the array and a non-number element must throw JsonParsingException.
+   */
+  @Test
+  public void jsonParserReadDoubleArray() {
+      StringBuilder json = new StringBuilder("{\"a\":[");
+      double[] expected = new double[100];
+      for (int i = 0; i < expected.length; i++) {
+          String number = (i - 50) + "." + i + "e" + (i % 5);
+          expected[i] = new BigDecimal(number).doubleValue();
+          json.append(i == 0 ? "" : ",").append(number);
+      }
+      json.append("],\"b\":[],\"c\":1}");
+
+      try (JsonParser parser = Json.createParser(new StringReader(json.toString()))) {
+          assertEquals(Event.START_OBJECT, parser.next());
+          assertEquals(Event.KEY_NAME, parser.next());
+          assertEquals(Event.START_ARRAY, parser.next());
+          assertArrayEquals(expected, parser.readDoubleArray());
+          assertEquals(Event.END_ARRAY, parser.currentEvent());
+          assertEquals(Event.KEY_NAME, parser.next());
+          assertEquals(Event.START_ARRAY, parser.next());
+          assertEquals(0, parser.readDoubleArray().length);
+          assertEquals(Event.END_ARRAY, parser.currentEvent());
+          assertEquals(Event.KEY_NAME, parser.next());
+          assertEquals(Event.VALUE_NUMBER, parser.next());
+          assertThrows(IllegalStateException.class, () -> parser.readDoubleArray());
+          assertEquals(Event.END_OBJECT, parser.next());
+      }
+
+      try (JsonParser parser = Json.createParser(new StringReader(json.toString()))) {
+          parser.next();
+          parser.next();
+          assertEquals(Event.START_ARRAY, parser.next());
+          double[] buffer = new double[expected.length + 2];
+          buffer[0] = -1.0;
+          int size = 0;
+          int count;
+          while ((count = parser.readDoubleArray(buffer, 1 + size, Math.min(7, buffer.length - 1 - size))) > 0) {
+              size += count;
+          }
+          assertEquals(expected.length, size);
+          assertEquals(Event.END_ARRAY, parser.currentEvent());
+          assertEquals(-1.0, buffer[0]);
+          assertArrayEquals(expected, Arrays.copyOfRange(buffer, 1, 1 + size));
+          assertThrows(IndexOutOfBoundsException.class,
+              () -> parser.readDoubleArray(buffer, 1, buffer.length));
+          assertEquals(Event.KEY_NAME, parser.next());
+      }
+
+      try (JsonParser parser = Json.createParser(new StringReader("[1.5,\"2\",3]"))) {
+          assertEquals(Event.START_ARRAY, parser.next());
+          assertThrows(JsonParsingException.class, () -> parser.readDoubleArray());
+      }
+  }
+
+  /*
+   * @testName: jsonParserReadLongArray
+   *
+   * @assertion_ids: JSONP:JAVADOC:703;
+   *
+   * @test_Strategy: Tests JsonParser.readLongArray() and
+   * readLongArray(long[], int, int) added in JSON-P 2.2. The values must be
+   * the ones of getLong() for long values, the parser must be left at the
+   * END_ARRAY of the array and a non-number element must throw
+   * JsonParsingException.
+   */
+  @Test
+  public void jsonParserReadLongArray() {
+      String[] numbers = { "0", "-1", "9223372036854775807", "-9223372036854775808",
+          "42", "1e3", "7.0", "123456789012" };
+      long[] expected = new long[numbers.length];
+      for (int i = 0; i < numbers.length; i++) {
+          expected[i] = new BigDecimal(numbers[i]).longValue();
+      }
+      String json = "[[" + String.join(",", numbers) + "],[[1]]]";
+
+      try (JsonParser parser = Json.createParser(new StringReader(json))) {
+          assertEquals(Event.START_ARRAY, parser.next());
+          assertEquals(Event.START_ARRAY, parser.next());
+          assertArrayEquals(expected, parser.readLongArray());
+          assertEquals(Event.END_ARRAY, parser.currentEvent());
+          assertEquals(Event.START_ARRAY, parser.next());
+          assertThrows(JsonParsingException.class, () -> parser.readLongArray());
+      }
+
+      try (JsonParser parser = Json.createParser(new StringReader(json))) {
+          assertEquals(Event.START_ARRAY, parser.next());
+          assertEquals(Event.START_ARRAY, parser.next());
+          long[] buffer = new long[3];
+          assertEquals(0, parser.readLongArray(buffer, 0, 0));
+          assertEquals(Event.START_ARRAY, parser.currentEvent());
+          assertEquals(3, parser.readLongArray(buffer, 0, 3));
+          assertArrayEquals(new long[] { expected[0], expected[1], expected[2] }, buffer);
+          assertEquals(Event.VALUE_NUMBER, parser.currentEvent());
+          assertEquals(3, parser.readLongArray(buffer, 0, 3));
+          assertArrayEquals(new long[] { expected[3], expected[4], expected[5] }, buffer);
+          assertEquals(2, parser.readLongArray(buffer, 1, 2));
+          assertEquals(expected[6], buffer[1]);
+          assertEquals(expected[7], buffer[2]);
+          assertEquals(Event.VALUE_NUMBER, parser.currentEvent());
+          assertEquals(0, parser.readLongArray(buffer, 0, 3));
+          assertEquals(Event.END_ARRAY, parser.currentEvent());
+          assertEquals(0, parser.readLongArray(buffer, 0, 3));
+          assertEquals(Event.START_ARRAY, parser.next());
+      }
+  }
+
+  /*
+   * @testName: jsonParserReadLongArrayNotLong
+   *
+   * @assertion_ids: JSONP:JAVADOC:704;
+   *
+   * @test_Strategy: Tests that JsonParser.readLongArray() and
+   * readLongArray(long[], int, int), added in JSON-P 2.2, throw
+   * JsonParsingException for an element which is not a long value, that is
+   * which is not integral or is out of the range of a long, instead of
+   * truncating or wrapping it.
+   */
+  @Test
+  public void jsonParserReadLongArrayNotLong() {
+      String[] numbers = { "1.5", "9223372036854775808", "-9223372036854775809", "1e19" };
+      for (String number : numbers) {
+          String json = "[1," + number + ",2]";
+          try (JsonParser parser = Json.createParser(new StringReader(json))) {
+              assertEquals(Event.START_ARRAY, parser.next());
+              assertThrows(JsonParsingException.class, () -> parser.readLongArray(), number);
+          }
+          try (JsonParser parser = Json.createParser(new StringReader(json))) {
+              assertEquals(Event.START_ARRAY, parser.next());
+              long[] buffer = new long[3];
+              assertEquals(1, parser.readLongArray(buffer, 0, 1));
+              assertEquals(1L, buffer[0]);
+              assertThrows(JsonParsingException.class, () -> parser.readLongArray(buffer, 1, 2), number);
+          }
+      }
+  }
 }
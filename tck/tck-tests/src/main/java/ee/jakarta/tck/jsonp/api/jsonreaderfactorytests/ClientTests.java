@@ -25,6 +25,8 @@ import jakarta.json.*;
 
 import java.io.*;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.logging.Logger;
 
@@ -244,6 +246,78 @@ public class ClientTests {
     assertTrue(pass, "jsonReaderFactoryTest3 Failed");
   }
 
+  /*
+   * @testName: jsonReaderFactoryTest5
+   *
+   * @assertion_ids: JSONP:JAVADOC:707; JSONP:JAVADOC:708;
+   *
+   * @test_Strategy: Tests the JsonReaderFactory API.
+   *
+   * JsonReaderFactory readerFactory = Json.createReaderFactory(Map<String, ?>);
+   * JsonReader reader1 = readerFactory.createReader(byte[], int, int)
+   * JsonReader reader2 = readerFactory.createReader(ByteBuffer) with a heap buffer
+   * JsonReader reader3 = readerFactory.createReader(ByteBuffer) with a direct buffer
+   */
+  @Test
+  public void jsonReaderFactoryTest5() {
+    boolean pass = true;
+    String jsonObjectText = "{\"foo\":\"bar\"}";
+    try {
+      LOGGER.info("Create JsonReaderFactory with Map<String, ?> with EMPTY config");
+      JsonReaderFactory readerFactory = Json
+          .createReaderFactory(JSONP_Util.getEmptyConfig());
+      byte[] bytes = ("  " + jsonObjectText + "xx").getBytes(StandardCharsets.UTF_8);
+      int offset = 2;
+      int length = bytes.length - 4;
+
+      LOGGER.info("-------------------------------------------------------------");
+      LOGGER.info("TEST CASE [JsonReaderFactory.createReader(byte[], int, int)]");
+      LOGGER.info("-------------------------------------------------------------");
+      try (JsonReader reader = readerFactory.createReader(bytes, offset, length)) {
+        if (!readFooBar(reader))
+          pass = false;
+      }
+
+      LOGGER.info("-----------------------------------------------------------------");
+      LOGGER.info("TEST CASE [JsonReaderFactory.createReader(ByteBuffer)] heap buffer");
+      LOGGER.info("-----------------------------------------------------------------");
+      ByteBuffer heap = ByteBuffer.wrap(bytes, offset, length);
+      try (JsonReader reader = readerFactory.createReader(heap)) {
+        if (!readFooBar(reader))
+          pass = false;
+      }
+      if (!JSONP_Util.assertEquals(offset, heap.position()))
+        pass = false;
+
+      LOGGER.info("-------------------------------------------------------------------");
+      LOGGER.info("TEST CASE [JsonReaderFactory.createReader(ByteBuffer)] direct buffer");
+      LOGGER.info("-------------------------------------------------------------------");
+      ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+      direct.put(bytes);
+      direct.position(offset);
+      direct.limit(offset + length);
+      try (JsonReader reader = readerFactory.createReader(direct)) {
+        if (!readFooBar(reader))
+          pass = false;
+      }
+      if (!JSONP_Util.assertEquals(offset, direct.position()))
+        pass = false;
+    } catch (Exception e) {
+      fail("jsonReaderFactoryTest5 Failed: ", e);
+    }
+    assertTrue(pass, "jsonReaderFactoryTest5 Failed");
+  }
+
+  private boolean readFooBar(JsonReader reader) {
+    if (reader == null) {
+      LOGGER.warning("ReaderFactory failed to create reader");
+      return false;
+    }
+    JsonObject jsonObject = reader.readObject();
+    return JSONP_Util.assertEquals(jsonObject.size(), 1)
+        && JSONP_Util.assertEquals(jsonObject.getString("foo"), "bar");
+  }
+
   /*
    * @testName: jsonReaderFactoryTest4
    *
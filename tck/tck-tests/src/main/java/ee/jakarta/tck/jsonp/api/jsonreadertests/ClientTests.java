@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -41,6 +41,45 @@ public class ClientTests {
   
   /* Utility Methods */
 
+  /**
+   * Creates the JSON reader used by the tests of the reader of a character
+   * stream. Subclasses may override it to run the tests with a configured
+   * reader factory.
+   *
+   * @param reader
+   *          Character stream to read.
+   * @return JSON reader of the stream.
+   */
+  protected JsonReader createReader(java.io.Reader reader) {
+    return Json.createReader(reader);
+  }
+
+  /**
+   * Creates the JSON reader used by the tests of the reader of a byte stream.
+   * Subclasses may override it to run the tests with a configured reader
+   * factory.
+   *
+   * @param in
+   *          Byte stream to read.
+   * @return JSON reader of the stream.
+   */
+  protected JsonReader createReader(InputStream in) {
+    return Json.createReader(in);
+  }
+
+  /**
+   * Creates the JSON reader factory used by the tests of the readers of a
+   * factory. Subclasses may override it to run the tests with additional
+   * configuration properties.
+   *
+   * @param config
+   *          Configuration of the factory.
+   * @return JSON reader factory with the configuration.
+   */
+  protected JsonReaderFactory createReaderFactory(Map<String, ?> config) {
+    return Json.createReaderFactory(config);
+  }
+
   /*
    * compareJsonObjectForUTFEncodedTests
    */
@@ -81,7 +120,7 @@ public class ClientTests {
     try {
       String expJsonText = "[]";
       LOGGER.info("Testing read of " + expJsonText);
-      reader = Json.createReader(new StringReader(expJsonText));
+      reader = createReader(new StringReader(expJsonText));
       JsonArray array = reader.readArray();
       assertTrue(JSONP_Util.assertEqualsEmptyArrayList(array), "readEmptyArrayTest Failed");
     } catch (Exception e) {
@@ -123,7 +162,7 @@ public class ClientTests {
       LOGGER.info("readerContents=" + readerContents);
 
       LOGGER.info("Testing read of resource contents: " + readerContents);
-      reader = Json.createReader(new StringReader(readerContents));
+      reader = createReader(new StringReader(readerContents));
       JsonArray expJsonArray = reader.readArray();
 
       LOGGER.info("Dump of expJsonArray");
@@ -146,7 +185,7 @@ public class ClientTests {
 
       LOGGER.info("Create actJsonArray from read of writer contents: "
           + writerContents);
-      reader = Json.createReader(new StringReader(writerContents));
+      reader = createReader(new StringReader(writerContents));
       JsonArray actJsonArray = reader.readArray();
 
       LOGGER.info("Dump of actJsonArray");
@@ -186,7 +225,7 @@ public class ClientTests {
     String expResult = "\u0000\u00ff\uff00\uffff";
     try {
       LOGGER.info("Reading array of escaped and non escaped unicode chars.");
-      reader = Json.createReader(new StringReader(unicodeTextString));
+      reader = createReader(new StringReader(unicodeTextString));
       JsonArray array = reader.readArray();
       String actResult = array.getJsonString(0).getString();
       assertTrue(JSONP_Util.assertEquals(expResult, actResult), "readEscapeUnicodeCharsInArrayTest Failed");
@@ -218,7 +257,7 @@ public class ClientTests {
     String expResult = JSONP_Data.unicodeControlCharsNonEscaped;
     try {
       LOGGER.info("Reading array of escaped and non escaped unicode chars.");
-      reader = Json.createReader(new StringReader(unicodeTextString));
+      reader = createReader(new StringReader(unicodeTextString));
       JsonArray array = reader.readArray();
       String actResult = array.getJsonString(0).getString();
       assertTrue(JSONP_Util.assertEquals(expResult, actResult), "readEscapeUnicodeControlCharsInArrayTest Failed");
@@ -245,7 +284,7 @@ public class ClientTests {
     try {
       String expJsonText = "{}";
       LOGGER.info("Testing read of " + expJsonText);
-      reader = Json.createReader(new StringReader(expJsonText));
+      reader = createReader(new StringReader(expJsonText));
       JsonObject object = reader.readObject();
       assertTrue(JSONP_Util.assertEqualsEmptyObjectMap(object), "readEmptyObjectTest Failed");
     } catch (Exception e) {
@@ -287,7 +326,7 @@ public class ClientTests {
       LOGGER.info("readerContents=" + readerContents);
 
       LOGGER.info("Testing read of resource contents: " + readerContents);
-      reader = Json.createReader(new StringReader(readerContents));
+      reader = createReader(new StringReader(readerContents));
       JsonObject expJsonObject = reader.readObject();
 
       LOGGER.info("Dump of expJsonObject");
@@ -310,7 +349,7 @@ public class ClientTests {
 
       LOGGER.info("Create actJsonObject from read of writer contents: "
           + writerContents);
-      reader = Json.createReader(new StringReader(writerContents));
+      reader = createReader(new StringReader(writerContents));
       JsonObject actJsonObject = reader.readObject();
 
       LOGGER.info("Dump of actJsonObject");
@@ -350,7 +389,7 @@ public class ClientTests {
     String expResult = "\u0000\u00ff\uff00\uffff";
     try {
       LOGGER.info("Reading object of escaped and non escaped unicode chars.");
-      reader = Json.createReader(new StringReader(unicodeTextString));
+      reader = createReader(new StringReader(unicodeTextString));
       JsonObject object = reader.readObject();
       String actResult = object.getJsonString("unicodechars").getString();
       assertTrue(JSONP_Util.assertEquals(expResult, actResult), "readEscapeUnicodeCharsInObjectTest Failed");
@@ -382,7 +421,7 @@ public class ClientTests {
     String expResult = JSONP_Data.unicodeControlCharsNonEscaped;
     try {
       LOGGER.info("Reading array of escaped and non escaped unicode chars.");
-      reader = Json.createReader(new StringReader(unicodeTextString));
+      reader = createReader(new StringReader(unicodeTextString));
       JsonObject object = reader.readObject();
       String actResult = object.getJsonString("unicodechars").getString();
       assertTrue(JSONP_Util.assertEquals(expResult, actResult), "readEscapeUnicodeControlCharsInObjectTest Failed");
@@ -439,7 +478,7 @@ public class ClientTests {
       expList.add(object);
 
       LOGGER.info("Testing read of " + jsonText);
-      reader = Json.createReader(new StringReader(jsonText));
+      reader = createReader(new StringReader(jsonText));
       JsonArray myJsonArray = reader.readArray();
 
       List<JsonValue> actList = myJsonArray;
@@ -502,7 +541,7 @@ public class ClientTests {
       LOGGER.info("JsonWriterContents=" + jsonText);
 
       LOGGER.info("Testing read of " + jsonText);
-      reader = Json.createReader(JSONP_Util.getInputStreamFromString(jsonText));
+      reader = createReader(JSONP_Util.getInputStreamFromString(jsonText));
       JsonArray actJsonArray = reader.readArray();
 
       LOGGER.info("Compare expJsonArray and actJsonArray for equality");
@@ -545,7 +584,7 @@ public class ClientTests {
           + "{\"true\":true,\"false\":false,\"null\":null,\"bonga\":\"boo\",\"int\":1}]";
 
       LOGGER.info("Testing read of " + expJsonText);
-      reader = Json.createReaderFactory(JSONP_Util.getEmptyConfig())
+      reader = createReaderFactory(JSONP_Util.getEmptyConfig())
           .createReader(new StringReader(expJsonText));
       JsonArray myJsonArray = reader.readArray();
 
@@ -592,7 +631,7 @@ public class ClientTests {
       LOGGER.info(
           "Read contents of InputStream from resource file: " + resourceFile);
       Map<String, ?> config = JSONP_Util.getEmptyConfig();
-      reader = Json.createReaderFactory(config).createReader(
+      reader = createReaderFactory(config).createReader(
           JSONP_Util.getInputStreamFromResource(resourceFile),
           JSONP_Util.UTF_8);
       JsonArray expJsonArray = reader.readArray();
@@ -612,7 +651,7 @@ public class ClientTests {
 
       LOGGER.info("Create actJsonArray from read of writer contents: "
           + writerContents);
-      reader = Json.createReader(new StringReader(writerContents));
+      reader = createReader(new StringReader(writerContents));
       JsonArray actJsonArray = reader.readArray();
 
       LOGGER.info("Dump of actJsonArray");
@@ -665,7 +704,7 @@ public class ClientTests {
 
       LOGGER.info(
           "Read contents of InputStream from resource file: " + resourceFile);
-      reader = Json.createReaderFactory(JSONP_Util.getEmptyConfig())
+      reader = createReaderFactory(JSONP_Util.getEmptyConfig())
           .createReader(JSONP_Util.getInputStreamFromResource(resourceFile),
               JSONP_Util.UTF_8);
       JsonArray myJsonArray = (JsonArray) reader.read();
@@ -721,7 +760,7 @@ public class ClientTests {
       LOGGER.info("Reading contents of resource file using UTF-8 encoding "
           + resourceFileUTF8);
       InputStream is = JSONP_Util.getInputStreamFromResource(resourceFileUTF8);
-      reader = Json.createReaderFactory(config).createReader(is,
+      reader = createReaderFactory(config).createReader(is,
           JSONP_Util.UTF_8);
       JsonArray jsonArray = reader.readArray();
       LOGGER.info("Comparing JsonArray values with expected results.");
@@ -739,7 +778,7 @@ public class ClientTests {
           + resourceFileUTF16BE);
       InputStream is = JSONP_Util
           .getInputStreamFromResource(resourceFileUTF16BE);
-      reader = Json.createReaderFactory(config).createReader(is,
+      reader = createReaderFactory(config).createReader(is,
           JSONP_Util.UTF_16BE);
       JsonArray jsonArray = reader.readArray();
       LOGGER.info("Comparing JsonArray values with expected results.");
@@ -802,7 +841,7 @@ public class ClientTests {
       expMap.put("object", object);
 
       LOGGER.info("Testing read of " + expJsonText);
-      reader = Json.createReader(new StringReader(expJsonText));
+      reader = createReader(new StringReader(expJsonText));
       JsonObject myJsonObject = reader.readObject();
 
       Map<String, JsonValue> actMap = myJsonObject;
@@ -869,7 +908,7 @@ public class ClientTests {
       LOGGER.info("JsonWriterContents=" + jsonText);
 
       LOGGER.info("Testing read of " + jsonText);
-      reader = Json.createReader(JSONP_Util.getInputStreamFromString(jsonText));
+      reader = createReader(JSONP_Util.getInputStreamFromString(jsonText));
       JsonObject actJsonObject = reader.readObject();
 
       LOGGER.info("Compare expJsonObject and actJsonObject for equality");
@@ -914,7 +953,7 @@ public class ClientTests {
           + "\"object\":{\"true\":true,\"false\":false,\"null\":null,\"bonga\":\"boo\",\"int\":1}}";
 
       LOGGER.info("Testing read of " + expJsonText);
-      reader = Json.createReaderFactory(JSONP_Util.getEmptyConfig())
+      reader = createReaderFactory(JSONP_Util.getEmptyConfig())
           .createReader(new StringReader(expJsonText));
       JsonObject myJsonObject = reader.readObject();
 
@@ -961,7 +1000,7 @@ public class ClientTests {
       LOGGER.info(
           "Read contents of InputStream from resource file: " + resourceFile);
       Map<String, ?> config = JSONP_Util.getEmptyConfig();
-      reader = Json.createReaderFactory(config).createReader(
+      reader = createReaderFactory(config).createReader(
           JSONP_Util.getInputStreamFromResource(resourceFile),
           JSONP_Util.UTF_8);
       JsonObject expJsonObject = reader.readObject();
@@ -981,7 +1020,7 @@ public class ClientTests {
 
       LOGGER.info("Create actJsonObject from read of writer contents: "
           + writerContents);
-      reader = Json.createReader(new StringReader(writerContents));
+      reader = createReader(new StringReader(writerContents));
       JsonObject actJsonObject = reader.readObject();
 
       LOGGER.info("Dump of actJsonObject");
@@ -1034,7 +1073,7 @@ public class ClientTests {
 
       LOGGER.info(
           "Read contents of InputStream from resource file: " + resourceFile);
-      reader = Json.createReaderFactory(JSONP_Util.getEmptyConfig())
+      reader = createReaderFactory(JSONP_Util.getEmptyConfig())
           .createReader(JSONP_Util.getInputStreamFromResource(resourceFile),
               JSONP_Util.UTF_8);
       JsonObject myJsonObject = (JsonObject) reader.read();
@@ -1090,7 +1129,7 @@ public class ClientTests {
           + resourceFileUTF8);
       InputStream is = JSONP_Util.getInputStreamFromResource(resourceFileUTF8);
       Map<String, ?> config = JSONP_Util.getEmptyConfig();
-      reader = Json.createReaderFactory(config).createReader(is,
+      reader = createReaderFactory(config).createReader(is,
           JSONP_Util.UTF_8);
       JsonObject jsonObject = reader.readObject();
       LOGGER.info("Comparing JsonObject values with expected results.");
@@ -1109,7 +1148,7 @@ public class ClientTests {
       InputStream is = JSONP_Util
           .getInputStreamFromResource(resourceFileUTF16LE);
       Map<String, ?> config = JSONP_Util.getEmptyConfig();
-      reader = Json.createReaderFactory(config).createReader(is,
+      reader = createReaderFactory(config).createReader(is,
           JSONP_Util.UTF_16LE);
       JsonObject jsonObject = reader.readObject();
       LOGGER.info("Comparing JsonObject values with expected results.");
@@ -1165,7 +1204,7 @@ public class ClientTests {
           .getInputStreamFromResource("jsonObjectEncodingUTF8.json");
       LOGGER.info(
           "Create JsonReader from the InputStream with character encoding UTF-8");
-      reader = Json.createReaderFactory(config).createReader(is,
+      reader = createReaderFactory(config).createReader(is,
           JSONP_Util.UTF_8);
       JsonObject jsonObject = reader.readObject();
       if (!compareJsonObjectForUTFEncodedTests(jsonObject))
@@ -1193,7 +1232,7 @@ public class ClientTests {
           .getInputStreamFromResource("jsonObjectEncodingUTF16.json");
       LOGGER.info(
           "Create JsonReader from the InputStream with character encoding UTF-16");
-      reader = Json.createReaderFactory(config).createReader(is,
+      reader = createReaderFactory(config).createReader(is,
           JSONP_Util.UTF_16);
       JsonObject jsonObject = reader.readObject();
       if (!compareJsonObjectForUTFEncodedTests(jsonObject))
@@ -1221,7 +1260,7 @@ public class ClientTests {
           .getInputStreamFromResource("jsonObjectEncodingUTF16LE.json");
       LOGGER.info(
           "Create JsonReader from the InputStream with character encoding UTF-16LE");
-      reader = Json.createReaderFactory(config).createReader(is,
+      reader = createReaderFactory(config).createReader(is,
           JSONP_Util.UTF_16LE);
       JsonObject jsonObject = reader.readObject();
       if (!compareJsonObjectForUTFEncodedTests(jsonObject))
@@ -1249,7 +1288,7 @@ public class ClientTests {
           .getInputStreamFromResource("jsonObjectEncodingUTF16BE.json");
       LOGGER.info(
           "Create JsonReader from the InputStream with character encoding UTF-16BE");
-      reader = Json.createReaderFactory(config).createReader(is,
+      reader = createReaderFactory(config).createReader(is,
           JSONP_Util.UTF_16BE);
       JsonObject jsonObject = reader.readObject();
       if (!compareJsonObjectForUTFEncodedTests(jsonObject))
@@ -1277,7 +1316,7 @@ public class ClientTests {
           .getInputStreamFromResource("jsonObjectEncodingUTF32LE.json");
       LOGGER.info(
           "Create JsonReader from the InputStream with character encoding UTF-32LE");
-      reader = Json.createReaderFactory(config).createReader(is,
+      reader = createReaderFactory(config).createReader(is,
           JSONP_Util.UTF_32LE);
       JsonObject jsonObject = reader.readObject();
       if (!compareJsonObjectForUTFEncodedTests(jsonObject))
@@ -1305,7 +1344,7 @@ public class ClientTests {
           .getInputStreamFromResource("jsonObjectEncodingUTF32BE.json");
       LOGGER.info(
           "Create JsonReader from the InputStream with character encoding UTF-32BE");
-      reader = Json.createReaderFactory(config).createReader(is,
+      reader = createReaderFactory(config).createReader(is,
           JSONP_Util.UTF_32BE);
       JsonObject jsonObject = reader.readObject();
       if (!compareJsonObjectForUTFEncodedTests(jsonObject))
@@ -1337,7 +1376,7 @@ public class ClientTests {
    * 
    * Creates the JsonReader via the API:
    *
-   * JsonReader reader = Json.createReader(InputStream istream)
+   * JsonReader reader = createReader(InputStream istream)
    *
    * For each supported encoding supported by JSON RFC read the JsonObject and
    * verify we get the expected results. The character encoding of the stream is
@@ -1357,7 +1396,7 @@ public class ClientTests {
           .getInputStreamFromResource("jsonObjectEncodingUTF8.json");
       LOGGER.info(
           "Create JsonReader from the InputStream and auto-detect character encoding UTF-8");
-      reader = Json.createReader(is);
+      reader = createReader(is);
       JsonObject jsonObject = reader.readObject();
       if (!compareJsonObjectForUTFEncodedTests(jsonObject))
         pass = false;
@@ -1381,7 +1420,7 @@ public class ClientTests {
           .getInputStreamFromResource("jsonObjectEncodingUTF16LE.json");
       LOGGER.info(
           "Create JsonReader from the InputStream and auto-detect character encoding UTF-16LE");
-      reader = Json.createReader(is);
+      reader = createReader(is);
       JsonObject jsonObject = reader.readObject();
       if (!compareJsonObjectForUTFEncodedTests(jsonObject))
         pass = false;
@@ -1405,7 +1444,7 @@ public class ClientTests {
           .getInputStreamFromResource("jsonObjectEncodingUTF16BE.json");
       LOGGER.info(
           "Create JsonReader from the InputStream and auto-detect character encoding UTF-16BE");
-      reader = Json.createReader(is);
+      reader = createReader(is);
       JsonObject jsonObject = reader.readObject();
       if (!compareJsonObjectForUTFEncodedTests(jsonObject))
         pass = false;
@@ -1429,7 +1468,7 @@ public class ClientTests {
           .getInputStreamFromResource("jsonObjectEncodingUTF32LE.json");
       LOGGER.info(
           "Create JsonReader from the InputStream and auto-detect character encoding UTF-32LE");
-      reader = Json.createReader(is);
+      reader = createReader(is);
       JsonObject jsonObject = reader.readObject();
       if (!compareJsonObjectForUTFEncodedTests(jsonObject))
         pass = false;
@@ -1453,7 +1492,7 @@ public class ClientTests {
           .getInputStreamFromResource("jsonObjectEncodingUTF32BE.json");
       LOGGER.info(
           "Create JsonReader from the InputStream and auto-detect character encoding UTF-32BE");
-      reader = Json.createReader(is);
+      reader = createReader(is);
       JsonObject jsonObject = reader.readObject();
       if (!compareJsonObjectForUTFEncodedTests(jsonObject))
         pass = false;
@@ -1489,7 +1528,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for not an object '[]'");
-      reader = Json.createReader(new StringReader("[]"));
+      reader = createReader(new StringReader("[]"));
       JsonObject value = reader.readObject();
       pass = false;
       LOGGER.warning("Failed to throw JsonException");
@@ -1525,7 +1564,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for missing '['");
-      reader = Json.createReader(new StringReader("{1,2]}"));
+      reader = createReader(new StringReader("{1,2]}"));
       JsonObject value = reader.readObject();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -1543,7 +1582,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for missing ']'");
-      reader = Json.createReader(new StringReader("{[1,2}"));
+      reader = createReader(new StringReader("{[1,2}"));
       JsonObject value = reader.readObject();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -1561,7 +1600,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for missing '{'");
-      reader = Json.createReader(new StringReader("}"));
+      reader = createReader(new StringReader("}"));
       JsonObject value = reader.readObject();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -1579,7 +1618,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for missing '}'");
-      reader = Json.createReader(new StringReader("{"));
+      reader = createReader(new StringReader("{"));
       JsonObject value = reader.readObject();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -1597,7 +1636,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for missing ',' between array elements test case 1");
-      reader = Json.createReader(new StringReader("{[5\"foo\"]}"));
+      reader = createReader(new StringReader("{[5\"foo\"]}"));
       JsonObject value = reader.readObject();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -1615,7 +1654,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for missing ',' between array elements test case 2");
-      reader = Json.createReader(new StringReader("{[5{}]}"));
+      reader = createReader(new StringReader("{[5{}]}"));
       JsonObject value = reader.readObject();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -1633,7 +1672,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for missing ',' between object elements test case 1");
-      reader = Json.createReader(new StringReader("{\"foo\":\"bar\"5}"));
+      reader = createReader(new StringReader("{\"foo\":\"bar\"5}"));
       JsonObject value = reader.readObject();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -1651,7 +1690,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for missing ',' between object elements test case 2");
-      reader = Json.createReader(new StringReader("{\"one\":1[]}"));
+      reader = createReader(new StringReader("{\"one\":1[]}"));
       JsonObject value = reader.readObject();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -1669,7 +1708,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for missing key name in object element");
-      reader = Json.createReader(new StringReader("{:\"bar\"}"));
+      reader = createReader(new StringReader("{:\"bar\"}"));
       JsonObject value = reader.readObject();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -1687,7 +1726,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for missing value name in object element");
-      reader = Json.createReader(new StringReader("{\"foo\":}"));
+      reader = createReader(new StringReader("{\"foo\":}"));
       JsonObject value = reader.readObject();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -1705,7 +1744,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Test for missing double quote on a name");
-      reader = Json.createReader(new StringReader("{name\" : \"value\"}"));
+      reader = createReader(new StringReader("{name\" : \"value\"}"));
       JsonObject value = reader.readObject();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -1723,7 +1762,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Test for missing double quote on a value");
-      reader = Json.createReader(new StringReader("{\"name\" : value\"}"));
+      reader = createReader(new StringReader("{\"name\" : value\"}"));
       JsonObject value = reader.readObject();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -1741,7 +1780,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Incorrect digit value -foo");
-      reader = Json.createReader(new StringReader("{\"number\" : -foo}"));
+      reader = createReader(new StringReader("{\"number\" : -foo}"));
       JsonObject value = reader.readObject();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -1759,7 +1798,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Incorrect digit value +foo");
-      reader = Json.createReader(new StringReader("{\"number\" : +foo}"));
+      reader = createReader(new StringReader("{\"number\" : +foo}"));
       JsonObject value = reader.readObject();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -1777,7 +1816,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Incorrect digit value -784foo");
-      reader = Json.createReader(new StringReader("{\"number\" : -784foo}"));
+      reader = createReader(new StringReader("{\"number\" : -784foo}"));
       JsonObject value = reader.readObject();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -1795,7 +1834,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Incorrect digit value +784foo");
-      reader = Json.createReader(new StringReader("{\"number\" : +784foo}"));
+      reader = createReader(new StringReader("{\"number\" : +784foo}"));
       JsonObject value = reader.readObject();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -1813,7 +1852,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Incorrect digit value 0.1E5E5");
-      reader = Json.createReader(new StringReader("{\"number\" : 0.1E5E5}"));
+      reader = createReader(new StringReader("{\"number\" : 0.1E5E5}"));
       JsonObject value = reader.readObject();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -1831,7 +1870,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Incorrect digit value  0.F10");
-      reader = Json.createReader(new StringReader("{\"number\" : 0.F10}"));
+      reader = createReader(new StringReader("{\"number\" : 0.F10}"));
       JsonObject value = reader.readObject();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -1849,7 +1888,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Incorrect digit value string");
-      reader = Json.createReader(new StringReader("{\"number\" : string}"));
+      reader = createReader(new StringReader("{\"number\" : string}"));
       JsonObject value = reader.readObject();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -1867,7 +1906,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Incorrect digit value hex numbers invalid per JSON RFC");
-      reader = Json.createReader(new StringReader("{\"number\" : 0x137a}"));
+      reader = createReader(new StringReader("{\"number\" : 0x137a}"));
       JsonObject value = reader.readObject();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -1885,7 +1924,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Incorrect digit value octal numbers invalid per JSON RFC");
-      reader = Json.createReader(new StringReader("{\"number\" : 0137}"));
+      reader = createReader(new StringReader("{\"number\" : 0137}"));
       JsonObject value = reader.readObject();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -1921,7 +1960,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for not an array '{}'");
-      reader = Json.createReader(new StringReader("{}"));
+      reader = createReader(new StringReader("{}"));
       JsonArray value = reader.readArray();
       pass = false;
       LOGGER.warning("Failed to throw JsonException");
@@ -1957,7 +1996,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for missing '['");
-      reader = Json.createReader(new StringReader("]"));
+      reader = createReader(new StringReader("]"));
       JsonArray value = reader.readArray();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -1975,7 +2014,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for missing ']'");
-      reader = Json.createReader(new StringReader("["));
+      reader = createReader(new StringReader("["));
       JsonArray value = reader.readArray();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -1993,7 +2032,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for missing '{'");
-      reader = Json.createReader(new StringReader("[1,\"name\":\"value\"}]"));
+      reader = createReader(new StringReader("[1,\"name\":\"value\"}]"));
       JsonArray value = reader.readArray();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2011,7 +2050,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for missing '}'");
-      reader = Json.createReader(new StringReader("[1,{\"name\":\"value\"]"));
+      reader = createReader(new StringReader("[1,{\"name\":\"value\"]"));
       JsonArray value = reader.readArray();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2029,7 +2068,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for missing ',' between array elements test case 1");
-      reader = Json.createReader(new StringReader("[5\"foo\"]"));
+      reader = createReader(new StringReader("[5\"foo\"]"));
       JsonArray value = reader.readArray();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2047,7 +2086,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for missing ',' between array elements test case 2");
-      reader = Json.createReader(new StringReader("[5{}]"));
+      reader = createReader(new StringReader("[5{}]"));
       JsonArray value = reader.readArray();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2065,7 +2104,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for missing ',' between object elements test case 1");
-      reader = Json.createReader(new StringReader("[{\"foo\":\"bar\"5}]"));
+      reader = createReader(new StringReader("[{\"foo\":\"bar\"5}]"));
       JsonArray value = reader.readArray();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2083,7 +2122,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for missing ',' between object elements test case 2");
-      reader = Json.createReader(new StringReader("[{\"one\":1[]}]"));
+      reader = createReader(new StringReader("[{\"one\":1[]}]"));
       JsonArray value = reader.readArray();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2101,7 +2140,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for missing key name in object element");
-      reader = Json.createReader(new StringReader("[{:\"bar\"}]"));
+      reader = createReader(new StringReader("[{:\"bar\"}]"));
       JsonArray value = reader.readArray();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2119,7 +2158,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for missing value name in object element");
-      reader = Json.createReader(new StringReader("[{\"foo\":}]"));
+      reader = createReader(new StringReader("[{\"foo\":}]"));
       JsonArray value = reader.readArray();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2137,7 +2176,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Test for missing double quote on a name");
-      reader = Json.createReader(new StringReader("[{name\" : \"value\"}]"));
+      reader = createReader(new StringReader("[{name\" : \"value\"}]"));
       JsonArray value = reader.readArray();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2155,7 +2194,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Test for missing double quote on a value");
-      reader = Json.createReader(new StringReader("[{\"name\" : value\"}]"));
+      reader = createReader(new StringReader("[{\"name\" : value\"}]"));
       JsonArray value = reader.readArray();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2173,7 +2212,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Incorrect digit value -foo");
-      reader = Json.createReader(new StringReader("[-foo]"));
+      reader = createReader(new StringReader("[-foo]"));
       JsonArray value = reader.readArray();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2191,7 +2230,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Incorrect digit value +foo");
-      reader = Json.createReader(new StringReader("[+foo]"));
+      reader = createReader(new StringReader("[+foo]"));
       JsonArray value = reader.readArray();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2209,7 +2248,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Incorrect digit value -784foo");
-      reader = Json.createReader(new StringReader("[-784foo]"));
+      reader = createReader(new StringReader("[-784foo]"));
       JsonArray value = reader.readArray();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2227,7 +2266,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Incorrect digit value +784foo");
-      reader = Json.createReader(new StringReader("[+784foo]"));
+      reader = createReader(new StringReader("[+784foo]"));
       JsonArray value = reader.readArray();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2245,7 +2284,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Incorrect digit value 0.1E5E5");
-      reader = Json.createReader(new StringReader("[0.1E5E5]"));
+      reader = createReader(new StringReader("[0.1E5E5]"));
       JsonArray value = reader.readArray();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2263,7 +2302,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Incorrect digit value  0.F10");
-      reader = Json.createReader(new StringReader("[0.F10]"));
+      reader = createReader(new StringReader("[0.F10]"));
       JsonArray value = reader.readArray();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2281,7 +2320,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Incorrect digit value string");
-      reader = Json.createReader(new StringReader("[string]"));
+      reader = createReader(new StringReader("[string]"));
       JsonArray value = reader.readArray();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2299,7 +2338,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Incorrect digit value hex numbers invalid per JSON RFC");
-      reader = Json.createReader(new StringReader("[0x137a]"));
+      reader = createReader(new StringReader("[0x137a]"));
       JsonArray value = reader.readArray();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2317,7 +2356,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Incorrect digit value octal numbers invalid per JSON RFC");
-      reader = Json.createReader(new StringReader("[0137]"));
+      reader = createReader(new StringReader("[0137]"));
       JsonArray value = reader.readArray();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2350,7 +2389,7 @@ public class ClientTests {
 
     // IllegalStateException if reader.close() called before reader.read()
     try {
-      reader = Json.createReader(new StringReader("{}"));
+      reader = createReader(new StringReader("{}"));
       reader.close();
       LOGGER.info(
           "Calling reader.read() after reader.close() is called is illegal.");
@@ -2366,7 +2405,7 @@ public class ClientTests {
 
     // IllegalStateException if reader.read() called after reader.readObject()
     try {
-      reader = Json.createReader(new StringReader("{}"));
+      reader = createReader(new StringReader("{}"));
       JsonObject value = reader.readObject();
       LOGGER.info(
           "Calling reader.readObject() after reader.readObject() was called is illegal.");
@@ -2385,7 +2424,7 @@ public class ClientTests {
 
     // IllegalStateException if reader.read() called after reader.readArray()
     try {
-      reader = Json.createReader(new StringReader("[]"));
+      reader = createReader(new StringReader("[]"));
       JsonArray value = reader.readArray();
       LOGGER.info(
           "Calling reader.read() after reader.readArray() was called is illegal.");
@@ -2404,7 +2443,7 @@ public class ClientTests {
 
     // IllegalStateException if reader.close() called before reader.readObject()
     try {
-      reader = Json.createReader(new StringReader("{}"));
+      reader = createReader(new StringReader("{}"));
       reader.close();
       LOGGER.info(
           "Calling reader.readObject() after reader.close() is called is illegal.");
@@ -2421,7 +2460,7 @@ public class ClientTests {
     // IllegalStateException if reader.readObject() called after
     // reader.readObject()
     try {
-      reader = Json.createReader(new StringReader("{}"));
+      reader = createReader(new StringReader("{}"));
       JsonObject value = reader.readObject();
       LOGGER.info(
           "Calling reader.readObject() after reader.readObject() was called is illegal.");
@@ -2441,7 +2480,7 @@ public class ClientTests {
     // IllegalStateException if reader.readArray() called after
     // reader.readObject()
     try {
-      reader = Json.createReader(new StringReader("{}"));
+      reader = createReader(new StringReader("{}"));
       JsonObject obj = reader.readObject();
       LOGGER.info(
           "Calling reader.readArray() after reader.readObject() was called is illegal.");
@@ -2460,7 +2499,7 @@ public class ClientTests {
 
     // IllegalStateException if reader.close() called before reader.readArray()
     try {
-      reader = Json.createReader(new StringReader("[]"));
+      reader = createReader(new StringReader("[]"));
       reader.close();
       LOGGER.info(
           "Calling reader.readArray() after reader.close() is called is illegal.");
@@ -2477,7 +2516,7 @@ public class ClientTests {
     // IllegalStateException if reader.readArray() called after
     // reader.readArray()
     try {
-      reader = Json.createReader(new StringReader("[]"));
+      reader = createReader(new StringReader("[]"));
       JsonArray value = reader.readArray();
       LOGGER.info(
           "Calling reader.readArray() after reader.readArray() was called is illegal.");
@@ -2497,7 +2536,7 @@ public class ClientTests {
     // IllegalStateException if reader.readObject() called after
     // reader.readArray()
     try {
-      reader = Json.createReader(new StringReader("[]"));
+      reader = createReader(new StringReader("[]"));
       JsonArray arr = reader.readArray();
       LOGGER.info(
           "Calling reader.readObject() after reader.readArray() was called is illegal.");
@@ -2572,7 +2611,7 @@ public class ClientTests {
     // incorrect representation {]
     try {
       LOGGER.info("Testing for incorrect representation '{]'");
-      reader = Json.createReader(new StringReader("{]"));
+      reader = createReader(new StringReader("{]"));
       LOGGER.info(
           "Calling reader.read() with incorrect representation should throw JsonParsingException");
       JsonStructure value = reader.read();
@@ -2589,7 +2628,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for missing '['");
-      reader = Json.createReader(new StringReader("{1,2]}"));
+      reader = createReader(new StringReader("{1,2]}"));
       JsonStructure value = reader.read();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2607,7 +2646,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for missing ']'");
-      reader = Json.createReader(new StringReader("{[1,2}"));
+      reader = createReader(new StringReader("{[1,2}"));
       JsonStructure value = reader.read();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2625,7 +2664,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for missing '{'");
-      reader = Json.createReader(new StringReader("}"));
+      reader = createReader(new StringReader("}"));
       JsonStructure value = reader.read();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2643,7 +2682,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for missing '}'");
-      reader = Json.createReader(new StringReader("{"));
+      reader = createReader(new StringReader("{"));
       JsonStructure value = reader.read();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2661,7 +2700,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for missing ',' between array elements test case 1");
-      reader = Json.createReader(new StringReader("{[5\"foo\"]}"));
+      reader = createReader(new StringReader("{[5\"foo\"]}"));
       JsonStructure value = reader.read();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2679,7 +2718,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for missing ',' between array elements test case 2");
-      reader = Json.createReader(new StringReader("{[5{}]}"));
+      reader = createReader(new StringReader("{[5{}]}"));
       JsonStructure value = reader.read();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2697,7 +2736,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for missing ',' between object elements test case 1");
-      reader = Json.createReader(new StringReader("{\"foo\":\"bar\"5}"));
+      reader = createReader(new StringReader("{\"foo\":\"bar\"5}"));
       JsonStructure value = reader.read();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2715,7 +2754,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for missing ',' between object elements test case 2");
-      reader = Json.createReader(new StringReader("{\"one\":1[]}"));
+      reader = createReader(new StringReader("{\"one\":1[]}"));
       JsonStructure value = reader.read();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2733,7 +2772,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for missing key name in object element");
-      reader = Json.createReader(new StringReader("{:\"bar\"}"));
+      reader = createReader(new StringReader("{:\"bar\"}"));
       JsonStructure value = reader.read();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2751,7 +2790,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Testing for missing value name in object element");
-      reader = Json.createReader(new StringReader("{\"foo\":}"));
+      reader = createReader(new StringReader("{\"foo\":}"));
       JsonStructure value = reader.read();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2769,7 +2808,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Test for missing double quote on a name");
-      reader = Json.createReader(new StringReader("{name\" : \"value\"}"));
+      reader = createReader(new StringReader("{name\" : \"value\"}"));
       JsonStructure value = reader.read();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2787,7 +2826,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Test for missing double quote on a value");
-      reader = Json.createReader(new StringReader("{\"name\" : value\"}"));
+      reader = createReader(new StringReader("{\"name\" : value\"}"));
       JsonStructure value = reader.read();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2805,7 +2844,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Incorrect digit value -foo");
-      reader = Json.createReader(new StringReader("{\"number\" : -foo}"));
+      reader = createReader(new StringReader("{\"number\" : -foo}"));
       JsonStructure value = reader.read();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2823,7 +2862,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Incorrect digit value +foo");
-      reader = Json.createReader(new StringReader("{\"number\" : +foo}"));
+      reader = createReader(new StringReader("{\"number\" : +foo}"));
       JsonStructure value = reader.read();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2841,7 +2880,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Incorrect digit value -784foo");
-      reader = Json.createReader(new StringReader("{\"number\" : -784foo}"));
+      reader = createReader(new StringReader("{\"number\" : -784foo}"));
       JsonStructure value = reader.read();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2859,7 +2898,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Incorrect digit value +784foo");
-      reader = Json.createReader(new StringReader("{\"number\" : +784foo}"));
+      reader = createReader(new StringReader("{\"number\" : +784foo}"));
       JsonStructure value = reader.read();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2877,7 +2916,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Incorrect digit value 0.1E5E5");
-      reader = Json.createReader(new StringReader("{\"number\" : 0.1E5E5}"));
+      reader = createReader(new StringReader("{\"number\" : 0.1E5E5}"));
       JsonStructure value = reader.read();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2895,7 +2934,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Incorrect digit value  0.F10");
-      reader = Json.createReader(new StringReader("{\"number\" : 0.F10}"));
+      reader = createReader(new StringReader("{\"number\" : 0.F10}"));
       JsonStructure value = reader.read();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2913,7 +2952,7 @@ public class ClientTests {
 
     try {
       LOGGER.info("Incorrect digit value string");
-      reader = Json.createReader(new StringReader("{\"number\" : string}"));
+      reader = createReader(new StringReader("{\"number\" : string}"));
       JsonStructure value = reader.read();
       pass = false;
       LOGGER.warning("Failed to throw JsonParsingException");
@@ -2953,7 +2992,7 @@ public class ClientTests {
       LOGGER.info("Reading object " + jsonObjectText);
       InputStream is = JSONP_Util.getInputStreamFromString(jsonObjectText);
       MyBufferedInputStream mbi = new MyBufferedInputStream(is);
-      try (JsonReader reader = Json.createReader(mbi)) {
+      try (JsonReader reader = createReader(mbi)) {
         JsonObject jsonObject = reader.readObject();
         LOGGER.info("jsonObject=" + jsonObject);
         mbi.setThrowIOException(true);
@@ -2975,7 +3014,7 @@ public class ClientTests {
       LOGGER.info("Reading array " + jsonArrayText);
       MyBufferedReader mbr = new MyBufferedReader(
           new StringReader(jsonArrayText));
-      JsonReader reader = Json.createReader(mbr);
+      JsonReader reader = createReader(mbr);
       mbr.setThrowIOException(true);
       LOGGER.info("Calling JsonReader.read()");
       JsonStructure jsonStructure = reader.read();
@@ -2994,7 +3033,7 @@ public class ClientTests {
       LOGGER.info("Reading array " + jsonArrayText);
       MyBufferedReader mbr = new MyBufferedReader(
           new StringReader(jsonArrayText));
-      JsonReader reader = Json.createReader(mbr);
+      JsonReader reader = createReader(mbr);
       mbr.setThrowIOException(true);
       LOGGER.info("Calling JsonReader.readArray()");
       JsonArray jsonArray = reader.readArray();
@@ -3013,7 +3052,7 @@ public class ClientTests {
       LOGGER.info("Reading object " + jsonObjectText);
       MyBufferedReader mbr = new MyBufferedReader(
           new StringReader(jsonObjectText));
-      JsonReader reader = Json.createReader(mbr);
+      JsonReader reader = createReader(mbr);
       mbr.setThrowIOException(true);
       LOGGER.info("Calling JsonReader.readObject()");
       JsonObject jsonObject = reader.readObject();
@@ -3050,7 +3089,7 @@ public class ClientTests {
       LOGGER.info(
           "Trip JsonParsingException for JsonReader.read() if invalid liternal TRUE instead of true.");
       LOGGER.info("Reading " + "[TRUE]");
-      reader = Json.createReader(new StringReader("[TRUE]"));
+      reader = createReader(new StringReader("[TRUE]"));
       JsonStructure jsonStructure = reader.read();
       LOGGER.warning("Did not get expected JsonParsingException");
       pass = false;
@@ -3067,7 +3106,7 @@ public class ClientTests {
       LOGGER.info(
           "Trip JsonParsingException for JsonReader.read() if invalid liternal FALSE instead of false.");
       LOGGER.info("Reading " + "[FALSE]");
-      reader = Json.createReader(new StringReader("[FALSE]"));
+      reader = createReader(new StringReader("[FALSE]"));
       JsonStructure jsonStructure = reader.read();
       LOGGER.warning("Did not get expected JsonParsingException");
       pass = false;
@@ -3084,7 +3123,7 @@ public class ClientTests {
       LOGGER.info(
           "Trip JsonParsingException for JsonReader.read() if invalid liternal NULL instead of null.");
       LOGGER.info("Reading " + "[NULL]");
-      reader = Json.createReader(new StringReader("[NULL]"));
+      reader = createReader(new StringReader("[NULL]"));
       JsonStructure jsonStructure = reader.read();
       LOGGER.warning("Did not get expected JsonParsingException");
       pass = false;
@@ -3101,7 +3140,7 @@ public class ClientTests {
       LOGGER.info(
           "Trip JsonParsingException for JsonReader.read() if invalid liternal TRUE instead of true.");
       LOGGER.info("Reading " + "{\"true\":TRUE}");
-      reader = Json.createReader(new StringReader("{\"true\":TRUE}"));
+      reader = createReader(new StringReader("{\"true\":TRUE}"));
       JsonStructure jsonStructure = reader.read();
       LOGGER.warning("Did not get expected JsonParsingException");
       pass = false;
@@ -3118,7 +3157,7 @@ public class ClientTests {
       LOGGER.info(
           "Trip JsonParsingException for JsonReader.read() if invalid liternal FALSE instead of false.");
       LOGGER.info("Reading " + "{\"false\":FALSE}");
-      reader = Json.createReader(new StringReader("{\"false\":FALSE}"));
+      reader = createReader(new StringReader("{\"false\":FALSE}"));
       JsonStructure jsonStructure = reader.read();
       LOGGER.warning("Did not get expected JsonParsingException");
       pass = false;
@@ -3135,7 +3174,7 @@ public class ClientTests {
       LOGGER.info(
           "Trip JsonParsingException for JsonReader.read() if invalid liternal NULL instead of null.");
       LOGGER.info("Reading " + "{\"null\":NULL}");
-      reader = Json.createReader(new StringReader("{\"null\":NULL}"));
+      reader = createReader(new StringReader("{\"null\":NULL}"));
       JsonStructure jsonStructure = reader.read();
       LOGGER.warning("Did not get expected JsonParsingException");
       pass = false;
@@ -3161,7 +3200,7 @@ public class ClientTests {
    */
   @Test
   public void jsonReader11Test() {
-    Reader readerTest = new Reader();
+    Reader readerTest = new Reader(createReaderFactory(JSONP_Util.getEmptyConfig()));
     final TestResult result = readerTest.test();
     result.eval();
   }
@@ -3176,7 +3215,7 @@ public class ClientTests {
   @Test
   public void testDuplicateKeysDefault() {
       Map<String, Object> config = new HashMap<>();
-      JsonReaderFactory factory = Json.createReaderFactory(config);
+      JsonReaderFactory factory = createReaderFactory(config);
       String json = "{\"val1\":\"A\",\"val1\":\"B\"}";
       JsonReader reader = factory.createReader(new StringReader(json));
       JsonObject object = reader.readObject();
@@ -3195,7 +3234,7 @@ public class ClientTests {
   public void testDuplicateKeysNone() {
       Map<String, Object> config = new HashMap<>();
       config.put(JsonConfig.KEY_STRATEGY, JsonConfig.KeyStrategy.NONE);
-      JsonReaderFactory factory = Json.createReaderFactory(config);
+      JsonReaderFactory factory = createReaderFactory(config);
       String json = "{\"val1\":\"A\",\"val1\":\"B\"}";
       JsonReader reader = factory.createReader(new StringReader(json));
       try {
@@ -3215,7 +3254,7 @@ public class ClientTests {
   public void testDuplicateKeysFirst() {
       Map<String, Object> config = new HashMap<>();
       config.put(JsonConfig.KEY_STRATEGY, JsonConfig.KeyStrategy.FIRST);
-      JsonReaderFactory factory = Json.createReaderFactory(config);
+      JsonReaderFactory factory = createReaderFactory(config);
       String json = "{\"val1\":\"A\",\"val1\":\"B\"}";
       JsonReader reader = factory.createReader(new StringReader(json));
       JsonObject object = reader.readObject();
@@ -3234,7 +3273,7 @@ public class ClientTests {
   public void testDuplicateKeysLast() {
       Map<String, Object> config = new HashMap<>();
       config.put(JsonConfig.KEY_STRATEGY, JsonConfig.KeyStrategy.LAST);
-      JsonReaderFactory factory = Json.createReaderFactory(config);
+      JsonReaderFactory factory = createReaderFactory(config);
       String json = "{\"val1\":\"A\",\"val1\":\"B\"}";
       JsonReader reader = factory.createReader(new StringReader(json));
       JsonObject object = reader.readObject();
@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.jsonp.api.jsonreadertests;
+
+import ee.jakarta.tck.jsonp.common.JSONP_Data;
+import ee.jakarta.tck.jsonp.common.JSONP_Util;
+
+import java.io.*;
+import java.util.*;
+import java.util.logging.Logger;
+
+import jakarta.json.*;
+import jakarta.json.stream.*;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.fail;
+
+// $Id$
+/*
+ * Tests the JsonConfig properties added in JSON-P 2.2 with readers of
+ * factories configured with them. These tests configure their own factories,
+ * so they are not run again by LazyStructuresClientTests.
+ */
+public class ConfigClientTests {
+
+  private static final Logger LOGGER = Logger.getLogger(ConfigClientTests.class.getName());
+
+  /*
+   * @testName: testKeyDictionary
+   *
+   * @assertion_ids: JSONP:JAVADOC:696;
+   *
+   * @test_Strategy: Tests key dictionary added in JSON-P 2.2. The property is
+   * optional, the names must be the dictionary instances only if the factories
+   * report it in their configuration in use.
+   */
+  @Test
+  public void testKeyDictionary() {
+      String id = new String("id");
+      String name = new String("name");
+      Map<String, Object> config = new HashMap<>();
+      config.put(JsonConfig.KEY_DICTIONARY, Arrays.asList(id, name));
+      String json = "{\"id\":1,\"name\":\"A\",\"other\":true}";
+
+      JsonReaderFactory readerFactory = Json.createReaderFactory(config);
+      boolean supported = readerFactory.getConfigInUse().containsKey(JsonConfig.KEY_DICTIONARY);
+      LOGGER.info("Key dictionary supported by JsonReaderFactory: " + supported);
+      JsonObject object;
+      try (JsonReader reader = readerFactory.createReader(new StringReader(json))) {
+          object = reader.readObject();
+      }
+      assertEquals(Json.createObjectBuilder().add("id", 1).add("name", "A").add("other", true).build(), object);
+      if (supported) {
+          Iterator<String> names = object.keySet().iterator();
+          assertSame(id, names.next());
+          assertSame(name, names.next());
+      }
+
+      JsonParserFactory parserFactory = Json.createParserFactory(config);
+      supported = parserFactory.getConfigInUse().containsKey(JsonConfig.KEY_DICTIONARY);
+      LOGGER.info("Key dictionary supported by JsonParserFactory: " + supported);
+      try (JsonParser parser = parserFactory.createParser(new StringReader(json))) {
+          assertEquals(JsonParser.Event.START_OBJECT, parser.next());
+          assertEquals(JsonParser.Event.KEY_NAME, parser.next());
+          assertEquals("id", parser.getString());
+          if (supported) {
+              assertSame(id, parser.getString());
+          }
+          assertEquals(JsonParser.Event.VALUE_NUMBER, parser.next());
+          assertEquals(JsonParser.Event.KEY_NAME, parser.next());
+          assertEquals("name", parser.getString());
+          if (supported) {
+              assertSame(name, parser.getString());
+          }
+      }
+  }
+
+  /*
+   * @testName: testKeyCacheSize
+   *
+   * @assertion_ids: JSONP:JAVADOC:697;
+   *
+   * @test_Strategy: Tests key cache added in JSON-P 2.2. The property is
+   * optional, the names repeated over several documents must be the same
+   * instance only if the factory reports it in its configuration in use.
+   */
+  @Test
+  public void testKeyCacheSize() {
+      Map<String, Object> config = new HashMap<>();
+      config.put(JsonConfig.KEY_CACHE_SIZE, 16);
+      JsonReaderFactory factory = Json.createReaderFactory(config);
+      boolean supported = factory.getConfigInUse().containsKey(JsonConfig.KEY_CACHE_SIZE);
+      LOGGER.info("Key cache supported by JsonReaderFactory: " + supported);
+      String json = "{\"temperature\":21.5}";
+      JsonObject first;
+      JsonObject second;
+      try (JsonReader reader = factory.createReader(new StringReader(json))) {
+          first = reader.readObject();
+      }
+      try (JsonReader reader = factory.createReader(new StringReader(json))) {
+          second = reader.readObject();
+      }
+      assertEquals(first, second);
+      assertEquals(21.5, second.getJsonNumber("temperature").doubleValue());
+      if (supported) {
+          assertSame(first.keySet().iterator().next(), second.keySet().iterator().next());
+      }
+  }
+
+  /*
+   * @testName: testShapeCacheSize
+   *
+   * @assertion_ids: JSONP:JAVADOC:700;
+   *
+   * @test_Strategy: Tests shape cache added in JSON-P 2.2. The property is
+   * optional, the objects read or built with it must be equal to, and have the
+   * same hash code and iteration order as, the objects created without it,
+   * including the objects with the same names in a different order. The names
+   * of objects with the same shape must be the same instances only if the
+   * factory reports it in its configuration in use.
+   */
+  @Test
+  public void testShapeCacheSize() {
+      Map<String, Object> config = new HashMap<>();
+      config.put(JsonConfig.SHAPE_CACHE_SIZE, 4);
+      JsonReaderFactory factory = Json.createReaderFactory(config);
+      JsonBuilderFactory builderFactory = Json.createBuilderFactory(config);
+      boolean supported = factory.getConfigInUse().containsKey(JsonConfig.SHAPE_CACHE_SIZE);
+      LOGGER.info("Shape cache supported by JsonReaderFactory: " + supported);
+      String[] records = {
+          "{\"id\":1,\"sensor\":\"a\",\"value\":21.5}",
+          "{\"id\":2,\"sensor\":\"b\",\"value\":22.0}",
+          "{\"sensor\":\"c\",\"id\":3,\"value\":19.5}",
+          "{\"id\":4,\"sensor\":\"a\"}",
+          "{\"id\":5,\"sensor\":\"b\",\"value\":null}"
+      };
+      List<JsonObject> read = new ArrayList<>();
+      for (String record : records) {
+          JsonObject plain;
+          JsonObject shaped;
+          try (JsonReader reader = Json.createReader(new StringReader(record))) {
+              plain = reader.readObject();
+          }
+          try (JsonReader reader = factory.createReader(new StringReader(record))) {
+              shaped = reader.readObject();
+          }
+          JsonObjectBuilder builder = builderFactory.createObjectBuilder();
+          plain.forEach(builder::add);
+          JsonObject built = builder.build();
+          for (JsonObject object : Arrays.asList(shaped, built)) {
+              assertEquals(plain, object);
+              assertEquals(plain.hashCode(), object.hashCode());
+              assertEquals(new ArrayList<>(plain.keySet()), new ArrayList<>(object.keySet()));
+              assertEquals(new ArrayList<>(plain.values()), new ArrayList<>(object.values()));
+          }
+          read.add(shaped);
+      }
+      assertEquals(3, read.get(2).getInt("id"));
+      assertEquals(JsonValue.NULL, read.get(4).get("value"));
+      assertFalse(read.get(3).containsKey("value"));
+      if (supported) {
+          assertSame(read.get(0).keySet().iterator().next(), read.get(1).keySet().iterator().next());
+          assertSame(read.get(0).keySet().iterator().next(), read.get(4).keySet().iterator().next());
+      }
+  }
+
+  /*
+   * @testName: testLazyStructures
+   *
+   * @assertion_ids: JSONP:JAVADOC:701;
+   *
+   * @test_Strategy: Tests lazy structures property added in JSON-P 2.2. The
+   * property is optional, the structures read with it must be equal to, and
+   * have the same hash code and JSON text as, the structures read without it,
+   * also when they are partly accessed before the reader is closed, and
+   * invalid JSON must be reported when the structure is read.
+   */
+  @Test
+  public void testLazyStructures() {
+      Map<String, Object> config = new HashMap<>();
+      config.put(JsonConfig.LAZY_STRUCTURES, true);
+      JsonReaderFactory factory = Json.createReaderFactory(config);
+      LOGGER.info("Lazy structures supported by JsonReaderFactory: "
+          + factory.getConfigInUse().containsKey(JsonConfig.LAZY_STRUCTURES));
+      String[] documents = { JSONP_Data.jsonObjectWithAllTypesOfData,
+          JSONP_Data.jsonObjectWithLotsOfNestedObjectsData,
+          JSONP_Data.jsonArrayWithAllTypesOfData,
+          JSONP_Data.jsonArrayWithLotsOfNestedObjectsData,
+          JSONP_Data.jsonArrayWithMultipleArraysData };
+      for (String json : documents) {
+          JsonStructure eager;
+          JsonStructure fromReader;
+          JsonStructure fromStream;
+          try (JsonReader reader = Json.createReader(new StringReader(json))) {
+              eager = reader.read();
+          }
+          try (JsonReader reader = factory.createReader(new StringReader(json))) {
+              fromReader = reader.read();
+          }
+          try (JsonReader reader = factory.createReader(
+              new ByteArrayInputStream(json.getBytes(JSONP_Util.UTF_8)))) {
+              fromStream = reader.read();
+              if (fromStream instanceof JsonObject) {
+                  JsonObject object = (JsonObject) fromStream;
+                  String name = object.keySet().iterator().next();
+                  assertEquals(((JsonObject) eager).get(name), object.get(name));
+              } else {
+                  JsonArray array = (JsonArray) fromStream;
+                  assertEquals(((JsonArray) eager).get(array.size() - 1), array.get(array.size() - 1));
+              }
+          }
+          for (JsonStructure lazy : Arrays.asList(fromReader, fromStream)) {
+              assertEquals(eager.getValueType(), lazy.getValueType());
+              assertEquals(eager, lazy);
+              assertEquals(lazy, eager);
+              assertEquals(eager.hashCode(), lazy.hashCode());
+              try (JsonReader reader = Json.createReader(new StringReader(lazy.toString()))) {
+                  assertEquals(eager, reader.read());
+              }
+          }
+      }
+
+      try (JsonReader reader = factory.createReader(new StringReader("{\"a\":[1,2},\"b\":3}"))) {
+          reader.readObject();
+          fail("No JsonParsingException for invalid JSON read lazily");
+      } catch (JsonParsingException e) {
+          LOGGER.info("Got expected JsonParsingException");
+      }
+  }
+
+  /*
+   * @testName: testConfigDefaultsAndValueTypes
+   *
+   * @assertion_ids: JSONP:JAVADOC:696; JSONP:JAVADOC:697; JSONP:JAVADOC:698;
+   * JSONP:JAVADOC:699; JSONP:JAVADOC:700; JSONP:JAVADOC:701;
+   *
+   * @test_Strategy: Tests the JsonConfig properties added in JSON-P 2.2 with
+   * the values disabling them and with values of a wrong type. A value of a
+   * wrong type must be ignored and not be part of the configuration in use,
+   * and the factories must create readers, parsers and builders whose values
+   * are equal to, and have the same hash code and iteration order as, the
+   * values created without the property.
+   */
+  @Test
+  public void testConfigDefaultsAndValueTypes() {
+      Object[][] properties = {
+          { JsonConfig.KEY_DICTIONARY, Collections.emptyList(), "id" },
+          { JsonConfig.KEY_CACHE_SIZE, 0, "16" },
+          { JsonConfig.PACKED_NUMBER_ARRAYS, false, "true" },
+          { JsonConfig.COMPACT_OBJECT_SIZE, 0, "8" },
+          { JsonConfig.SHAPE_CACHE_SIZE, 0, "4" },
+          { JsonConfig.LAZY_STRUCTURES, false, "true" }
+      };
+      String[] documents = { JSONP_Data.jsonObjectWithAllTypesOfData,
+          "{\"id\":1,\"values\":[1,2,3.5,-4],\"nested\":{\"id\":2,\"list\":[{\"id\":null}]}}",
+          "[[1,2,3],[0.5,1e3],{\"id\":1},{\"id\":2}]" };
+      for (Object[] property : properties) {
+          String name = (String) property[0];
+          for (int v = 1; v < property.length; v++) {
+              Map<String, Object> config = Collections.singletonMap(name, property[v]);
+              JsonReaderFactory readerFactory = Json.createReaderFactory(config);
+              JsonParserFactory parserFactory = Json.createParserFactory(config);
+              JsonBuilderFactory builderFactory = Json.createBuilderFactory(config);
+              if (v == 2) {
+                  assertFalse(readerFactory.getConfigInUse().containsKey(name),
+                      name + " of a wrong type is in use by JsonReaderFactory");
+                  assertFalse(parserFactory.getConfigInUse().containsKey(name),
+                      name + " of a wrong type is in use by JsonParserFactory");
+                  assertFalse(builderFactory.getConfigInUse().containsKey(name),
+                      name + " of a wrong type is in use by JsonBuilderFactory");
+              }
+              for (String json : documents) {
+                  JsonStructure plain;
+                  JsonStructure read;
+                  try (JsonReader reader = Json.createReader(new StringReader(json))) {
+                      plain = reader.read();
+                  }
+                  try (JsonReader reader = readerFactory.createReader(new StringReader(json))) {
+                      read = reader.read();
+                  }
+                  assertEquals(plain, read, name + "=" + property[v]);
+                  assertEquals(plain.hashCode(), read.hashCode(), name + "=" + property[v]);
+                  assertEquals(plain.toString(), read.toString(), name + "=" + property[v]);
+                  assertEquals(plain, build(builderFactory, plain), name + "=" + property[v]);
+                  try (JsonParser expected = Json.createParser(new StringReader(json));
+                      JsonParser parser = parserFactory.createParser(new StringReader(json))) {
+                      while (expected.hasNext()) {
+                          JsonParser.Event event = expected.next();
+                          assertEquals(event, parser.next(), name + "=" + property[v]);
+                          if (event == JsonParser.Event.KEY_NAME) {
+                              assertEquals(expected.getString(), parser.getString());
+                          }
+                      }
+                      assertFalse(parser.hasNext());
+                  }
+              }
+          }
+      }
+  }
+
+  /*
+   * Copies a value with the builders of a factory.
+   */
+  private static JsonValue build(JsonBuilderFactory factory, JsonValue value) {
+      switch (value.getValueType()) {
+          case OBJECT:
+              JsonObjectBuilder object = factory.createObjectBuilder();
+              value.asJsonObject().forEach((name, member) -> object.add(name, build(factory, member)));
+              return object.build();
+          case ARRAY:
+              JsonArrayBuilder array = factory.createArrayBuilder();
+              value.asJsonArray().forEach(element -> array.add(build(factory, element)));
+              return array.build();
+          default:
+              return value;
+      }
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.jsonp.api.jsonreadertests;
+
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import jakarta.json.Json;
+import jakarta.json.JsonConfig;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
+
+// $Id$
+/*
+ * Runs the JsonReader tests with readers of a factory configured with
+ * JsonConfig.LAZY_STRUCTURES, added in JSON-P 2.2. The structures read
+ * lazily must pass the same tests as the structures read without it. The
+ * factories created by the tests are configured with it as well.
+ */
+public class LazyStructuresClientTests extends ClientTests {
+
+  private static final Logger LOGGER = Logger.getLogger(LazyStructuresClientTests.class.getName());
+
+  private static final JsonReaderFactory FACTORY = Json.createReaderFactory(
+      Collections.singletonMap(JsonConfig.LAZY_STRUCTURES, true));
+
+  static {
+    LOGGER.info("Lazy structures supported by JsonReaderFactory: "
+        + FACTORY.getConfigInUse().containsKey(JsonConfig.LAZY_STRUCTURES));
+  }
+
+  @Override
+  protected JsonReader createReader(java.io.Reader reader) {
+    return FACTORY.createReader(reader);
+  }
+
+  @Override
+  protected JsonReader createReader(InputStream in) {
+    return FACTORY.createReader(in);
+  }
+
+  @Override
+  protected JsonReaderFactory createReaderFactory(Map<String, ?> config) {
+    Map<String, Object> lazy = new HashMap<>(config);
+    lazy.put(JsonConfig.LAZY_STRUCTURES, true);
+    return Json.createReaderFactory(lazy);
+  }
+}
@@ -28,9 +28,9 @@ import java.io.IOException;
 import java.io.StringReader;
 import java.util.logging.Logger;
 
-import jakarta.json.Json;
 import jakarta.json.JsonException;
 import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
 import jakarta.json.JsonValue;
 import jakarta.json.stream.JsonParsingException;
 
@@ -57,12 +57,19 @@ public class Reader {
       null // readValue() for null
   };
 
+  /** Factory creating the tested readers. */
+  private final JsonReaderFactory factory;
+
   /**
    * Creates an instance of JavaScript Object Notation (JSON) compatibility
    * tests for {@link JsonReader}.
+   * 
+   * @param factory
+   *          Factory creating the tested readers.
    */
-  Reader() {
+  Reader(final JsonReaderFactory factory) {
     super();
+    this.factory = factory;
   }
 
   /**
@@ -97,7 +104,7 @@ public class Reader {
       LOGGER.info("    - Data: " + data);
       final StringReader strReader = new StringReader(data);
       JsonValue outValue = null;
-      try (final JsonReader reader = Json.createReader(strReader)) {
+      try (final JsonReader reader = factory.createReader(strReader)) {
         outValue = reader.readValue();
       } catch (JsonException ex) {
         LOGGER.info("Caught JsonException: " + ex.getLocalizedMessage());
@@ -126,7 +133,7 @@ public class Reader {
           " - duplicate readValue() for " + typeName + " in source data");
       final String data = JsonValueType.toStringValue(value);
       final StringReader strReader = new StringReader(data);
-      try (final JsonReader reader = Json.createReader(strReader)) {
+      try (final JsonReader reader = factory.createReader(strReader)) {
         // 1st attempt to read the data shall pass
         reader.readValue();
         try {
@@ -169,7 +176,7 @@ public class Reader {
         fileWriter.write(JsonValueType.toStringValue(SimpleValues.DEF_VALUE));
       }
       final FileReader fileReader = new FileReader(temp);
-      reader = Json.createReader(fileReader);
+      reader = factory.createReader(fileReader);
       fileReader.close();
     } catch (IOException ex) {
       LOGGER.info("Caught IOException: " + ex.getLocalizedMessage());
@@ -207,7 +214,7 @@ public class Reader {
     final String data = "[" + SimpleValues.toJsonValue(SimpleValues.DEF_VALUE) + "}";
     final StringReader strReader = new StringReader(data);
     JsonValue outValue = null;
-    try (final JsonReader reader = Json.createReader(strReader)) {
+    try (final JsonReader reader = factory.createReader(strReader)) {
       reader.readValue();
       result.fail("readValue()",
           "Call of readValue() on invalid data shall throw JsonParsingException");
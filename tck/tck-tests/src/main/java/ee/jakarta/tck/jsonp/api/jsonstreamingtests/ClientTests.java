@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -21,9 +21,19 @@ package ee.jakarta.tck.jsonp.api.jsonstreamingtests;
 
 import ee.jakarta.tck.jsonp.common.JSONP_Util;
 import jakarta.json.*;
+import jakarta.json.spi.JsonProvider;
 import jakarta.json.stream.*;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import org.junit.jupiter.api.Test;
@@ -264,4 +274,205 @@ public class ClientTests {
 
     assertTrue(pass, "streamingTest4 Failed");
   }
+
+  /*
+   * @testName: streamingTest5
+   * 
+   * @assertion_ids: JSONP:JAVADOC:417; JSONP:JAVADOC:685;
+   * 
+   * @test_Strategy: Test Scenario: Feed JSON text containing a JsonArray to a
+   * JsonFeedReader in chunks of a few bytes, reading the values at depth 1 and
+   * at depth 0. Test passes if the elements of the array are read one by one
+   * at depth 1, the whole array is read at depth 0, and both match the values
+   * read by a JsonReader.
+   */
+  @Test
+  public void streamingTest5() {
+    boolean pass = true;
+    String jsonText = "[{\"a\":[1,{\"c\":\"d\"}]},\"x\",true,null,-2.5e3]";
+    try {
+      JsonArray expJsonArray;
+      try (JsonReader reader = Json.createReader(new StringReader(jsonText))) {
+        expJsonArray = reader.readArray();
+      }
+      byte[] bytes = jsonText.getBytes(StandardCharsets.UTF_8);
+      JsonParserFactory parserFactory = Json.createParserFactory(null);
+
+      LOGGER.info("Read the elements of the array at depth 1");
+      JsonArray elements = feedReader(
+          JsonProvider.provider().createFeedReader(null, 1), bytes);
+      if (!JSONP_Util.assertEquals(expJsonArray, elements))
+        pass = false;
+
+      LOGGER.info("Read the whole array at depth 0");
+      JsonArray values = feedReader(new JsonFeedReader(
+          parserFactory.createFeedParser(), JsonProvider.provider(), 0), bytes);
+      if (!JSONP_Util.assertEquals(1, values.size())
+          || !JSONP_Util.assertEquals(expJsonArray, values.get(0)))
+        pass = false;
+    } catch (Exception e) {
+      fail("streamingTest5 Failed: ", e);
+    }
+
+    assertTrue(pass, "streamingTest5 Failed");
+  }
+
+  private JsonArray feedReader(JsonFeedReader reader, byte[] bytes) {
+    JsonArrayBuilder values = Json.createArrayBuilder();
+    try (JsonFeedReader r = reader) {
+      for (int i = 0; i < bytes.length; i += 3) {
+        r.feed(ByteBuffer.wrap(bytes, i, Math.min(3, bytes.length - i)));
+        while (r.advance() == JsonFeedParser.Status.EVENT) {
+          values.add(r.getValue());
+        }
+      }
+      r.endOfInput();
+      while (r.advance() == JsonFeedParser.Status.EVENT) {
+        values.add(r.getValue());
+      }
+    }
+    return values.build();
+  }
+
+  /*
+   * @testName: streamingTest6
+   * 
+   * @assertion_ids: JSONP:JAVADOC:686;
+   * 
+   * @test_Strategy: Test Scenario: Publish JSON text containing a JsonArray
+   * in chunks of a few bytes to a JsonFeedProcessor reading the values at
+   * depth 1, with a subscriber requesting one value at a time only after the
+   * publisher has completed. Test passes if the elements of the array are
+   * published in order before the completion, and if invalid JSON text is
+   * signalled as a JsonParsingException.
+   */
+  @Test
+  public void streamingTest6() throws Exception {
+    String jsonText = "[{\"a\":[1,{\"c\":\"d\"}]},\"x\",true,null,-2.5e3]";
+    JsonArray expJsonArray;
+    try (JsonReader reader = Json.createReader(new StringReader(jsonText))) {
+      expJsonArray = reader.readArray();
+    }
+
+    LOGGER.info("Publish valid JSON text");
+    ValueCollector collector = new ValueCollector();
+    publishChunks(jsonText, collector);
+    assertTrue(JSONP_Util.assertEquals(expJsonArray,
+        collector.values.get(5, TimeUnit.SECONDS)), "streamingTest6 Failed");
+
+    LOGGER.info("Publish invalid JSON text");
+    ValueCollector invalid = new ValueCollector();
+    publishChunks("[1,2,}", invalid);
+    try {
+      invalid.values.get(5, TimeUnit.SECONDS);
+      fail("streamingTest6 Failed: no error for invalid JSON text");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof JsonParsingException,
+          "streamingTest6 Failed: " + e.getCause());
+    }
+  }
+
+  /*
+   * @testName: streamingTest7
+   * 
+   * @assertion_ids: JSONP:JAVADOC:687;
+   * 
+   * @test_Strategy: Test Scenario: Publish JsonValues to a
+   * JsonGeneratorSubscriber writing them with a JsonGenerator, in batches
+   * smaller than the number of values. Test passes if the JSON text written
+   * is an array of the published values and the completion of the subscriber
+   * completes normally, or exceptionally with the error of the publisher.
+   */
+  @Test
+  public void streamingTest7() throws Exception {
+    JsonArrayBuilder builder = Json.createArrayBuilder();
+    for (int i = 0; i < 50; i++) {
+      builder.add(Json.createObjectBuilder().add("id", i).add("name", "n" + i));
+    }
+    JsonArray expJsonArray = builder.build();
+
+    LOGGER.info("Write the published values");
+    StringWriter writer = new StringWriter();
+    JsonGeneratorSubscriber subscriber = new JsonGeneratorSubscriber(
+        Json.createGenerator(writer), 7);
+    try (SubmissionPublisher<JsonValue> publisher = new SubmissionPublisher<>()) {
+      publisher.subscribe(subscriber);
+      for (JsonValue value : expJsonArray) {
+        publisher.submit(value);
+      }
+    }
+    subscriber.getCompletion().toCompletableFuture().get(5, TimeUnit.SECONDS);
+    JsonArray actJsonArray;
+    try (JsonReader reader = Json.createReader(new StringReader(writer.toString()))) {
+      actJsonArray = reader.readArray();
+    }
+    assertTrue(JSONP_Util.assertEquals(expJsonArray, actJsonArray), "streamingTest7 Failed");
+
+    LOGGER.info("Fail the publisher");
+    JsonGeneratorSubscriber failed = new JsonGeneratorSubscriber(
+        Json.createGenerator(new StringWriter()), 7);
+    IllegalStateException error = new IllegalStateException("publisher failure");
+    try (SubmissionPublisher<JsonValue> publisher = new SubmissionPublisher<>()) {
+      publisher.subscribe(failed);
+      publisher.submit(JsonValue.TRUE);
+      publisher.closeExceptionally(error);
+    }
+    try {
+      failed.getCompletion().toCompletableFuture().get(5, TimeUnit.SECONDS);
+      fail("streamingTest7 Failed: no error from the publisher");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() == error, "streamingTest7 Failed: " + e.getCause());
+    }
+  }
+
+  private void publishChunks(String jsonText, Flow.Subscriber<JsonValue> subscriber) {
+    byte[] bytes = jsonText.getBytes(StandardCharsets.UTF_8);
+    JsonFeedProcessor processor = new JsonFeedProcessor(
+        JsonProvider.provider().createFeedReader(null, 1));
+    try (SubmissionPublisher<ByteBuffer> publisher = new SubmissionPublisher<>()) {
+      publisher.subscribe(processor);
+      processor.subscribe(subscriber);
+      for (int i = 0; i < bytes.length; i += 3) {
+        publisher.submit(ByteBuffer.wrap(bytes, i, Math.min(3, bytes.length - i)));
+      }
+    }
+  }
+
+  /*
+   * Collects the published values, requesting one value at a time, the first
+   * one after a delay letting the publisher of the chunks complete first.
+   */
+  private static final class ValueCollector implements Flow.Subscriber<JsonValue> {
+
+    private final CompletableFuture<JsonArray> values = new CompletableFuture<>();
+
+    private final List<JsonValue> received = new ArrayList<>();
+
+    private Flow.Subscription subscription;
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+      CompletableFuture.runAsync(() -> subscription.request(1),
+          CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Override
+    public void onNext(JsonValue value) {
+      received.add(value);
+      subscription.request(1);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      values.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+      JsonArrayBuilder builder = Json.createArrayBuilder();
+      received.forEach(builder::add);
+      values.complete(builder.build());
+    }
+  }
 }
@@ -25,6 +25,10 @@ import jakarta.json.stream.*;
 
 import java.io.*;
 
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.function.UnaryOperator;
 import java.util.Map;
 import java.util.logging.Logger;
 
@@ -304,4 +308,67 @@ public class ClientTests {
     }
     assertTrue(pass, "jsonWriterFactoryTest4 Failed");
   }
+
+  /*
+   * @testName: jsonWriterFactoryTest5
+   * 
+   * @assertion_ids: JSONP:JAVADOC:713; JSONP:JAVADOC:714;
+   * 
+   * @test_Strategy: Tests the JsonWriterFactory API.
+   *
+   * JsonWriterFactory writerFactory = Json.createWriterFactory(Map<String, ?>);
+   * JsonWriter writer1 = writerFactory.createWriter(WritableByteChannel)
+   * JsonWriter writer2 = writerFactory.createWriter(ByteBuffer, UnaryOperator)
+   */
+  @Test
+  public void jsonWriterFactoryTest5() {
+    boolean pass = true;
+    String expString = "{\"name\":\"\u017dlu\u0165ou\u010dk\u00fd k\u016f\u0148\",\"values\":[1,2,3]}";
+    try {
+      JsonObject jsonObject = Json.createObjectBuilder()
+          .add("name", "\u017dlu\u0165ou\u010dk\u00fd k\u016f\u0148")
+          .add("values", Json.createArrayBuilder().add(1).add(2).add(3))
+          .build();
+      LOGGER.info("Create JsonWriterFactory with Map<String, ?> with EMPTY config");
+      JsonWriterFactory writerFactory = Json
+          .createWriterFactory(JSONP_Util.getEmptyConfig());
+
+      LOGGER.info("---------------------------------------------------------------");
+      LOGGER.info("TEST CASE [JsonWriterFactory.createWriter(WritableByteChannel)]");
+      LOGGER.info("---------------------------------------------------------------");
+      ByteArrayOutputStream baos1 = new ByteArrayOutputStream();
+      try (JsonWriter writer = writerFactory
+          .createWriter(Channels.newChannel(baos1))) {
+        writer.writeObject(jsonObject);
+      }
+      String actString = new String(baos1.toByteArray(), StandardCharsets.UTF_8);
+      LOGGER.info("channel=" + actString);
+      if (!JSONP_Util.assertEqualsJsonText(expString, actString))
+        pass = false;
+
+      LOGGER.info("---------------------------------------------------------------------");
+      LOGGER.info("TEST CASE [JsonWriterFactory.createWriter(ByteBuffer, UnaryOperator)]");
+      LOGGER.info("---------------------------------------------------------------------");
+      ByteArrayOutputStream baos2 = new ByteArrayOutputStream();
+      UnaryOperator<ByteBuffer> handler = buffer -> {
+        buffer.flip();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        baos2.write(bytes, 0, bytes.length);
+        buffer.clear();
+        return buffer;
+      };
+      try (JsonWriter writer = writerFactory
+          .createWriter(ByteBuffer.allocate(5), handler)) {
+        writer.writeObject(jsonObject);
+      }
+      actString = new String(baos2.toByteArray(), StandardCharsets.UTF_8);
+      LOGGER.info("buffer=" + actString);
+      if (!JSONP_Util.assertEqualsJsonText(expString, actString))
+        pass = false;
+    } catch (Exception e) {
+      fail("jsonWriterFactoryTest5 Failed: ", e);
+    }
+    assertTrue(pass, "jsonWriterFactoryTest5 Failed");
+  }
 }
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.jsonp.api.mergetests;
+
+import ee.jakarta.tck.jsonp.api.common.JsonAssert;
+import ee.jakarta.tck.jsonp.api.common.MergeRFCObject;
+import ee.jakarta.tck.jsonp.api.common.TestResult;
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.JsonMergePatch;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+// $Id$
+/**
+ * RFC 7396: JavaScript Object Notation (JSON) Merge Patch compatibility
+ * tests.<br>
+ * Test bulk application of merge patch added in JSON-P 2.2.
+ */
+public class MergeApplyAll extends MergeCommon {
+
+  private static final Logger LOGGER = Logger.getLogger(MergeApplyAll.class.getName());
+
+  /** Number of patched documents. */
+  private static final int COUNT = 5000;
+
+  /**
+   * Creates an instance of RFC 7396 bulk application test.
+   */
+  MergeApplyAll() {
+    super();
+  }
+
+  /**
+   * Test RFC 7396: Bulk application of merge patch. Suite entry point.
+   * 
+   * @return Result of all tests in this suite.
+   */
+  TestResult test() {
+    final TestResult result = new TestResult(
+        "RFC 7396: Bulk application of merge patch");
+    LOGGER.info("Testing RFC 7396: Bulk application of merge patch");
+    final JsonMergePatch patch = Json
+        .createMergePatch(MergeRFCObject.createRFCPatchObject());
+    final List<JsonValue> documents = new ArrayList<>(COUNT);
+    final List<JsonValue> check = new ArrayList<>(COUNT);
+    for (int i = 0; i < COUNT; i++) {
+      final JsonObject document = Json
+          .createObjectBuilder(MergeRFCObject.createRFCSourceObject())
+          .add("id", i).build();
+      documents.add(document);
+      check.add(Json.createObjectBuilder(MergeRFCObject.createRFCTargetObject())
+          .add("id", i).build());
+    }
+    final Map<JsonValue, RuntimeException> failures = new ConcurrentHashMap<>();
+    check(result, "applyAll(Stream,BiConsumer) sequential", check,
+        patch.applyAll(documents.stream(), failures::put)
+            .collect(Collectors.toList()),
+        failures);
+    check(result, "applyAll(Stream,BiConsumer) parallel", check,
+        patch.applyAll(documents.parallelStream(), failures::put)
+            .collect(Collectors.toList()),
+        failures);
+    check(result, "applyAll(Iterable,BiConsumer)", check,
+        patch.applyAll(documents, failures::put).collect(Collectors.toList()),
+        failures);
+    testRuntimeFailures(result, documents, check, patch);
+    return result;
+  }
+
+  /**
+   * Test that the targets for which the merge patch fails with another
+   * {@code RuntimeException} than {@link JsonException} are reported, with the
+   * exception, and do not abort the other targets, sequentially and in
+   * parallel.
+   * 
+   * @param result
+   *          Tests result record.
+   * @param documents
+   *          Patched documents.
+   * @param check
+   *          Expected patched documents.
+   * @param patch
+   *          Merge patch applied to the documents which do not fail.
+   */
+  private void testRuntimeFailures(final TestResult result,
+      final List<JsonValue> documents, final List<JsonValue> check,
+      final JsonMergePatch patch) {
+    final JsonMergePatch failing = new FailingMergePatch(patch);
+    final List<JsonValue> expected = new ArrayList<>();
+    for (int i = 0; i < check.size(); i++) {
+      if (i % 7 != 0) {
+        expected.add(check.get(i));
+      }
+    }
+    for (boolean parallel : new boolean[] { false, true }) {
+      final String name = "applyAll(Stream,BiConsumer) runtime failures"
+          + (parallel ? " parallel" : "");
+      LOGGER.info(" - " + name);
+      final Map<JsonValue, RuntimeException> failures = new ConcurrentHashMap<>();
+      final List<JsonValue> out = failing
+          .applyAll(parallel ? documents.parallelStream() : documents.stream(),
+              failures::put)
+          .collect(Collectors.toList());
+      if (!JsonAssert.assertEquals(Json.createArrayBuilder(expected).build(),
+          Json.createArrayBuilder(out).build())) {
+        result.fail(name, "Patched documents differ from the expected ones");
+      }
+      if (failures.size() != documents.size() - expected.size()
+          || !failures.values().stream()
+              .allMatch(e -> e instanceof IllegalStateException)) {
+        result.fail(name, "Reported " + failures.size() + " failures, "
+            + (documents.size() - expected.size()) + " expected");
+      }
+    }
+  }
+
+  /**
+   * Check that all the documents have been patched, in order.
+   * 
+   * @param result
+   *          Tests result record.
+   * @param name
+   *          Name of the test.
+   * @param check
+   *          Expected patched documents.
+   * @param out
+   *          Patch results.
+   * @param failures
+   *          Reported failures.
+   */
+  private void check(final TestResult result, final String name,
+      final List<JsonValue> check, final List<JsonValue> out,
+      final Map<JsonValue, RuntimeException> failures) {
+    LOGGER.info(" - " + name);
+    if (!failures.isEmpty()) {
+      result.fail(name, "Reported " + failures.size() + " failures");
+    }
+    if (!JsonAssert.assertEquals(Json.createArrayBuilder(check).build(),
+        Json.createArrayBuilder(out).build())) {
+      result.fail(name, "Patched documents differ from the expected ones");
+    }
+  }
+
+  /**
+   * Merge patch failing with an {@link IllegalStateException} for the
+   * documents whose member {@code "id"} is a multiple of 7.
+   */
+  private static final class FailingMergePatch implements JsonMergePatch {
+
+    /** Merge patch applied to the other documents. */
+    private final JsonMergePatch patch;
+
+    /**
+     * Creates a failing merge patch.
+     * 
+     * @param patch
+     *          Merge patch applied to the documents which do not fail.
+     */
+    FailingMergePatch(final JsonMergePatch patch) {
+      this.patch = patch;
+    }
+
+    @Override
+    public JsonValue apply(final JsonValue target) {
+      if (target.asJsonObject().getInt("id") % 7 == 0) {
+        throw new IllegalStateException("Failing target " + target);
+      }
+      return patch.apply(target);
+    }
+
+    @Override
+    public JsonValue toJsonValue() {
+      return patch.toJsonValue();
+    }
+  }
+
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.jsonp.api.mergetests;
+
+import ee.jakarta.tck.jsonp.api.common.JsonAssert;
+import ee.jakarta.tck.jsonp.api.common.MergeRFCObject;
+import ee.jakarta.tck.jsonp.api.common.TestResult;
+import jakarta.json.Json;
+import jakarta.json.JsonMergePatch;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.logging.Logger;
+
+// $Id$
+/**
+ * RFC 7396: JavaScript Object Notation (JSON) Merge Patch compatibility
+ * tests.<br>
+ * Test streaming application of merge patch added in JSON-P 2.2.
+ */
+public class MergeStreaming extends MergeCommon {
+
+  private static final Logger LOGGER = Logger.getLogger(MergeStreaming.class.getName());
+
+  /**
+   * Target, patch and result triples of
+   * {@see <a href="https://tools.ietf.org/html/rfc7396#appendix-A">RFC 7396:
+   * Appendix A. Example Test Cases</a>} and of nested values.
+   */
+  private static final String[][] CASES = {
+      { "{\"a\":\"b\"}", "{\"a\":\"c\"}", "{\"a\":\"c\"}" },
+      { "{\"a\":\"b\"}", "{\"b\":\"c\"}", "{\"a\":\"b\",\"b\":\"c\"}" },
+      { "{\"a\":\"b\"}", "{\"a\":null}", "{}" },
+      { "{\"a\":\"b\",\"b\":\"c\"}", "{\"a\":null}", "{\"b\":\"c\"}" },
+      { "{\"a\":[\"b\"]}", "{\"a\":\"c\"}", "{\"a\":\"c\"}" },
+      { "{\"a\":\"c\"}", "{\"a\":[\"b\"]}", "{\"a\":[\"b\"]}" },
+      { "{\"a\":{\"b\":\"c\"}}", "{\"a\":{\"b\":\"d\",\"c\":null}}",
+          "{\"a\":{\"b\":\"d\"}}" },
+      { "{\"a\":[{\"b\":\"c\"}]}", "{\"a\":[1]}", "{\"a\":[1]}" },
+      { "[\"a\",\"b\"]", "[\"c\",\"d\"]", "[\"c\",\"d\"]" },
+      { "{\"a\":\"b\"}", "[\"c\"]", "[\"c\"]" },
+      { "{\"a\":\"foo\"}", "null", "null" },
+      { "{\"a\":\"foo\"}", "\"bar\"", "\"bar\"" },
+      { "{\"e\":null}", "{\"a\":1}", "{\"e\":null,\"a\":1}" },
+      { "[1,2]", "{\"a\":\"b\",\"c\":null}", "{\"a\":\"b\"}" },
+      { "{}", "{\"a\":{\"bb\":{\"ccc\":null}}}", "{\"a\":{\"bb\":{}}}" },
+      { "{\"a\":{\"b\":[1,{\"c\":2}],\"d\":{\"e\":3.50}},\"f\":true}",
+          "{\"a\":{\"d\":{\"g\":[null]}},\"f\":null}",
+          "{\"a\":{\"b\":[1,{\"c\":2}],\"d\":{\"e\":3.50,\"g\":[null]}}}" } };
+
+  /**
+   * Creates an instance of RFC 7396 streaming application test.
+   */
+  MergeStreaming() {
+    super();
+  }
+
+  /**
+   * Test RFC 7396: Streaming application of merge patch. Suite entry point.
+   * 
+   * @return Result of all tests in this suite.
+   */
+  TestResult test() {
+    final TestResult result = new TestResult(
+        "RFC 7396: Streaming application of merge patch");
+    LOGGER.info("Testing RFC 7396: Streaming application of merge patch");
+    testCases(result);
+    testRFCSample(result);
+    testInArray(result);
+    return result;
+  }
+
+  /**
+   * Test streaming application on RFC 7396 example test cases.
+   * 
+   * @param result
+   *          Tests result record.
+   */
+  private void testCases(final TestResult result) {
+    LOGGER.info(" - test cases");
+    for (String[] c : CASES) {
+      final JsonMergePatch patch = Json.createMergePatch(read(c[1]));
+      final JsonValue check = read(c[2]);
+      final JsonValue out = read(stream(patch, c[0]));
+      if (!JsonAssert.assertEquals(check, out)
+          || !JsonAssert.assertEquals(patch.apply(read(c[0])), out)) {
+        result.fail("apply(JsonParser,JsonGenerator)", "Patch " + c[1]
+            + " on " + c[0] + " wrote " + JsonAssert.valueToString(out)
+            + " instead of " + c[2]);
+      }
+    }
+  }
+
+  /**
+   * Test streaming application on RFC 7396 example objects.
+   * 
+   * @param result
+   *          Tests result record.
+   */
+  private void testRFCSample(final TestResult result) {
+    LOGGER.info(" - RFC example");
+    final JsonMergePatch patch = Json
+        .createMergePatch(MergeRFCObject.createRFCPatchObject());
+    final JsonValue check = MergeRFCObject.createRFCTargetObject();
+    final JsonValue out = read(
+        stream(patch, MergeRFCObject.createRFCSourceObject().toString()));
+    if (!JsonAssert.assertEquals(check, out)) {
+      result.fail("apply(JsonParser,JsonGenerator)", "RFC example wrote "
+          + JsonAssert.valueToString(out));
+    }
+  }
+
+  /**
+   * Test streaming application on the elements of an array: the parser and
+   * the generator shall be left positioned after the patched value.
+   * 
+   * @param result
+   *          Tests result record.
+   */
+  private void testInArray(final TestResult result) {
+    LOGGER.info(" - array elements");
+    final JsonMergePatch patch = Json
+        .createMergePatch(read("{\"a\":null,\"b\":{\"c\":1}}"));
+    final StringWriter writer = new StringWriter();
+    try (JsonParser parser = Json.createParser(
+        new StringReader("[{\"a\":1,\"b\":{\"d\":2}},{\"b\":[3]},4]"));
+        JsonGenerator generator = Json.createGenerator(writer)) {
+      parser.next();
+      generator.writeStartArray();
+      for (int i = 0; i < 3; i++) {
+        patch.apply(parser, generator);
+      }
+      generator.writeEnd();
+      if (parser.next() != JsonParser.Event.END_ARRAY) {
+        result.fail("apply(JsonParser,JsonGenerator)",
+            "Parser is not at the end of the array");
+      }
+    }
+    final JsonValue check = read(
+        "[{\"b\":{\"d\":2,\"c\":1}},{\"b\":{\"c\":1}},{\"b\":{\"c\":1}}]");
+    final JsonValue out = read(writer.toString());
+    if (!JsonAssert.assertEquals(check, out)) {
+      result.fail("apply(JsonParser,JsonGenerator)", "Array elements wrote "
+          + JsonAssert.valueToString(out));
+    }
+  }
+
+  /**
+   * Apply merge patch to JSON text with parser and generator.
+   * 
+   * @param patch
+   *          JSON Merge Patch.
+   * @param in
+   *          JSON text of the target.
+   * @return JSON text of the patched target.
+   */
+  private static String stream(final JsonMergePatch patch, final String in) {
+    final StringWriter writer = new StringWriter();
+    try (JsonParser parser = Json.createParser(new StringReader(in));
+        JsonGenerator generator = Json.createGenerator(writer)) {
+      patch.apply(parser, generator);
+    }
+    return writer.toString();
+  }
+
+  /**
+   * Read JSON value from JSON text.
+   * 
+   * @param json
+   *          JSON text.
+   * @return JSON value.
+   */
+  private static JsonValue read(final String json) {
+    try (JsonReader reader = Json.createReader(new StringReader(json))) {
+      return reader.readValue();
+    }
+  }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -134,4 +134,40 @@ public class MergeTests {
     result.eval();
   }
 
+  /**
+   * Test bulk application of JSON Merge Patch added in JSON-P 2.2.
+   * 
+   * @throws AssertionFailedError
+   *           when this test failed.
+   *
+   * @testName: jsonMergeApplyAllTest
+   * @assertion_ids: JSONP:JAVADOC:725; JSONP:JAVADOC:726;
+   * @test_Strategy: Apply RFC example patch to sequential and parallel streams
+   *                 of documents and check patched documents.
+   */
+  @Test
+  public void jsonMergeApplyAllTest() {
+    MergeApplyAll applyAllTest = new MergeApplyAll();
+    final TestResult result = applyAllTest.test();
+    result.eval();
+  }
+
+  /**
+   * Test streaming application of JSON Merge Patch added in JSON-P 2.2.
+   * 
+   * @throws AssertionFailedError
+   *           when this test failed.
+   *
+   * @testName: jsonMergeStreamingTest
+   * @assertion_ids: JSONP:JAVADOC:727;
+   * @test_Strategy: Apply RFC example test cases from parser to generator and
+   *                 compare results with patches applied to values.
+   */
+  @Test
+  public void jsonMergeStreamingTest() {
+    MergeStreaming streamingTest = new MergeStreaming();
+    final TestResult result = streamingTest.test();
+    result.eval();
+  }
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -126,22 +126,23 @@ public abstract class CommonOperation {
   protected void simpleOperation(final TestResult result, final JsonValue in,
                                  final JsonValue check, final String path, final Object value) {
     final JsonPatchBuilder builder = createOperationBuilder(path, value);
-    final JsonPatch patch = builder.build();
-    JsonValue out;
-    try {
-      out = SimpleValues.patchApply(patch, in);
-    } catch (JsonException e) {
-      out = null;
-      LOGGER.info(
-          "   Exception for path \"" + path + "\" on " + JsonAssert.valueToString(in));
-      LOGGER.info("     " + e.getMessage());
-    }
-    if (operationFailed(check, out)) {
-      final String targetClassName = in.getValueType().name().toLowerCase();
-      final String operation = JsonAssert.valueToString(patch.toJsonArray());
-      LOGGER.info("     " + operation);
-      result.fail(testName(path, targetClassName),
-          testMessage(operation, path, JsonAssert.valueToString(in)));
+    for (final JsonPatch patch : patches(builder.build())) {
+      JsonValue out;
+      try {
+        out = SimpleValues.patchApply(patch, in);
+      } catch (JsonException e) {
+        out = null;
+        LOGGER.info(
+            "   Exception for path \"" + path + "\" on " + JsonAssert.valueToString(in));
+        LOGGER.info("     " + e.getMessage());
+      }
+      if (operationFailed(check, out)) {
+        final String targetClassName = in.getValueType().name().toLowerCase();
+        final String operation = JsonAssert.valueToString(patch.toJsonArray());
+        LOGGER.info("     " + operation);
+        result.fail(testName(path, targetClassName),
+            testMessage(operation, path, JsonAssert.valueToString(in)));
+      }
     }
   }
 
@@ -195,17 +196,30 @@ public abstract class CommonOperation {
           "Number of paths does not match number of indexes");
     }
     final JsonPatchBuilder builder = prepareComplexBuilder(paths, values);
-    final JsonPatch patch = builder.build();
-    final JsonValue out = SimpleValues.patchApply(patch, in);
-    if (operationFailed(check, out)) {
-      final String operations = JsonAssert.valueToString(patch.toJsonArray());
-      final String targetClassName = in.getValueType().name().toLowerCase();
-      LOGGER.info("     " + operations);
-      result.fail(testName(paths, targetClassName),
-          testMessage(operations, paths, JsonAssert.valueToString(in)));
+    for (final JsonPatch patch : patches(builder.build())) {
+      final JsonValue out = SimpleValues.patchApply(patch, in);
+      if (operationFailed(check, out)) {
+        final String operations = JsonAssert.valueToString(patch.toJsonArray());
+        final String targetClassName = in.getValueType().name().toLowerCase();
+        LOGGER.info("     " + operations);
+        result.fail(testName(paths, targetClassName),
+            testMessage(operations, paths, JsonAssert.valueToString(in)));
+      }
     }
   }
 
+  /**
+   * Known forms of JSON patch to apply: patch built by the builder and patch
+   * compiled from its operations.
+   * 
+   * @param patch
+   *          JSON patch built by the builder.
+   * @return JSON patches to apply.
+   */
+  private JsonPatch[] patches(final JsonPatch patch) {
+    return new JsonPatch[] { patch, Json.compilePatch(patch.toJsonArray()) };
+  }
+
   /**
    * Operation result check.
    * 
@@ -255,19 +269,31 @@ public abstract class CommonOperation {
    */
   protected void simpleOperationFail(final TestResult result,
       final JsonValue in, final String path, final Object value) {
+    JsonPatch[] patches;
     try {
-      final JsonPatch patch = createOperationBuilder(path, value).build();
-      SimpleValues.patchApply(patch, in);
-      final String targetClassName = in.getValueType().name().toLowerCase();
-      final String operation = JsonAssert.valueToString(patch.toJsonArray());
-      LOGGER.info(
-          "   Failed for path \"" + path + "\" on " + JsonAssert.valueToString(in));
-      LOGGER.info("     " + operation);
-      result.fail(testName(path, targetClassName),
-          testMessage(operation, path, JsonAssert.valueToString(in)));
+      patches = patches(createOperationBuilder(path, value).build());
     } catch (JsonException e) {
-      // There are too many combinations to log them.
-      // LOGGER.info(" - Expected exception: "+e.getMessage());
+      // A compiled patch may reject the operation before it is applied.
+      try {
+        patches = new JsonPatch[] { createOperationBuilder(path, value).build() };
+      } catch (JsonException be) {
+        return;
+      }
+    }
+    for (final JsonPatch patch : patches) {
+      try {
+        SimpleValues.patchApply(patch, in);
+        final String targetClassName = in.getValueType().name().toLowerCase();
+        final String operation = JsonAssert.valueToString(patch.toJsonArray());
+        LOGGER.info(
+            "   Failed for path \"" + path + "\" on " + JsonAssert.valueToString(in));
+        LOGGER.info("     " + operation);
+        result.fail(testName(path, targetClassName),
+            testMessage(operation, path, JsonAssert.valueToString(in)));
+      } catch (JsonException e) {
+        // There are too many combinations to log them.
+        // LOGGER.info(" - Expected exception: "+e.getMessage());
+      }
     }
   }
 
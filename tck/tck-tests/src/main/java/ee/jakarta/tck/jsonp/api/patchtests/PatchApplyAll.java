@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.jsonp.api.patchtests;
+
+import ee.jakarta.tck.jsonp.api.common.JsonAssert;
+import ee.jakarta.tck.jsonp.api.common.TestResult;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonPatch;
+import jakarta.json.JsonStructure;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+// $Id$
+/**
+ * JavaScript Object Notation (JSON) compatibility tests: {@link JsonPatch}
+ * bulk application added in JSON-P 2.2.<br>
+ */
+public class PatchApplyAll {
+
+  private static final Logger LOGGER = Logger.getLogger(PatchApplyAll.class.getName());
+
+  /** Number of patched documents. */
+  private static final int COUNT = 5000;
+
+  /**
+   * Creates an instance of {@link JsonPatch} bulk application test.
+   */
+  PatchApplyAll() {
+    super();
+  }
+
+  /**
+   * Test {@link JsonPatch} bulk application added in JSON-P 2.2.
+   * 
+   * @return Result of all tests in this suite.
+   */
+  TestResult test() {
+    final TestResult result = new TestResult(
+        "JsonPatch bulk application added in JSON-P 2.2.");
+    LOGGER.info("JsonPatch bulk application added in JSON-P 2.2.");
+    final List<JsonObject> documents = new ArrayList<>(COUNT);
+    for (int i = 0; i < COUNT; i++) {
+      documents.add(Json.createObjectBuilder().add("id", i).add("v", i % 3)
+          .build());
+    }
+    final JsonPatch created = Json.createPatch(operations());
+    final JsonPatch compiled = Json.compilePatch(operations());
+    for (JsonPatch patch : new JsonPatch[] { created, compiled }) {
+      final Map<JsonObject, RuntimeException> failures = new ConcurrentHashMap<>();
+      check(result, "applyAll(Stream,BiConsumer) sequential", documents,
+          patch.applyAll(documents.stream(), failures::put)
+              .collect(Collectors.toList()),
+          failures);
+      failures.clear();
+      check(result, "applyAll(Stream,BiConsumer) parallel", documents,
+          patch.applyAll(documents.parallelStream(), failures::put)
+              .collect(Collectors.toList()),
+          failures);
+      failures.clear();
+      check(result, "applyAll(Iterable,BiConsumer)", documents,
+          patch.applyAll(documents, failures::put)
+              .collect(Collectors.toList()),
+          failures);
+    }
+    testRuntimeFailures(result, documents, compiled);
+    return result;
+  }
+
+  /**
+   * Test that the targets for which the patch fails with another
+   * {@code RuntimeException} than {@link JsonException} are reported, with the
+   * exception, and do not abort the other targets, sequentially and in
+   * parallel.
+   * 
+   * @param result
+   *          Test suite result.
+   * @param documents
+   *          Patched documents.
+   * @param patch
+   *          Patch applied to the documents which do not fail.
+   */
+  private void testRuntimeFailures(final TestResult result,
+      final List<JsonObject> documents, final JsonPatch patch) {
+    final JsonPatch failing = new FailingPatch(patch);
+    for (boolean parallel : new boolean[] { false, true }) {
+      final String name = "applyAll(Stream,BiConsumer) runtime failures"
+          + (parallel ? " parallel" : "");
+      final Map<JsonObject, RuntimeException> failures = new ConcurrentHashMap<>();
+      final List<JsonObject> out = failing
+          .applyAll(parallel ? documents.parallelStream() : documents.stream(),
+              failures::put)
+          .collect(Collectors.toList());
+      int expected = 0;
+      for (JsonObject document : documents) {
+        if (document.getInt("id") % 7 == 0) {
+          expected++;
+          if (!(failures.get(document) instanceof IllegalStateException)) {
+            result.fail(name, "Runtime failure of " + document + " not reported");
+          }
+        }
+      }
+      final long patched = documents.stream()
+          .filter(d -> d.getInt("id") % 7 != 0 && d.getInt("v") == 0).count();
+      if (out.size() != patched || failures.size() != documents.size() - patched) {
+        result.fail(name, out.size() + " patched and " + failures.size()
+            + " failed, " + patched + " patched expected");
+      }
+      LOGGER.info(" - " + name + ": " + out.size() + " patched, " + expected
+          + " runtime failures");
+    }
+  }
+
+  /**
+   * Patch operations: test that member {@code "v"} is zero, then replace it.
+   * 
+   * @return Patch operations.
+   */
+  private static JsonArray operations() {
+    return Json.createPatchBuilder().test("/v", 0).replace("/v", "zero")
+        .add("/patched", true).build().toJsonArray();
+  }
+
+  /**
+   * Check that the documents with member {@code "v"} equal to zero have been
+   * patched, in order, and that all the other documents have been reported as
+   * failures.
+   * 
+   * @param result
+   *          Test suite result.
+   * @param name
+   *          Name of the test.
+   * @param documents
+   *          Patched documents.
+   * @param out
+   *          Patch results.
+   * @param failures
+   *          Reported failures.
+   */
+  private void check(final TestResult result, final String name,
+      final List<JsonObject> documents, final List<JsonObject> out,
+      final Map<JsonObject, RuntimeException> failures) {
+    final List<JsonObject> check = new ArrayList<>();
+    int failed = 0;
+    for (JsonObject document : documents) {
+      if (document.getInt("v") == 0) {
+        check.add(Json.createObjectBuilder(document).add("v", "zero")
+            .add("patched", true).build());
+      } else if (failures.containsKey(document)) {
+        failed++;
+      }
+    }
+    if (!JsonAssert.assertEquals(Json.createArrayBuilder(check).build(),
+        Json.createArrayBuilder(out).build())) {
+      result.fail(name, "Patched documents differ from the expected ones");
+    }
+    if (failed != failures.size()
+        || failed != documents.size() - check.size()) {
+      result.fail(name, "Reported " + failures.size() + " failures, "
+          + (documents.size() - check.size()) + " expected");
+    }
+    LOGGER.info(" - " + name + ": " + out.size() + " patched, "
+        + failures.size() + " failed");
+  }
+
+  /**
+   * Patch failing with an {@link IllegalStateException} for the documents
+   * whose member {@code "id"} is a multiple of 7.
+   */
+  private static final class FailingPatch implements JsonPatch {
+
+    /** Patch applied to the other documents. */
+    private final JsonPatch patch;
+
+    /**
+     * Creates a failing patch.
+     * 
+     * @param patch
+     *          Patch applied to the documents which do not fail.
+     */
+    FailingPatch(final JsonPatch patch) {
+      this.patch = patch;
+    }
+
+    @Override
+    public <T extends JsonStructure> T apply(final T target) {
+      if (((JsonObject) target).getInt("id") % 7 == 0) {
+        throw new IllegalStateException("Failing target " + target);
+      }
+      return patch.apply(target);
+    }
+
+    @Override
+    public JsonArray toJsonArray() {
+      return patch.toJsonArray();
+    }
+  }
+
+}
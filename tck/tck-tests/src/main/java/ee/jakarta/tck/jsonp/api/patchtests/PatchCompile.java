@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.jsonp.api.patchtests;
+
+import ee.jakarta.tck.jsonp.api.common.JsonAssert;
+import ee.jakarta.tck.jsonp.api.common.TestResult;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonPatch;
+import jakarta.json.JsonValue;
+
+import java.util.logging.Logger;
+
+// $Id$
+/**
+ * JavaScript Object Notation (JSON) compatibility tests: compiled
+ * {@link JsonPatch} added in JSON-P 2.2.<br>
+ */
+public class PatchCompile {
+
+  private static final Logger LOGGER = Logger.getLogger(PatchCompile.class.getName());
+
+  /** Number of elements of the large arrays being patched. */
+  private static final int SIZE = 10000;
+
+  /**
+   * Creates an instance of compiled {@link JsonPatch} test.
+   */
+  PatchCompile() {
+    super();
+  }
+
+  /**
+   * Test compiled {@link JsonPatch} added in JSON-P 2.2.
+   * 
+   * @return Result of all tests in this suite.
+   */
+  TestResult test() {
+    final TestResult result = new TestResult(
+        "Compiled JsonPatch added in JSON-P 2.2.");
+    LOGGER.info("Compiled JsonPatch added in JSON-P 2.2.");
+    testToJsonArray(result);
+    testLargeArray(result);
+    testNestedObject(result);
+    testRepeatedTests(result);
+    testFailedTest(result);
+    testInvalidOperations(result);
+    testMoveIntoChild(result);
+    return result;
+  }
+
+  /**
+   * Test that compiled patch returns its operations.
+   * 
+   * @param result
+   *          Test suite result.
+   */
+  private void testToJsonArray(final TestResult result) {
+    LOGGER.info(" - JsonPatch#toJsonArray()");
+    final JsonArray operations = Json.createPatchBuilder().add("/a", 1)
+        .remove("/b").build().toJsonArray();
+    final JsonArray out = Json.compilePatch(operations).toJsonArray();
+    if (!JsonAssert.assertEquals(operations, out)) {
+      result.fail("toJsonArray()", "Compiled patch operations "
+          + JsonAssert.valueToString(out) + " shall be "
+          + JsonAssert.valueToString(operations));
+    }
+  }
+
+  /**
+   * Test many operations on a large array.
+   * 
+   * @param result
+   *          Test suite result.
+   */
+  private void testLargeArray(final TestResult result) {
+    LOGGER.info(" - many operations on a large array");
+    final JsonArrayBuilder builder = Json.createArrayBuilder();
+    for (int i = 0; i < SIZE; i++) {
+      builder.add(Json.createArrayBuilder().add(i).add("v" + i));
+    }
+    final JsonArray in = builder.build();
+    final JsonArray operations = Json.createPatchBuilder()
+        .add("/0", "first")
+        .add("/-", "last")
+        .remove("/5")
+        .replace("/7/1", "seven")
+        .add("/8/-", true)
+        .move("/20", "/9000")
+        .move("/100/0", "/101/1")
+        .copy("/1", "/9999")
+        .copy("/200/-", "/300")
+        .test("/3", Json.createArrayBuilder().add(1).add("v1").build())
+        .remove("/500/0")
+        .replace("/0", JsonValue.NULL)
+        .build().toJsonArray();
+    checkCompiled(result, "large array", operations, in);
+  }
+
+  /**
+   * Test operations on nested objects, including operations on the same
+   * members.
+   * 
+   * @param result
+   *          Test suite result.
+   */
+  private void testNestedObject(final TestResult result) {
+    LOGGER.info(" - operations on nested objects");
+    final JsonObject in = Json.createObjectBuilder()
+        .add("a", Json.createObjectBuilder().add("b", 1).add("c", 2))
+        .add("d", Json.createArrayBuilder().add("x").add("y"))
+        .add("e", "f").build();
+    final JsonArray operations = Json.createPatchBuilder()
+        .add("/a/g", 3)
+        .replace("/a/b", Json.createObjectBuilder().add("h", 4).build())
+        .copy("/i", "/a")
+        .add("/a/b/j", 5)
+        .move("/d/0", "/a/c")
+        .remove("/e")
+        .add("/e", "k")
+        .test("/i/b", Json.createObjectBuilder().add("h", 4).build())
+        .move("/l", "/d")
+        .build().toJsonArray();
+    checkCompiled(result, "nested object", operations, in);
+  }
+
+  /**
+   * Test test and copy operations on containers modified between them, so
+   * that the values tested or copied reflect every previous operation.
+   * 
+   * @param result
+   *          Test suite result.
+   */
+  private void testRepeatedTests(final TestResult result) {
+    LOGGER.info(" - test and copy of modified containers");
+    final JsonObject in = Json.createObjectBuilder()
+        .add("a", Json.createObjectBuilder()
+            .add("b", Json.createArrayBuilder().add(1)))
+        .build();
+    final JsonArray operations = Json.createPatchBuilder()
+        .add("/a/b/-", 2)
+        .test("/a", Json.createObjectBuilder()
+            .add("b", Json.createArrayBuilder().add(1).add(2)).build())
+        .copy("/c", "/a")
+        .add("/a/b/0", 0)
+        .test("/a/b", Json.createArrayBuilder().add(0).add(1).add(2).build())
+        .test("/c/b", Json.createArrayBuilder().add(1).add(2).build())
+        .move("/c/d", "/a/b")
+        .test("/c", Json.createObjectBuilder()
+            .add("b", Json.createArrayBuilder().add(1).add(2))
+            .add("d", Json.createArrayBuilder().add(0).add(1).add(2)).build())
+        .remove("/c/d/1")
+        .copy("/e", "/c")
+        .build().toJsonArray();
+    checkCompiled(result, "test and copy of modified containers", operations, in);
+  }
+
+  /**
+   * Test that failed test operation fails compiled patch application.
+   * 
+   * @param result
+   *          Test suite result.
+   */
+  private void testFailedTest(final TestResult result) {
+    LOGGER.info(" - failed test operation");
+    final JsonObject in = Json.createObjectBuilder().add("a", 1).build();
+    final JsonPatch patch = Json.compilePatch(Json.createPatchBuilder()
+        .add("/b", 2).test("/a", 2).build().toJsonArray());
+    try {
+      final JsonObject out = patch.apply(in);
+      result.fail("failed test operation",
+          "Patch shall fail but returned " + JsonAssert.valueToString(out));
+    } catch (JsonException e) {
+      if (in.containsKey("b")) {
+        result.fail("failed test operation", "Patch target was modified");
+      }
+    }
+  }
+
+  /**
+   * Test that compiling invalid operations fails.
+   * 
+   * @param result
+   *          Test suite result.
+   */
+  private void testInvalidOperations(final TestResult result) {
+    LOGGER.info(" - invalid operations");
+    final JsonObject[] operations = {
+        Json.createObjectBuilder().add("op", "unknown").add("path", "/a")
+            .build(),
+        Json.createObjectBuilder().add("op", "remove").build(),
+        Json.createObjectBuilder().add("op", "add").add("path", "/a").build(),
+        Json.createObjectBuilder().add("op", "move").add("path", "/a")
+            .build(),
+        Json.createObjectBuilder().add("op", "remove").add("path", "a")
+            .build(),
+        Json.createObjectBuilder().add("path", "/a").add("value", 1).build() };
+    for (JsonObject operation : operations) {
+      final JsonArray array = Json.createArrayBuilder().add(operation).build();
+      try {
+        Json.compilePatch(array);
+        result.fail("compilePatch(JsonArray)",
+            "Compilation shall fail for " + JsonAssert.valueToString(array));
+      } catch (JsonException e) {
+        LOGGER.info("    Expected exception: " + e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * Test that moving a location into one of its children fails, as specified
+   * by RFC 6902, and that moving a location to itself or, with a compiled
+   * patch, to a sibling whose name starts with the same characters does not.
+   * 
+   * @param result
+   *          Test suite result.
+   */
+  private void testMoveIntoChild(final TestResult result) {
+    LOGGER.info(" - move into a child");
+    final JsonArray in = Json.createArrayBuilder()
+        .add(Json.createArrayBuilder().add(1))
+        .add(Json.createObjectBuilder().add("k3", 2)).build();
+    final JsonArray[] invalid = {
+        Json.createPatchBuilder().move("/0/k3", "/0").build().toJsonArray(),
+        Json.createPatchBuilder().move("/1/k3/a", "/1").build().toJsonArray() };
+    for (JsonArray operations : invalid) {
+      for (JsonPatch patch : new JsonPatch[] { Json.createPatch(operations), null }) {
+        try {
+          final JsonPatch applied = patch != null ? patch : Json.compilePatch(operations);
+          final JsonArray out = applied.apply(in);
+          result.fail("move into a child", JsonAssert.valueToString(operations)
+              + " shall fail but returned " + JsonAssert.valueToString(out));
+        } catch (JsonException e) {
+          LOGGER.info("    Expected exception: " + e.getMessage());
+        }
+      }
+    }
+    checkCompiled(result, "move to itself", Json.createPatchBuilder()
+        .move("/0", "/0").build().toJsonArray(), in);
+    final JsonObject object = Json.createObjectBuilder().add("a", 1).build();
+    final JsonObject moved = Json.compilePatch(Json.createPatchBuilder()
+        .move("/ab", "/a").build().toJsonArray()).apply(object);
+    if (!JsonAssert.assertEquals(Json.createObjectBuilder().add("ab", 1).build(), moved)) {
+      result.fail("move to a sibling", "Compiled patch output "
+          + JsonAssert.valueToString(moved) + " shall be {\"ab\":1}");
+    }
+  }
+
+  /**
+   * Compare the result of compiled patch with the result of patch created
+   * from the same operations. The compiled patch is applied twice to check
+   * that it does not modify its target.
+   * 
+   * @param result
+   *          Test suite result.
+   * @param name
+   *          Name of the test.
+   * @param operations
+   *          Patch operations.
+   * @param in
+   *          Patch target.
+   */
+  private void checkCompiled(final TestResult result, final String name,
+      final JsonArray operations, final JsonValue in) {
+    final JsonValue check = apply(Json.createPatch(operations), in);
+    final JsonPatch patch = Json.compilePatch(operations);
+    for (int i = 0; i < 2; i++) {
+      final JsonValue out = apply(patch, in);
+      if (!JsonAssert.assertEquals(check, out)) {
+        result.fail(name, "Compiled patch output "
+            + JsonAssert.valueToString(out) + " shall be "
+            + JsonAssert.valueToString(check));
+      }
+    }
+  }
+
+  /**
+   * Apply patch on JSON object or array.
+   * 
+   * @param patch
+   *          Patch to apply.
+   * @param in
+   *          Patch target.
+   * @return Patched value.
+   */
+  private static JsonValue apply(final JsonPatch patch, final JsonValue in) {
+    return in instanceof JsonObject ? patch.apply((JsonObject) in)
+        : patch.apply((JsonArray) in);
+  }
+
+}
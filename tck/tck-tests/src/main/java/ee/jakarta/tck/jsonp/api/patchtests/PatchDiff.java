@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.jsonp.api.patchtests;
+
+import ee.jakarta.tck.jsonp.api.common.JsonAssert;
+import ee.jakarta.tck.jsonp.api.common.TestResult;
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonPatch;
+import jakarta.json.JsonStructure;
+import jakarta.json.JsonValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Logger;
+
+// $Id$
+/**
+ * JavaScript Object Notation (JSON) compatibility tests: {@link JsonPatch}
+ * generated by {@link Json#createDiff(JsonStructure,JsonStructure,int)} added
+ * in JSON-P 2.2.<br>
+ */
+public class PatchDiff {
+
+  private static final Logger LOGGER = Logger.getLogger(PatchDiff.class.getName());
+
+  /** Number of elements of the large random arrays. */
+  private static final int SIZE = 20000;
+
+  /** Number of small random documents. */
+  private static final int COUNT = 2000;
+
+  /** Seed of the random documents. */
+  private static final long SEED = 6902;
+
+  /** Random generator of documents. */
+  private final Random random = new Random(SEED);
+
+  /**
+   * Creates an instance of {@link JsonPatch} diff test.
+   */
+  PatchDiff() {
+    super();
+  }
+
+  /**
+   * Test {@link Json#createDiff(JsonStructure,JsonStructure,int)} added in
+   * JSON-P 2.2.
+   * 
+   * @return Result of all tests in this suite.
+   */
+  TestResult test() {
+    final TestResult result = new TestResult(
+        "JsonPatch diff with cost limit added in JSON-P 2.2.");
+    LOGGER.info("JsonPatch diff with cost limit added in JSON-P 2.2.");
+    testLargeDocuments(result);
+    testSmallDocuments(result);
+    testMove(result);
+    testMoveNumericPrefix(result);
+    testCostLimit(result);
+    testNegativeCostLimit(result);
+    return result;
+  }
+
+  /**
+   * Test diff of large random documents with few changes.
+   * 
+   * @param result
+   *          Test suite result.
+   */
+  private void testLargeDocuments(final TestResult result) {
+    LOGGER.info(" - large random documents");
+    final JsonObject source = Json.createObjectBuilder()
+        .add("items", randomArray(SIZE)).add("meta", randomValue(0)).build();
+    final JsonObject target = Json.createObjectBuilder(source)
+        .add("items", mutate(mutate(source.getJsonArray("items"))))
+        .add("added", randomValue(0)).build();
+    for (int costLimit : new int[] { 0, 10, 1000 }) {
+      checkDiff(result, "large documents, cost limit " + costLimit, source,
+          target, costLimit);
+    }
+    final JsonArray ops = Json.createDiff(source, target, 1000).toJsonArray();
+    if (ops.size() > 100) {
+      result.fail("large documents", "Diff of few changes has " + ops.size()
+          + " operations");
+    }
+  }
+
+  /**
+   * Test diff of many small random documents, also with the diff of the
+   * provider.
+   * 
+   * @param result
+   *          Test suite result.
+   */
+  private void testSmallDocuments(final TestResult result) {
+    LOGGER.info(" - small random documents");
+    for (int i = 0; i < COUNT; i++) {
+      final JsonArray source = randomArray(random.nextInt(10));
+      final JsonArray target = random.nextBoolean() ? mutate(source)
+          : randomArray(random.nextInt(10));
+      checkDiff(result, "small documents", source, target,
+          random.nextInt(4));
+      checkDiff(result, "small documents", source, target, Integer.MAX_VALUE);
+      final JsonArray out = Json.createDiff(source, target).apply(source);
+      if (!JsonAssert.assertEquals(target, out)) {
+        result.fail("createDiff(JsonStructure,JsonStructure)", "Diff from "
+            + JsonAssert.valueToString(source) + " to "
+            + JsonAssert.valueToString(target) + " yields "
+            + JsonAssert.valueToString(out));
+      }
+    }
+  }
+
+  /**
+   * Test that an element moved in a large array yields a single move
+   * operation.
+   * 
+   * @param result
+   *          Test suite result.
+   */
+  private void testMove(final TestResult result) {
+    LOGGER.info(" - moved element");
+    final JsonArrayBuilder builder = Json.createArrayBuilder();
+    for (int i = 0; i < SIZE; i++) {
+      builder.add(Json.createObjectBuilder().add("id", i));
+    }
+    final JsonArray source = builder.build();
+    final List<JsonValue> elements = new ArrayList<>(source);
+    elements.add(elements.remove(0));
+    final JsonArray target = Json.createArrayBuilder(elements).build();
+    final JsonArray ops = Json.createDiff(source, target, 10).toJsonArray();
+    if (ops.size() != 1
+        || !"move".equals(ops.getJsonObject(0).getString("op"))) {
+      result.fail("moved element",
+          "Diff shall be a single move but was " + JsonAssert.valueToString(ops));
+    }
+    checkDiff(result, "moved element", source, target, 10);
+  }
+
+  /**
+   * Test moves within arrays of more than ten elements, where the pointer of
+   * the moved element is a string prefix of the pointer of its destination,
+   * as {@code /1} of {@code /10}, applying the diff with the patch of the
+   * provider.
+   * 
+   * @param result
+   *          Test suite result.
+   */
+  private void testMoveNumericPrefix(final TestResult result) {
+    LOGGER.info(" - moved element to index with numeric prefix");
+    final JsonArrayBuilder builder = Json.createArrayBuilder();
+    for (int i = 0; i < 25; i++) {
+      builder.add(Json.createObjectBuilder().add("id", i));
+    }
+    final JsonArray source = builder.build();
+    final int[][] moves = { { 1, 10 }, { 2, 20 }, { 1, 11 }, { 10, 1 } };
+    for (int[] move : moves) {
+      final List<JsonValue> elements = new ArrayList<>(source);
+      elements.add(move[1], elements.remove(move[0]));
+      final JsonArray target = Json.createArrayBuilder(elements).build();
+      checkDiff(result, "moved element " + move[0] + " to " + move[1], source,
+          target, 10);
+    }
+    for (int i = 0; i < COUNT; i++) {
+      final JsonArray array = randomArray(11 + random.nextInt(20));
+      checkDiff(result, "arrays of more than ten elements", array,
+          mutate(mutate(array)), Integer.MAX_VALUE);
+    }
+  }
+
+  /**
+   * Test that arrays differing by more than the cost limit are replaced.
+   * 
+   * @param result
+   *          Test suite result.
+   */
+  private void testCostLimit(final TestResult result) {
+    LOGGER.info(" - cost limit");
+    final JsonArray source = Json.createArrayBuilder().add(1).add(2).add(3)
+        .add(4).build();
+    final JsonArray target = Json.createArrayBuilder().add(5).add(1).add(6)
+        .add(3).add(7).build();
+    final JsonArray ops = Json.createDiff(source, target, 2).toJsonArray();
+    if (ops.size() != 1
+        || !"replace".equals(ops.getJsonObject(0).getString("op"))) {
+      result.fail("cost limit", "Diff shall be a single replace but was "
+          + JsonAssert.valueToString(ops));
+    }
+    checkDiff(result, "cost limit", source, target, 2);
+    checkDiff(result, "cost limit", source, target, 5);
+    final JsonArray replaced = Json.createDiff(
+        Json.createArrayBuilder().add(1).build(),
+        Json.createArrayBuilder().add(2).build(), 1).toJsonArray();
+    if (replaced.size() != 1
+        || !"".equals(replaced.getJsonObject(0).getString("path"))) {
+      result.fail("cost limit", "Diff of cost 2 with cost limit 1 shall"
+          + " replace the array but was " + JsonAssert.valueToString(replaced));
+    }
+  }
+
+  /**
+   * Test that negative cost limit is rejected.
+   * 
+   * @param result
+   *          Test suite result.
+   */
+  private void testNegativeCostLimit(final TestResult result) {
+    LOGGER.info(" - negative cost limit");
+    try {
+      Json.createDiff(JsonValue.EMPTY_JSON_ARRAY, JsonValue.EMPTY_JSON_ARRAY,
+          -1);
+      result.fail("negative cost limit",
+          "IllegalArgumentException shall be thrown");
+    } catch (IllegalArgumentException e) {
+      LOGGER.info("    Expected exception: " + e.getMessage());
+    }
+  }
+
+  /**
+   * Check that the diff from source to target, applied to source, yields
+   * target.
+   * 
+   * @param result
+   *          Test suite result.
+   * @param name
+   *          Name of the test.
+   * @param source
+   *          Source of the diff.
+   * @param target
+   *          Target of the diff.
+   * @param costLimit
+   *          Cost limit of the diff.
+   */
+  private static void checkDiff(final TestResult result, final String name,
+      final JsonStructure source, final JsonStructure target,
+      final int costLimit) {
+    final JsonPatch patch = Json.createDiff(source, target, costLimit);
+    final JsonStructure out = patch.apply(source);
+    if (!JsonAssert.assertEquals(target, out)) {
+      result.fail(name, "Diff " + JsonAssert.valueToString(patch.toJsonArray())
+          + " yields " + JsonAssert.valueToString(out));
+    }
+  }
+
+  /**
+   * Create random array.
+   * 
+   * @param size
+   *          Number of elements.
+   * @return Random array.
+   */
+  private JsonArray randomArray(final int size) {
+    final JsonArrayBuilder builder = Json.createArrayBuilder();
+    for (int i = 0; i < size; i++) {
+      builder.add(randomValue(1));
+    }
+    return builder.build();
+  }
+
+  /**
+   * Create random value.
+   * 
+   * @param depth
+   *          Nesting depth of the value.
+   * @return Random value.
+   */
+  private JsonValue randomValue(final int depth) {
+    switch (random.nextInt(depth > 2 ? 3 : 5)) {
+    case 0:
+      return Json.createValue(random.nextInt(5));
+    case 1:
+      return Json.createValue("s" + random.nextInt(4));
+    case 2:
+      return JsonValue.NULL;
+    case 3:
+      final JsonArrayBuilder array = Json.createArrayBuilder();
+      for (int i = random.nextInt(5); i > 0; i--) {
+        array.add(randomValue(depth + 1));
+      }
+      return array.build();
+    default:
+      final JsonObjectBuilder object = Json.createObjectBuilder();
+      for (int i = random.nextInt(4); i > 0; i--) {
+        object.add("k/" + random.nextInt(3) + "~", randomValue(depth + 1));
+      }
+      return object.build();
+    }
+  }
+
+  /**
+   * Apply random insertions, removals, moves and replacements to array
+   * elements.
+   * 
+   * @param array
+   *          Array to mutate.
+   * @return Mutated array.
+   */
+  private JsonArray mutate(final JsonArray array) {
+    final List<JsonValue> elements = new ArrayList<>(array);
+    for (int i = random.nextInt(20); i >= 0; i--) {
+      final int size = elements.size();
+      switch (random.nextInt(4)) {
+      case 0:
+        if (size > 0) {
+          elements.remove(random.nextInt(size));
+        }
+        break;
+      case 1:
+        elements.add(random.nextInt(size + 1), randomValue(1));
+        break;
+      case 2:
+        if (size > 0) {
+          final JsonValue moved = elements.remove(random.nextInt(size));
+          elements.add(random.nextInt(size), moved);
+        }
+        break;
+      default:
+        if (size > 0) {
+          elements.set(random.nextInt(size), randomValue(1));
+        }
+        break;
+      }
+    }
+    return Json.createArrayBuilder(elements).build();
+  }
+
+}
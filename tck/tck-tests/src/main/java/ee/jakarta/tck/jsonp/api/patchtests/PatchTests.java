@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -193,4 +193,60 @@ public class PatchTests {
     result.eval();
   }
 
+  /**
+   * Test compiled {@link JsonPatch} added in JSON-P 2.2.
+   *
+   * @throws AssertionFailedError
+   *           when this test failed.
+   *
+   * @testName: jsonCompilePatchTest
+   * @assertion_ids: JSONP:JAVADOC:722;
+   * @test_Strategy: Compare results of compiled patches with results of
+   *                 created patches and check validation of operations.
+   */
+  @Test
+  public void jsonCompilePatchTest() {
+    PatchCompile compileTest = new PatchCompile();
+    final TestResult result = compileTest.test();
+    result.eval();
+  }
+
+  /**
+   * Test bulk application of {@link JsonPatch} added in JSON-P 2.2.
+   *
+   * @throws AssertionFailedError
+   *           when this test failed.
+   *
+   * @testName: jsonPatchApplyAllTest
+   * @assertion_ids: JSONP:JAVADOC:723; JSONP:JAVADOC:724;
+   * @test_Strategy: Apply a patch with a test operation to sequential and
+   *                 parallel streams of documents and check patched documents
+   *                 and reported failures.
+   */
+  @Test
+  public void jsonPatchApplyAllTest() {
+    PatchApplyAll applyAllTest = new PatchApplyAll();
+    final TestResult result = applyAllTest.test();
+    result.eval();
+  }
+
+  /**
+   * Test {@link JsonPatch} diff with cost limit added in JSON-P 2.2.
+   *
+   * @throws AssertionFailedError
+   *           when this test failed.
+   *
+   * @testName: jsonPatchDiffTest
+   * @assertion_ids: JSONP:JAVADOC:574; JSONP:JAVADOC:728;
+   * @test_Strategy: Check that diffs of large and small random documents
+   *                 applied to the source yield the target, and check moves
+   *                 and cost limit.
+   */
+  @Test
+  public void jsonPatchDiffTest() {
+    PatchDiff diffTest = new PatchDiff();
+    final TestResult result = diffTest.test();
+    result.eval();
+  }
+
 }
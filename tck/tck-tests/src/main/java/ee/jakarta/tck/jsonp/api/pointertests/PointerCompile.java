@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.jsonp.api.pointertests;
+
+import ee.jakarta.tck.jsonp.api.common.JsonAssert;
+import ee.jakarta.tck.jsonp.api.common.PointerRFCObject;
+import ee.jakarta.tck.jsonp.api.common.TestResult;
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonPointer;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+
+// $Id$
+/**
+ * {@see <a href="https://tools.ietf.org/html/rfc6901">RFC 6901</a>}: JavaScript
+ * Object Notation (JSON) Pointer compilation and reference tokens tests.<br>
+ */
+public class PointerCompile {
+
+  private static final Logger LOGGER = Logger.getLogger(PointerCompile.class.getName());
+
+  /** Pointers of the RFC 6901 sample object. */
+  private static final String[] RFC_PTRS = { PointerRFCObject.RFC_KEY_WHOLE,
+      PointerRFCObject.RFC_PTR1, PointerRFCObject.RFC_PTR1_ITEM1,
+      PointerRFCObject.RFC_PTR1_ITEM2, PointerRFCObject.RFC_PTR2,
+      PointerRFCObject.RFC_PTR3_ENC, PointerRFCObject.RFC_PTR4,
+      PointerRFCObject.RFC_PTR9, PointerRFCObject.RFC_KEY10_ENC,
+      PointerRFCObject.RFC_PTR11_ENC };
+
+  /**
+   * Creates an instance of RFC 6901 JSON Pointer compilation tests.
+   */
+  PointerCompile() {
+    super();
+  }
+
+  /**
+   * Test RFC 6901 JSON Pointer compilation. Suite entry point.
+   * 
+   * @return Result of all tests in this suite.
+   */
+  TestResult test() {
+    final TestResult result = new TestResult("RFC 6901 pointer compilation");
+    LOGGER.info("Testing RFC 6901 pointer compilation");
+    testCompiledPointerValues(result);
+    testCompiledPointerEquality(result);
+    testReferenceTokens(result);
+    testArrayIndexes(result);
+    testInvalidPointer(result);
+    return result;
+  }
+
+  /**
+   * Test that compiled pointers resolve the same values as created pointers.
+   * 
+   * @param result
+   *          Tests result record.
+   */
+  private void testCompiledPointerValues(final TestResult result) {
+    LOGGER.info(" - values of compiled pointers");
+    final JsonObject in = PointerRFCObject.createRFC6901Object();
+    for (String ptr : RFC_PTRS) {
+      final JsonPointer compiled = Json.compilePointer(ptr);
+      if (!ptr.equals(compiled.toString())) {
+        result.fail("COMPILE \"" + ptr + "\"", "String representation differs: " + compiled);
+      }
+      if (!JsonAssert.assertEquals(Json.createPointer(ptr).getValue(in), compiled.getValue(in))) {
+        result.fail("COMPILE \"" + ptr + "\"", "GET operation failed");
+      }
+      if (!compiled.getReferenceTokens().equals(Json.createPointer(ptr).getReferenceTokens())) {
+        result.fail("COMPILE \"" + ptr + "\"", "Reference tokens differ from created pointer");
+      }
+    }
+  }
+
+  /**
+   * Test that compiled pointers are equal to the compiled pointers with the
+   * same JSON Pointer string, also after more pointers were compiled than the
+   * provider may cache, and that equality with created pointers is symmetric.
+   * 
+   * @param result
+   *          Tests result record.
+   */
+  private void testCompiledPointerEquality(final TestResult result) {
+    LOGGER.info(" - equality of compiled pointers");
+    final JsonPointer first = Json.compilePointer("/equality/0");
+    for (int i = 0; i < 2000; i++) {
+      Json.compilePointer("/equality/" + i);
+    }
+    final JsonPointer compiled = Json.compilePointer("/equality/0");
+    final JsonPointer created = Json.createPointer("/equality/0");
+    if (!first.equals(compiled) || first.hashCode() != compiled.hashCode()) {
+      result.fail("COMPILE \"/equality/0\"", "Compiled pointers are not equal");
+    }
+    if (!compiled.equals(first) || compiled.hashCode() != "/equality/0".hashCode()) {
+      result.fail("COMPILE \"/equality/0\"", "Compiled pointers are not equal");
+    }
+    if (compiled.equals(created) != created.equals(compiled)) {
+      result.fail("COMPILE \"/equality/0\"",
+          "Equality of compiled and created pointers is not symmetric");
+    }
+    final JsonPointer other = Json.compilePointer("/equality/1");
+    if (compiled.equals(other) || other.equals(compiled)) {
+      result.fail("COMPILE \"/equality/0\"", "Different compiled pointers are equal");
+    }
+  }
+
+  /**
+   * Test decoding of reference tokens.
+   * 
+   * @param result
+   *          Tests result record.
+   */
+  private void testReferenceTokens(final TestResult result) {
+    LOGGER.info(" - reference tokens");
+    checkTokens(result, PointerRFCObject.RFC_KEY_WHOLE, Collections.<String>emptyList());
+    checkTokens(result, PointerRFCObject.RFC_PTR1_ITEM1, Arrays.asList(PointerRFCObject.RFC_KEY1, "0"));
+    checkTokens(result, PointerRFCObject.RFC_PTR2, Arrays.asList(PointerRFCObject.RFC_KEY2));
+    checkTokens(result, PointerRFCObject.RFC_PTR3_ENC, Arrays.asList(PointerRFCObject.RFC_KEY3));
+    checkTokens(result, PointerRFCObject.RFC_KEY10_ENC, Arrays.asList(PointerRFCObject.RFC_KEY10));
+    checkTokens(result, PointerRFCObject.RFC_PTR11_ENC, Arrays.asList(PointerRFCObject.RFC_KEY11));
+    checkTokens(result, "/a//b/", Arrays.asList("a", "", "b", ""));
+  }
+
+  /**
+   * Test array indexes denoted by reference tokens.
+   * 
+   * @param result
+   *          Tests result record.
+   */
+  private void testArrayIndexes(final TestResult result) {
+    LOGGER.info(" - array indexes");
+    final String ptr = "/0/10/01/-/foo/2147483647/2147483648/1e1";
+    final int[] check = { 0, 10, -1, -1, -1, Integer.MAX_VALUE, -1, -1 };
+    for (JsonPointer pointer : new JsonPointer[] { Json.createPointer(ptr), Json.compilePointer(ptr) }) {
+      for (int i = 0; i < check.length; i++) {
+        if (pointer.getArrayIndex(i) != check[i]) {
+          result.fail("INDEX \"" + ptr + "\"", "Array index of token " + i + " is " + pointer.getArrayIndex(i));
+        }
+      }
+      try {
+        pointer.getArrayIndex(check.length);
+        result.fail("INDEX \"" + ptr + "\"", "Expected IndexOutOfBoundsException");
+      } catch (IndexOutOfBoundsException e) {
+        // expected
+      }
+    }
+  }
+
+  /**
+   * Test compilation of an invalid pointer.
+   * 
+   * @param result
+   *          Tests result record.
+   */
+  private void testInvalidPointer(final TestResult result) {
+    LOGGER.info(" - invalid pointer");
+    try {
+      Json.compilePointer("foo");
+      result.fail("COMPILE \"foo\"", "Expected JsonException");
+    } catch (JsonException e) {
+      // expected
+    }
+  }
+
+  /**
+   * Checks the reference tokens of created and compiled pointers.
+   * 
+   * @param result
+   *          Tests result record.
+   * @param ptr
+   *          Pointer string.
+   * @param check
+   *          Expected reference tokens.
+   */
+  private void checkTokens(final TestResult result, final String ptr,
+      final List<String> check) {
+    if (!check.equals(Json.createPointer(ptr).getReferenceTokens())) {
+      result.fail("TOKENS \"" + ptr + "\"", "Created pointer tokens: "
+          + Json.createPointer(ptr).getReferenceTokens());
+    }
+    if (!check.equals(Json.compilePointer(ptr).getReferenceTokens())) {
+      result.fail("TOKENS \"" + ptr + "\"", "Compiled pointer tokens: "
+          + Json.compilePointer(ptr).getReferenceTokens());
+    }
+  }
+
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.jsonp.api.pointertests;
+
+import ee.jakarta.tck.jsonp.api.common.JsonAssert;
+import ee.jakarta.tck.jsonp.api.common.PointerRFCObject;
+import ee.jakarta.tck.jsonp.api.common.TestResult;
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonPointer;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonProjection;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+// $Id$
+/**
+ * {@see <a href="https://tools.ietf.org/html/rfc6901">RFC 6901</a>}: JavaScript
+ * Object Notation (JSON) Pointer projection and batch resolving tests.<br>
+ */
+public class PointerProjection {
+
+  private static final Logger LOGGER = Logger.getLogger(PointerProjection.class.getName());
+
+  /**
+   * Creates an instance of RFC 6901 JSON Pointer projection tests.
+   */
+  PointerProjection() {
+    super();
+  }
+
+  /**
+   * Test RFC 6901 JSON Pointer projection. Suite entry point.
+   * 
+   * @return Result of all tests in this suite.
+   */
+  TestResult test() {
+    final TestResult result = new TestResult("RFC 6901 pointer projection");
+    LOGGER.info("Testing RFC 6901 pointer projection");
+    testProjectRFCObject(result);
+    testProjectNestedPointers(result);
+    testProjectSequence(result);
+    return result;
+  }
+
+  /**
+   * Test projection of RFC 6901 sample object pointers, including escaped
+   * names and missing values.
+   * 
+   * @param result
+   *          Tests result record.
+   */
+  private void testProjectRFCObject(final TestResult result) {
+    LOGGER.info(" - projection of RFC 6901 sample object");
+    final JsonObject in = PointerRFCObject.createRFC6901Object();
+    final List<JsonPointer> ptrs = Arrays.asList(
+        Json.createPointer(PointerRFCObject.RFC_PTR1_ITEM2),
+        Json.createPointer(PointerRFCObject.RFC_PTR2),
+        Json.createPointer(PointerRFCObject.RFC_PTR3_ENC),
+        Json.createPointer(PointerRFCObject.RFC_PTR9),
+        Json.createPointer(PointerRFCObject.RFC_KEY10_ENC),
+        Json.createPointer(PointerRFCObject.RFC_PTR11_ENC),
+        Json.createPointer("/foo/2"), Json.createPointer("/foo/-"),
+        Json.createPointer("/missing"),
+        Json.createPointer("/a~1b/0"));
+    checkProjection(result, in, ptrs);
+  }
+
+  /**
+   * Test projection of pointers referencing values within other referenced
+   * values, and of the whole document.
+   * 
+   * @param result
+   *          Tests result record.
+   */
+  private void testProjectNestedPointers(final TestResult result) {
+    LOGGER.info(" - projection of nested pointers");
+    final JsonObject in = Json.createObjectBuilder()
+        .add("skipped", Json.createArrayBuilder().add(Json.createObjectBuilder().add("a", 1)))
+        .add("a", Json.createObjectBuilder()
+            .add("b", Json.createArrayBuilder().add("x").add(Json.createObjectBuilder().add("c", true)))
+            .add("d", JsonValue.NULL))
+        .add("e", "\u00e9").build();
+    final List<JsonPointer> ptrs = Arrays.asList(Json.createPointer("/a/b/1/c"),
+        Json.createPointer("/a/b"), Json.createPointer("/a/b/0"),
+        Json.createPointer("/a/d"), Json.createPointer("/e"),
+        Json.createPointer("/a/x"), Json.createPointer("/e/0"),
+        Json.createPointer(""));
+    checkProjection(result, in, ptrs);
+  }
+
+  /**
+   * Test projection applied to each element of an array, the parser being
+   * left at the last event of each element.
+   * 
+   * @param result
+   *          Tests result record.
+   */
+  private void testProjectSequence(final TestResult result) {
+    LOGGER.info(" - projection of array elements");
+    final JsonPointer ptr = Json.createPointer("/id");
+    final JsonProjection projection = JsonProjection.of(ptr);
+    try (JsonParser parser = Json.createParser(new StringReader(
+        "[{\"id\":1,\"x\":[1,2]},{\"x\":{\"id\":3}},{\"x\":0,\"id\":2}]"))) {
+      parser.next();
+      final JsonValue[] check = { Json.createValue(1), null, Json.createValue(2) };
+      for (JsonValue expected : check) {
+        final Map<JsonPointer, JsonValue> out = projection.project(parser);
+        if (parser.currentEvent() != JsonParser.Event.END_OBJECT) {
+          result.fail("PROJECT \"/id\"", "Parser not at the end of the element: "
+              + parser.currentEvent());
+        }
+        if (expected == null ? out.containsKey(ptr)
+            : !JsonAssert.assertEquals(expected, out.get(ptr))) {
+          result.fail("PROJECT \"/id\"", "Projection of array element failed");
+        }
+      }
+      if (parser.next() != JsonParser.Event.END_ARRAY || parser.hasNext()) {
+        result.fail("PROJECT \"/id\"", "Parser not at the end of the array");
+      }
+    }
+  }
+
+  /**
+   * Checks that projecting the pointers on a parser of the specified object,
+   * and resolving them against the object, gives the values resolved by each
+   * pointer on the object, in the order of the pointers.
+   * 
+   * @param result
+   *          Tests result record.
+   * @param in
+   *          Object to project.
+   * @param ptrs
+   *          Pointers to project.
+   */
+  private void checkProjection(final TestResult result, final JsonObject in,
+      final List<JsonPointer> ptrs) {
+    final JsonProjection projection = JsonProjection.of(ptrs);
+    try (JsonParser parser = Json.createParser(new StringReader(in.toString()))) {
+      checkValues(result, "PROJECT", in, ptrs, projection.project(parser));
+      if (parser.hasNext()) {
+        result.fail("PROJECT " + ptrs, "Parser not at the end of the document");
+      }
+    }
+    checkValues(result, "RESOLVE", in, ptrs, projection.resolve(in));
+  }
+
+  /**
+   * Checks that the specified values are the values resolved by each pointer
+   * on the specified object, in the order of the pointers.
+   * 
+   * @param result
+   *          Tests result record.
+   * @param operation
+   *          Name of the checked operation.
+   * @param in
+   *          Object the pointers are resolved against.
+   * @param ptrs
+   *          Resolved pointers.
+   * @param out
+   *          Values to check.
+   */
+  private void checkValues(final TestResult result, final String operation,
+      final JsonObject in, final List<JsonPointer> ptrs,
+      final Map<JsonPointer, JsonValue> out) {
+    int index = 0;
+    final JsonPointer[] keys = out.keySet().toArray(new JsonPointer[0]);
+    for (JsonPointer ptr : ptrs) {
+      if (containsValue(ptr, in)) {
+        if (index >= keys.length || keys[index++] != ptr) {
+          result.fail(operation + " \"" + ptr + "\"", "Value missing or out of order");
+        } else if (!JsonAssert.assertEquals(ptr.getValue(in), out.get(ptr))) {
+          result.fail(operation + " \"" + ptr + "\"", "Resolved value differs");
+        }
+      } else if (out.containsKey(ptr)) {
+        result.fail(operation + " \"" + ptr + "\"", "Unexpected value " + out.get(ptr));
+      }
+    }
+    if (index != keys.length) {
+      result.fail(operation + " " + ptrs, "Unexpected number of values " + keys.length);
+    }
+  }
+
+  /**
+   * Checks whether a pointer references a value of the specified object,
+   * pointers going through scalar values referencing no value.
+   * 
+   * @param ptr
+   *          Pointer to check.
+   * @param in
+   *          Object to check.
+   * @return Value of {@code true} if the pointer references a value.
+   */
+  private static boolean containsValue(final JsonPointer ptr,
+      final JsonObject in) {
+    try {
+      return ptr.containsValue(in);
+    } catch (JsonException e) {
+      return false;
+    }
+  }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -117,4 +117,44 @@ public class PointerTests {
     result.eval();
   }
 
+  /**
+   * Test JSON-P API response on evaluating a set of RFC 6901 pointers directly
+   * on a {@link jakarta.json.stream.JsonParser}, and against a JSON object, with
+   * {@link jakarta.json.stream.JsonProjection}.<br>
+   * 
+   * @throws AssertionFailedError
+   *           when this test failed.
+   * 
+   * @testName: jsonPointerProjectionTest
+   * @assertion_ids: JSONP:JAVADOC:715; JSONP:JAVADOC:716; JSONP:JAVADOC:717;
+   *                 JSONP:JAVADOC:721;
+   * @test_Strategy: Compare projected values with values resolved on the
+   *                 whole document.
+   */
+  @Test
+  public void jsonPointerProjectionTest() {
+    PointerProjection projectionTest = new PointerProjection();
+    final TestResult result = projectionTest.test();
+    result.eval();
+  }
+
+  /**
+   * Test JSON-P API response on compiled RFC 6901 pointers and on the
+   * reference tokens and array indexes of pointers.<br>
+   * 
+   * @throws AssertionFailedError
+   *           when this test failed.
+   * 
+   * @testName: jsonPointerCompileTest
+   * @assertion_ids: JSONP:JAVADOC:718; JSONP:JAVADOC:719; JSONP:JAVADOC:720;
+   * @test_Strategy: Compare compiled pointers with created pointers and check
+   *                 decoded reference tokens and array indexes.
+   */
+  @Test
+  public void jsonPointerCompileTest() {
+    PointerCompile compileTest = new PointerCompile();
+    final TestResult result = compileTest.test();
+    result.eval();
+  }
+
 }
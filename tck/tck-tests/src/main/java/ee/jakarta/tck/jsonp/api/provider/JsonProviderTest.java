@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -39,6 +39,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 /**
  * Tests related to JsonProvider.
@@ -54,6 +56,7 @@ public class JsonProviderTest {
     public void setUp() {
         factoryValue = System.getProperty(JSONP_PROVIDER_FACTORY);
         System.clearProperty(JSONP_PROVIDER_FACTORY);
+        JsonProvider.clearProviderCache();
     }
 
     @AfterEach
@@ -63,6 +66,7 @@ public class JsonProviderTest {
         } else {
             System.clearProperty(JSONP_PROVIDER_FACTORY);
         }
+        JsonProvider.clearProviderCache();
     }
 
     /**
@@ -75,6 +79,42 @@ public class JsonProviderTest {
         assertEquals(DummyJsonProvider.class, provider.getClass());
     }
 
+    /**
+     * Verifies the provider returned by {@link JsonProvider#cachedProvider()} is reused
+     * until the cache is cleared.
+     */
+    @Test
+    public void cachedProvider() {
+        System.setProperty(JSONP_PROVIDER_FACTORY, DummyJsonProvider.class.getName());
+        JsonProvider provider = JsonProvider.cachedProvider();
+        assertEquals(DummyJsonProvider.class, provider.getClass());
+        assertSame(provider, JsonProvider.cachedProvider());
+        JsonProvider.clearProviderCache(Thread.currentThread().getContextClassLoader());
+        JsonProvider another = JsonProvider.cachedProvider();
+        assertEquals(DummyJsonProvider.class, another.getClass());
+        assertNotSame(provider, another);
+    }
+
+    /**
+     * Verifies providers are cached per context class loader.
+     */
+    @Test
+    public void cachedProviderPerClassLoader() {
+        System.setProperty(JSONP_PROVIDER_FACTORY, DummyJsonProvider.class.getName());
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        JsonProvider provider = JsonProvider.cachedProvider();
+        try {
+            thread.setContextClassLoader(new ClassLoader(original) {});
+            JsonProvider other = JsonProvider.cachedProvider();
+            assertNotSame(provider, other);
+            assertSame(other, JsonProvider.cachedProvider());
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+        assertSame(provider, JsonProvider.cachedProvider());
+    }
+
     public static class DummyJsonProvider extends JsonProvider {
 
         @Override